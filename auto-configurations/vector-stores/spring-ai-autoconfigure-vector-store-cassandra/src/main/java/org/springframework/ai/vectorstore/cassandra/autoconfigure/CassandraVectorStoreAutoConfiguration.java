@@ -73,7 +73,8 @@ public class CassandraVectorStoreAutoConfiguration {
 			.contentColumnName(properties.getContentColumnName())
 			.embeddingColumnName(properties.getEmbeddingColumnName())
 			.indexName(properties.getIndexName())
-			.fixedThreadPoolExecutorSize(properties.getFixedThreadPoolExecutorSize())
+			.maxConcurrentWrites(properties.getMaxConcurrentWrites())
+			.unloggedBatchSize(properties.getUnloggedBatchSize())
 			.disallowSchemaChanges(!properties.isInitializeSchema())
 			.returnEmbeddings(properties.getReturnEmbeddings())
 			.observationRegistry(observationRegistry.getIfUnique(() -> ObservationRegistry.NOOP))
@@ -22,6 +22,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.ai.vectorstore.properties.CommonVectorStoreProperties;
 import org.springframework.ai.vectorstore.cassandra.CassandraVectorStore;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.DeprecatedConfigurationProperty;
 import org.springframework.util.Assert;
 
 /**
@@ -51,6 +52,10 @@ public class CassandraVectorStoreProperties extends CommonVectorStoreProperties
 
 	private int fixedThreadPoolExecutorSize = CassandraVectorStore.DEFAULT_ADD_CONCURRENCY;
 
+	private int maxConcurrentWrites = CassandraVectorStore.DEFAULT_ADD_CONCURRENCY;
+
+	private int unloggedBatchSize = CassandraVectorStore.DEFAULT_UNLOGGED_BATCH_SIZE;
+
 	public String getKeyspace() {
 		return this.keyspace;
 	}
@@ -99,13 +104,41 @@ public class CassandraVectorStoreProperties extends CommonVectorStoreProperties
 		this.returnEmbeddings = returnEmbeddings;
 	}
 
+	/**
+	 * @deprecated in favor of {@link #getMaxConcurrentWrites()}
+	 */
+	@Deprecated
+	@DeprecatedConfigurationProperty(replacement = CONFIG_PREFIX + ".max-concurrent-writes")
 	public int getFixedThreadPoolExecutorSize() {
 		return this.fixedThreadPoolExecutorSize;
 	}
 
+	/**
+	 * @deprecated in favor of {@link #setMaxConcurrentWrites(int)}
+	 */
+	@Deprecated
 	public void setFixedThreadPoolExecutorSize(int fixedThreadPoolExecutorSize) {
 		Assert.state(0 < fixedThreadPoolExecutorSize, "Thread-pool size must be greater than zero");
 		this.fixedThreadPoolExecutorSize = fixedThreadPoolExecutorSize;
+		this.maxConcurrentWrites = fixedThreadPoolExecutorSize;
+	}
+
+	public int getMaxConcurrentWrites() {
+		return this.maxConcurrentWrites;
+	}
+
+	public void setMaxConcurrentWrites(int maxConcurrentWrites) {
+		Assert.state(0 < maxConcurrentWrites, "Max concurrent writes must be greater than zero");
+		this.maxConcurrentWrites = maxConcurrentWrites;
+	}
+
+	public int getUnloggedBatchSize() {
+		return this.unloggedBatchSize;
+	}
+
+	public void setUnloggedBatchSize(int unloggedBatchSize) {
+		Assert.state(0 < unloggedBatchSize, "Unlogged batch size must be greater than zero");
+		this.unloggedBatchSize = unloggedBatchSize;
 	}
 
 }
@@ -37,6 +37,8 @@ class CassandraVectorStorePropertiesTests {
 		assertThat(props.getEmbeddingColumnName()).isEqualTo(CassandraVectorStore.DEFAULT_EMBEDDING_COLUMN_NAME);
 		assertThat(props.getIndexName()).isNull();
 		assertThat(props.getFixedThreadPoolExecutorSize()).isEqualTo(CassandraVectorStore.DEFAULT_ADD_CONCURRENCY);
+		assertThat(props.getMaxConcurrentWrites()).isEqualTo(CassandraVectorStore.DEFAULT_ADD_CONCURRENCY);
+		assertThat(props.getUnloggedBatchSize()).isEqualTo(CassandraVectorStore.DEFAULT_UNLOGGED_BATCH_SIZE);
 	}
 
 	@Test
@@ -55,6 +57,17 @@ class CassandraVectorStorePropertiesTests {
 		assertThat(props.getEmbeddingColumnName()).isEqualTo("my_vector");
 		assertThat(props.getIndexName()).isEqualTo("my_sai");
 		assertThat(props.getFixedThreadPoolExecutorSize()).isEqualTo(10);
+		assertThat(props.getMaxConcurrentWrites()).isEqualTo(10);
+	}
+
+	@Test
+	void writeValues() {
+		var props = new CassandraVectorStoreProperties();
+		props.setMaxConcurrentWrites(64);
+		props.setUnloggedBatchSize(20);
+
+		assertThat(props.getMaxConcurrentWrites()).isEqualTo(64);
+		assertThat(props.getUnloggedBatchSize()).isEqualTo(20);
 	}
 
 }
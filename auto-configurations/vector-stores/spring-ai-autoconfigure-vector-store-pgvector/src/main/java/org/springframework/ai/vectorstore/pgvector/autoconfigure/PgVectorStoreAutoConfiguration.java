@@ -33,6 +33,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.PropertyMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.jdbc.core.JdbcTemplate;
 
@@ -66,7 +67,7 @@ public class PgVectorStoreAutoConfiguration {
 
 		var initializeSchema = properties.isInitializeSchema();
 
-		return PgVectorStore.builder(jdbcTemplate, embeddingModel)
+		var builder = PgVectorStore.builder(jdbcTemplate, embeddingModel)
 			.schemaName(properties.getSchemaName())
 			.idType(properties.getIdType())
 			.vectorTableName(properties.getTableName())
@@ -80,7 +81,18 @@ public class PgVectorStoreAutoConfiguration {
 			.customObservationConvention(customObservationConvention.getIfAvailable(() -> null))
 			.batchingStrategy(batchingStrategy)
 			.maxDocumentBatchSize(properties.getMaxDocumentBatchSize())
-			.build();
+			.ingestMode(properties.getIngestMode())
+			.returnEmbeddings(properties.isReturnEmbeddings());
+
+		PropertyMapper mapper = PropertyMapper.get().alwaysApplyingWhenNonNull();
+		mapper.from(properties::getHnswM).to(builder::hnswM);
+		mapper.from(properties::getHnswEfConstruction).to(builder::hnswEfConstruction);
+		mapper.from(properties::getHnswEfSearch).to(builder::hnswEfSearch);
+		mapper.from(properties::getIvfflatLists).to(builder::ivfflatLists);
+		mapper.from(properties::getIvfflatProbes).to(builder::ivfflatProbes);
+		mapper.from(properties::getIterativeScan).to(builder::iterativeScan);
+
+		return builder.build();
 	}
 
 }
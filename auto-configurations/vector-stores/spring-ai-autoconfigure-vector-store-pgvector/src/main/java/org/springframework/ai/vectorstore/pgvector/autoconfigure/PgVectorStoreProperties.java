@@ -53,6 +53,22 @@ public class PgVectorStoreProperties extends CommonVectorStoreProperties {
 
 	private int maxDocumentBatchSize = PgVectorStore.MAX_DOCUMENT_BATCH_SIZE;
 
+	private PgVectorStore.PgIngestMode ingestMode = PgVectorStore.DEFAULT_INGEST_MODE;
+
+	private boolean returnEmbeddings = false;
+
+	private Integer hnswM;
+
+	private Integer hnswEfConstruction;
+
+	private Integer hnswEfSearch;
+
+	private Integer ivfflatLists;
+
+	private Integer ivfflatProbes;
+
+	private PgVectorStore.PgIterativeScan iterativeScan;
+
 	public int getDimensions() {
 		return this.dimensions;
 	}
@@ -125,4 +141,68 @@ public class PgVectorStoreProperties extends CommonVectorStoreProperties {
 		this.maxDocumentBatchSize = maxDocumentBatchSize;
 	}
 
+	public PgVectorStore.PgIngestMode getIngestMode() {
+		return this.ingestMode;
+	}
+
+	public void setIngestMode(PgVectorStore.PgIngestMode ingestMode) {
+		this.ingestMode = ingestMode;
+	}
+
+	public boolean isReturnEmbeddings() {
+		return this.returnEmbeddings;
+	}
+
+	public void setReturnEmbeddings(boolean returnEmbeddings) {
+		this.returnEmbeddings = returnEmbeddings;
+	}
+
+	public Integer getHnswM() {
+		return this.hnswM;
+	}
+
+	public void setHnswM(Integer hnswM) {
+		this.hnswM = hnswM;
+	}
+
+	public Integer getHnswEfConstruction() {
+		return this.hnswEfConstruction;
+	}
+
+	public void setHnswEfConstruction(Integer hnswEfConstruction) {
+		this.hnswEfConstruction = hnswEfConstruction;
+	}
+
+	public Integer getHnswEfSearch() {
+		return this.hnswEfSearch;
+	}
+
+	public void setHnswEfSearch(Integer hnswEfSearch) {
+		this.hnswEfSearch = hnswEfSearch;
+	}
+
+	public Integer getIvfflatLists() {
+		return this.ivfflatLists;
+	}
+
+	public void setIvfflatLists(Integer ivfflatLists) {
+		this.ivfflatLists = ivfflatLists;
+	}
+
+	public Integer getIvfflatProbes() {
+		return this.ivfflatProbes;
+	}
+
+	public void setIvfflatProbes(Integer ivfflatProbes) {
+		this.ivfflatProbes = ivfflatProbes;
+	}
+
+	public PgVectorStore.PgIterativeScan getIterativeScan() {
+		return this.iterativeScan;
+	}
+
+	public void setIterativeScan(PgVectorStore.PgIterativeScan iterativeScan) {
+		this.iterativeScan = iterativeScan;
+	}
+
 }
@@ -21,6 +21,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.ai.vectorstore.pgvector.PgVectorStore;
 import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgDistanceType;
 import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgIndexType;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgIngestMode;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgIterativeScan;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -40,7 +42,11 @@ public class PgVectorStorePropertiesTests {
 		assertThat(props.isSchemaValidation()).isFalse();
 		assertThat(props.getSchemaName()).isEqualTo(PgVectorStore.DEFAULT_SCHEMA_NAME);
 		assertThat(props.getTableName()).isEqualTo(PgVectorStore.DEFAULT_TABLE_NAME);
-
+		assertThat(props.getIngestMode()).isEqualTo(PgIngestMode.INSERT);
+		assertThat(props.isReturnEmbeddings()).isFalse();
+		assertThat(props.getHnswEfSearch()).isNull();
+		assertThat(props.getIvfflatProbes()).isNull();
+		assertThat(props.getIterativeScan()).isNull();
 	}
 
 	@Test
@@ -55,6 +61,11 @@ public class PgVectorStorePropertiesTests {
 		props.setSchemaValidation(true);
 		props.setSchemaName("my_vector_schema");
 		props.setTableName("my_vector_table");
+		props.setIngestMode(PgIngestMode.COPY);
+		props.setReturnEmbeddings(true);
+		props.setIvfflatLists(50);
+		props.setIvfflatProbes(5);
+		props.setIterativeScan(PgIterativeScan.RELAXED_ORDER);
 
 		assertThat(props.getDimensions()).isEqualTo(1536);
 		assertThat(props.getDistanceType()).isEqualTo(PgDistanceType.EUCLIDEAN_DISTANCE);
@@ -64,6 +75,11 @@ public class PgVectorStorePropertiesTests {
 		assertThat(props.isSchemaValidation()).isTrue();
 		assertThat(props.getSchemaName()).isEqualTo("my_vector_schema");
 		assertThat(props.getTableName()).isEqualTo("my_vector_table");
+		assertThat(props.getIngestMode()).isEqualTo(PgIngestMode.COPY);
+		assertThat(props.isReturnEmbeddings()).isTrue();
+		assertThat(props.getIvfflatLists()).isEqualTo(50);
+		assertThat(props.getIvfflatProbes()).isEqualTo(5);
+		assertThat(props.getIterativeScan()).isEqualTo(PgIterativeScan.RELAXED_ORDER);
 	}
 
 }
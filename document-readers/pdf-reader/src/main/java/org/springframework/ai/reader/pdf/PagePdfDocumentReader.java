@@ -18,13 +18,22 @@ package org.springframework.ai.reader.pdf;
 
 import java.awt.Rectangle;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-import org.apache.pdfbox.pdfparser.PDFParser;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageTree;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,6 +43,7 @@ import org.springframework.ai.reader.pdf.config.PdfDocumentReaderConfig;
 import org.springframework.ai.reader.pdf.layout.PDFLayoutTextStripperByArea;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
@@ -43,9 +53,12 @@ import org.springframework.util.StringUtils;
  * options. The default configuration is: - pagesPerDocument = 1 - pageTopMargin = 0 -
  * pageBottomMargin = 0
  *
+ * The reader keeps the PDF document open, and a file resource open with it, until the
+ * reader is {@link #close() closed}.
+ *
  * @author Christian Tzolov
  */
-public class PagePdfDocumentReader implements DocumentReader {
+public class PagePdfDocumentReader implements DocumentReader, AutoCloseable {
 
 	public static final String METADATA_START_PAGE_NUMBER = "page_number";
 
@@ -57,6 +70,8 @@ public class PagePdfDocumentReader implements DocumentReader {
 
 	protected final PDDocument document;
 
+	private final PdfDocumentSource source;
+
 	private final Logger logger = LoggerFactory.getLogger(getClass());
 
 	protected String resourceFileName;
@@ -77,9 +92,8 @@ public class PagePdfDocumentReader implements DocumentReader {
 
 	public PagePdfDocumentReader(Resource pdfResource, PdfDocumentReaderConfig config) {
 		try {
-			PDFParser pdfParser = new PDFParser(
-					new org.apache.pdfbox.io.RandomAccessReadBuffer(pdfResource.getInputStream()));
-			this.document = pdfParser.parse();
+			this.source = PdfDocumentSource.of(pdfResource);
+			this.document = this.source.load();
 
 			this.resourceFileName = pdfResource.getFilename();
 			this.config = config;
@@ -91,86 +105,272 @@ public class PagePdfDocumentReader implements DocumentReader {
 
 	@Override
 	public List<Document> get() {
+		try (Stream<Document> documents = stream()) {
+			return documents.collect(Collectors.toList());
+		}
+	}
+
+	/**
+	 * Returns the documents lazily, extracting the text of the pages of a document only
+	 * when it is consumed. With a {@link PdfDocumentReaderConfig#parallelism} greater
+	 * than 1, ranges of pages are extracted ahead on as many threads.
+	 */
+	@Override
+	public Stream<Document> stream() {
+		PageTexts pageTexts = (this.config.parallelism > 1) ? new ParallelPageTexts() : new SequentialPageTexts();
+		PageGroupIterator iterator = new PageGroupIterator(pageTexts);
+		return StreamSupport
+			.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+			.onClose(pageTexts::close);
+	}
 
-		List<Document> readDocuments = new ArrayList<>();
+	/**
+	 * Closes the PDF document and releases the resource it is read from.
+	 */
+	@Override
+	public void close() {
 		try {
-			var pdfTextStripper = new PDFLayoutTextStripperByArea();
+			this.document.close();
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
 
-			int pageNumber = 0;
-			int pagesPerDocument = 0;
-			int startPageNumber = pageNumber;
+	protected Document toDocument(PDPage page, String docText, int startPageNumber, int endPageNumber) {
+		Document doc = new Document(docText);
+		doc.getMetadata().put(METADATA_START_PAGE_NUMBER, startPageNumber);
+		if (startPageNumber != endPageNumber) {
+			doc.getMetadata().put(METADATA_END_PAGE_NUMBER, endPageNumber);
+		}
+		doc.getMetadata().put(METADATA_FILE_NAME, this.resourceFileName);
+		return doc;
+	}
 
-			List<String> pageTextGroupList = new ArrayList<>();
+	/**
+	 * Extracts the formatted text of a page, or {@code null} if it has no text.
+	 */
+	@Nullable
+	private String extractText(PDFLayoutTextStripperByArea pdfTextStripper, PDPage page, int pageNumber)
+			throws IOException {
+		int x0 = (int) page.getMediaBox().getLowerLeftX();
+		int xW = (int) page.getMediaBox().getWidth();
+
+		int y0 = (int) page.getMediaBox().getLowerLeftY() + this.config.pageTopMargin;
+		int yW = (int) page.getMediaBox().getHeight() - (this.config.pageTopMargin + this.config.pageBottomMargin);
+
+		pdfTextStripper.addRegion(PDF_PAGE_REGION, new Rectangle(x0, y0, xW, yW));
+		pdfTextStripper.extractRegions(page);
+		var pageText = pdfTextStripper.getTextForRegion(PDF_PAGE_REGION);
+		pdfTextStripper.removeRegion(PDF_PAGE_REGION);
+
+		if (!StringUtils.hasText(pageText)) {
+			return null;
+		}
+		return this.config.pageExtractedTextFormatter.format(pageText, pageNumber);
+	}
 
-			int totalPages = this.document.getDocumentCatalog().getPages().getCount();
-			int logFrequency = totalPages > 10 ? totalPages / 10 : 1; // if less than 10
-			// pages, print
-			// each iteration
-			int counter = 0;
+	/**
+	 * Supplies the text of the pages, in page order.
+	 */
+	private interface PageTexts extends AutoCloseable {
 
-			PDPage lastPage = this.document.getDocumentCatalog().getPages().iterator().next();
-			for (PDPage page : this.document.getDocumentCatalog().getPages()) {
-				lastPage = page;
-				if (counter % logFrequency == 0 && counter / logFrequency < 10) {
-					logger.info("Processing PDF page: {}", (counter + 1));
-				}
-				counter++;
+		@Nullable
+		String extract(PDPage page, int pageNumber) throws IOException;
+
+		@Override
+		default void close() {
+		}
 
-				pagesPerDocument++;
+	}
 
-				if (this.config.pagesPerDocument != PdfDocumentReaderConfig.ALL_PAGES
-						&& pagesPerDocument >= this.config.pagesPerDocument) {
-					pagesPerDocument = 0;
+	/**
+	 * Extracts the text of each page of the reader's document when it is requested.
+	 */
+	private final class SequentialPageTexts implements PageTexts {
 
-					var aggregatedPageTextGroup = pageTextGroupList.stream().collect(Collectors.joining());
-					if (StringUtils.hasText(aggregatedPageTextGroup)) {
-						readDocuments.add(toDocument(page, aggregatedPageTextGroup, startPageNumber, pageNumber));
-					}
-					pageTextGroupList.clear();
+		private final PDFLayoutTextStripperByArea pdfTextStripper;
 
-					startPageNumber = pageNumber + 1;
-				}
-				int x0 = (int) page.getMediaBox().getLowerLeftX();
-				int xW = (int) page.getMediaBox().getWidth();
+		SequentialPageTexts() {
+			try {
+				this.pdfTextStripper = new PDFLayoutTextStripperByArea();
+			}
+			catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		}
 
-				int y0 = (int) page.getMediaBox().getLowerLeftY() + this.config.pageTopMargin;
-				int yW = (int) page.getMediaBox().getHeight()
-						- (this.config.pageTopMargin + this.config.pageBottomMargin);
+		@Override
+		public String extract(PDPage page, int pageNumber) throws IOException {
+			return extractText(this.pdfTextStripper, page, pageNumber);
+		}
+
+	}
 
-				pdfTextStripper.addRegion(PDF_PAGE_REGION, new Rectangle(x0, y0, xW, yW));
-				pdfTextStripper.extractRegions(page);
-				var pageText = pdfTextStripper.getTextForRegion(PDF_PAGE_REGION);
+	/**
+	 * Fans ranges of pages out to worker threads, each with its own copy of the PDF
+	 * document and its own text stripper. At most twice as many ranges as there are
+	 * threads are extracted ahead of the consumer.
+	 */
+	private final class ParallelPageTexts implements PageTexts {
 
-				if (StringUtils.hasText(pageText)) {
+		private static final int PAGES_PER_TASK = 8;
 
-					pageText = this.config.pageExtractedTextFormatter.format(pageText, pageNumber);
+		private final PdfWorkerPool workers;
 
-					pageTextGroupList.add(pageText);
+		private final Deque<CompletableFuture<String[]>> inFlight = new ArrayDeque<>();
+
+		private final int totalPages;
+
+		private int nextTaskStart;
+
+		private String[] current = new String[0];
+
+		private int currentIndex;
+
+		ParallelPageTexts() {
+			this.workers = new PdfWorkerPool(PagePdfDocumentReader.this.source,
+					PagePdfDocumentReader.this.config.parallelism);
+			this.totalPages = PagePdfDocumentReader.this.document.getNumberOfPages();
+		}
+
+		@Override
+		public String extract(PDPage page, int pageNumber) {
+			if (this.currentIndex == this.current.length) {
+				while (this.inFlight.size() < 2 * PagePdfDocumentReader.this.config.parallelism
+						&& this.nextTaskStart < this.totalPages) {
+					int start = this.nextTaskStart;
+					int end = Math.min(start + PAGES_PER_TASK, this.totalPages);
+					this.inFlight.add(this.workers.submit(document -> extractTexts(document, start, end)));
+					this.nextTaskStart = end;
 				}
-				pageNumber++;
-				pdfTextStripper.removeRegion(PDF_PAGE_REGION);
-			}
-			if (!CollectionUtils.isEmpty(pageTextGroupList)) {
-				readDocuments.add(toDocument(lastPage, pageTextGroupList.stream().collect(Collectors.joining()),
-						startPageNumber, pageNumber));
+				this.current = PdfWorkerPool.join(this.inFlight.removeFirst());
+				this.currentIndex = 0;
 			}
-			logger.info("Processing {} pages", totalPages);
-			return readDocuments;
+			return this.current[this.currentIndex++];
+		}
 
+		private String[] extractTexts(PDDocument document, int start, int end) throws IOException {
+			var pdfTextStripper = new PDFLayoutTextStripperByArea();
+			String[] texts = new String[end - start];
+			for (int pageNumber = start; pageNumber < end; pageNumber++) {
+				texts[pageNumber - start] = extractText(pdfTextStripper, document.getPage(pageNumber), pageNumber);
+			}
+			return texts;
 		}
-		catch (IOException e) {
-			throw new RuntimeException(e);
+
+		@Override
+		public void close() {
+			this.inFlight.forEach(future -> future.cancel(true));
+			this.workers.close();
 		}
+
 	}
 
-	protected Document toDocument(PDPage page, String docText, int startPageNumber, int endPageNumber) {
-		Document doc = new Document(docText);
-		doc.getMetadata().put(METADATA_START_PAGE_NUMBER, startPageNumber);
-		if (startPageNumber != endPageNumber) {
-			doc.getMetadata().put(METADATA_END_PAGE_NUMBER, endPageNumber);
+	/**
+	 * Groups the text of the pages into documents.
+	 */
+	private final class PageGroupIterator implements Iterator<Document> {
+
+		private final PageTexts pageTexts;
+
+		private final Iterator<PDPage> pages;
+
+		private final int totalPages;
+
+		private final int logFrequency;
+
+		private final List<String> pageTextGroupList = new ArrayList<>();
+
+		private int counter;
+
+		private int pageNumber;
+
+		private int pagesPerDocument;
+
+		private int startPageNumber;
+
+		@Nullable
+		private PDPage lastPage;
+
+		@Nullable
+		private Document next;
+
+		private boolean finished;
+
+		PageGroupIterator(PageTexts pageTexts) {
+			this.pageTexts = pageTexts;
+			PDPageTree pageTree = PagePdfDocumentReader.this.document.getDocumentCatalog().getPages();
+			this.pages = pageTree.iterator();
+			this.totalPages = pageTree.getCount();
+			// if less than 10 pages, print each iteration
+			this.logFrequency = this.totalPages > 10 ? this.totalPages / 10 : 1;
 		}
-		doc.getMetadata().put(METADATA_FILE_NAME, this.resourceFileName);
-		return doc;
+
+		@Override
+		public boolean hasNext() {
+			while (this.next == null && !this.finished) {
+				try {
+					advance();
+				}
+				catch (IOException e) {
+					throw new RuntimeException(e);
+				}
+			}
+			return this.next != null;
+		}
+
+		@Override
+		public Document next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			Document document = this.next;
+			this.next = null;
+			return document;
+		}
+
+		private void advance() throws IOException {
+			PdfDocumentReaderConfig config = PagePdfDocumentReader.this.config;
+			if (!this.pages.hasNext()) {
+				this.finished = true;
+				this.pageTexts.close();
+				if (!CollectionUtils.isEmpty(this.pageTextGroupList)) {
+					this.next = toDocument(this.lastPage, String.join("", this.pageTextGroupList),
+							this.startPageNumber, this.pageNumber);
+				}
+				logger.info("Processing {} pages", this.totalPages);
+				return;
+			}
+			PDPage page = this.pages.next();
+			this.lastPage = page;
+			if (this.counter % this.logFrequency == 0 && this.counter / this.logFrequency < 10) {
+				logger.info("Processing PDF page: {}", (this.counter + 1));
+			}
+			this.counter++;
+
+			this.pagesPerDocument++;
+
+			if (config.pagesPerDocument != PdfDocumentReaderConfig.ALL_PAGES
+					&& this.pagesPerDocument >= config.pagesPerDocument) {
+				this.pagesPerDocument = 0;
+
+				var aggregatedPageTextGroup = String.join("", this.pageTextGroupList);
+				if (StringUtils.hasText(aggregatedPageTextGroup)) {
+					this.next = toDocument(page, aggregatedPageTextGroup, this.startPageNumber, this.pageNumber);
+				}
+				this.pageTextGroupList.clear();
+
+				this.startPageNumber = this.pageNumber + 1;
+			}
+
+			var pageText = this.pageTexts.extract(page, this.pageNumber);
+			if (pageText != null) {
+				this.pageTextGroupList.add(pageText);
+			}
+			this.pageNumber++;
+		}
+
 	}
 
 }
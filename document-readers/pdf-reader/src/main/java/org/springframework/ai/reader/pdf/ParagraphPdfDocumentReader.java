@@ -17,11 +17,12 @@
 package org.springframework.ai.reader.pdf;
 
 import java.awt.Rectangle;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
-import org.apache.pdfbox.pdfparser.PDFParser;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,6 +35,7 @@ import org.springframework.ai.reader.pdf.config.PdfDocumentReaderConfig;
 import org.springframework.ai.reader.pdf.layout.PDFLayoutTextStripperByArea;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
@@ -45,9 +47,18 @@ import org.springframework.util.StringUtils;
  * Apache PDFBox library for parsing PDF content and converting it into text paragraphs.
  * The paragraphs are grouped into {@link Document} objects.
  *
+ * The reader keeps the PDF document open, and a file resource open with it, until the
+ * reader is {@link #close() closed}.
+ *
+ * With a {@link PdfDocumentReaderConfig#parallelism parallelism} greater than one,
+ * {@link #toDocument(Paragraph, Paragraph)} is called on worker threads, and
+ * {@link #getTextBetweenParagraphs(Paragraph, Paragraph)} then reads the copy of the PDF
+ * document opened by the calling worker. Subclasses overriding these methods must be
+ * thread-safe.
+ *
  * @author Christian Tzolov
  */
-public class ParagraphPdfDocumentReader implements DocumentReader {
+public class ParagraphPdfDocumentReader implements DocumentReader, AutoCloseable {
 
 	// Constants for metadata keys
 	private static final String METADATA_START_PAGE = "page_number";
@@ -62,10 +73,17 @@ public class ParagraphPdfDocumentReader implements DocumentReader {
 
 	protected final PDDocument document;
 
+	private final PdfDocumentSource source;
+
 	private final Logger logger = LoggerFactory.getLogger(getClass());
 
 	private final ParagraphManager paragraphTextExtractor;
 
+	/**
+	 * The copy of the PDF document opened by the current worker thread, if any.
+	 */
+	private final ThreadLocal<PDDocument> workerDocument = new ThreadLocal<>();
+
 	protected String resourceFileName;
 
 	private PdfDocumentReaderConfig config;
@@ -102,10 +120,11 @@ public class ParagraphPdfDocumentReader implements DocumentReader {
 	 */
 	public ParagraphPdfDocumentReader(Resource pdfResource, PdfDocumentReaderConfig config) {
 
+		PDDocument document = null;
 		try {
-			PDFParser pdfParser = new PDFParser(
-					new org.apache.pdfbox.io.RandomAccessReadBuffer(pdfResource.getInputStream()));
-			this.document = pdfParser.parse();
+			this.source = PdfDocumentSource.of(pdfResource);
+			document = this.source.load();
+			this.document = document;
 
 			this.config = config;
 
@@ -114,13 +133,26 @@ public class ParagraphPdfDocumentReader implements DocumentReader {
 			this.resourceFileName = pdfResource.getFilename();
 		}
 		catch (IllegalArgumentException iae) {
+			closeQuietly(document);
 			throw iae;
 		}
 		catch (Exception e) {
+			closeQuietly(document);
 			throw new RuntimeException(e);
 		}
 	}
 
+	private static void closeQuietly(@Nullable PDDocument document) {
+		if (document != null) {
+			try {
+				document.close();
+			}
+			catch (IOException e) {
+				// ignore, the construction failure is reported instead
+			}
+		}
+	}
+
 	/**
 	 * Reads and processes the PDF document to extract paragraphs.
 	 * @return A list of {@link Document} objects representing paragraphs.
@@ -132,7 +164,11 @@ public class ParagraphPdfDocumentReader implements DocumentReader {
 
 		List<Document> documents = new ArrayList<>(paragraphs.size());
 
-		if (!CollectionUtils.isEmpty(paragraphs)) {
+		if (this.config.parallelism > 1 && paragraphs.size() > 1) {
+			logger.info("Start processing paragraphs from PDF on {} threads", this.config.parallelism);
+			documents.addAll(getInParallel(paragraphs));
+		}
+		else if (!CollectionUtils.isEmpty(paragraphs)) {
 			logger.info("Start processing paragraphs from PDF");
 			Iterator<Paragraph> itr = paragraphs.iterator();
 
@@ -156,6 +192,51 @@ public class ParagraphPdfDocumentReader implements DocumentReader {
 		return documents;
 	}
 
+	/**
+	 * Converts each pair of consecutive paragraphs with
+	 * {@link #toDocument(Paragraph, Paragraph)} on the worker threads, each with its own
+	 * copy of the PDF document.
+	 */
+	private List<Document> getInParallel(List<Paragraph> paragraphs) {
+		List<CompletableFuture<Document>> futures = new ArrayList<>(paragraphs.size() - 1);
+		try (PdfWorkerPool workers = new PdfWorkerPool(this.source, this.config.parallelism)) {
+			for (int i = 0; i < paragraphs.size() - 1; i++) {
+				Paragraph from = paragraphs.get(i);
+				Paragraph to = paragraphs.get(i + 1);
+				futures.add(workers.submit(document -> {
+					this.workerDocument.set(document);
+					try {
+						return toDocument(from, to);
+					}
+					finally {
+						this.workerDocument.remove();
+					}
+				}));
+			}
+			List<Document> documents = new ArrayList<>(futures.size());
+			for (CompletableFuture<Document> future : futures) {
+				Document document = PdfWorkerPool.join(future);
+				if (document != null && StringUtils.hasText(document.getText())) {
+					documents.add(document);
+				}
+			}
+			return documents;
+		}
+	}
+
+	/**
+	 * Closes the PDF document and releases the resource it is read from.
+	 */
+	@Override
+	public void close() {
+		try {
+			this.document.close();
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
 	protected Document toDocument(Paragraph from, Paragraph to) {
 
 		String docText = this.getTextBetweenParagraphs(from, to);
@@ -178,7 +259,19 @@ public class ParagraphPdfDocumentReader implements DocumentReader {
 		document.getMetadata().put(METADATA_FILE_NAME, this.resourceFileName);
 	}
 
+	/**
+	 * Extracts the text between two paragraphs, from the copy of the PDF document of the
+	 * current worker thread when called during a parallel read.
+	 * @param fromParagraph the paragraph the text starts at
+	 * @param toParagraph the paragraph the text ends at
+	 * @return the text between the paragraphs
+	 */
 	public String getTextBetweenParagraphs(Paragraph fromParagraph, Paragraph toParagraph) {
+		PDDocument document = this.workerDocument.get();
+		return getTextBetweenParagraphs((document != null) ? document : this.document, fromParagraph, toParagraph);
+	}
+
+	private String getTextBetweenParagraphs(PDDocument document, Paragraph fromParagraph, Paragraph toParagraph) {
 
 		// Page started from index 0, while PDFBOx getPage return them from index 1.
 		int startPage = fromParagraph.startPageNumber() - 1;
@@ -193,7 +286,7 @@ public class ParagraphPdfDocumentReader implements DocumentReader {
 
 			for (int pageNumber = startPage; pageNumber <= endPage; pageNumber++) {
 
-				var page = this.document.getPage(pageNumber);
+				var page = document.getPage(pageNumber);
 
 				int fromPosition = fromParagraph.position();
 				int toPosition = toParagraph.position();
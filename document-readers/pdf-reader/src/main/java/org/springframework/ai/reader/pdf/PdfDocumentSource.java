@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.reader.pdf;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.pdfbox.io.RandomAccessRead;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.io.RandomAccessReadBufferedFile;
+import org.apache.pdfbox.pdfparser.PDFParser;
+import org.apache.pdfbox.pdmodel.PDDocument;
+
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+/**
+ * Opens independent {@link PDDocument}s of a PDF {@link Resource}. Resources backed by a
+ * file are read through a random access file, so that only the parts of the file needed
+ * are loaded, while the content of other resources is read into memory once and shared
+ * by all documents.
+ *
+ * @since 1.0.0
+ */
+final class PdfDocumentSource {
+
+	@Nullable
+	private final File file;
+
+	@Nullable
+	private final byte[] content;
+
+	private PdfDocumentSource(@Nullable File file, @Nullable byte[] content) {
+		this.file = file;
+		this.content = content;
+	}
+
+	static PdfDocumentSource of(Resource resource) throws IOException {
+		if (resource.isFile()) {
+			return new PdfDocumentSource(resource.getFile(), null);
+		}
+		return new PdfDocumentSource(null, resource.getContentAsByteArray());
+	}
+
+	/**
+	 * Parses a new document. Documents are not thread-safe, so each thread extracting
+	 * text concurrently needs its own.
+	 */
+	PDDocument load() throws IOException {
+		RandomAccessRead source = (this.file != null) ? new RandomAccessReadBufferedFile(this.file)
+				: new RandomAccessReadBuffer(this.content);
+		try {
+			return new PDFParser(source).parse();
+		}
+		catch (IOException | RuntimeException ex) {
+			source.close();
+			throw ex;
+		}
+	}
+
+}
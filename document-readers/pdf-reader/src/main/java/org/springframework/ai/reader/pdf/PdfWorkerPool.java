@@ -0,0 +1,142 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.reader.pdf;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Runs text extraction tasks on a fixed number of threads, each task getting a
+ * {@link PDDocument} of its own, since documents must not be shared between threads.
+ * Documents are opened lazily and reused by the following tasks. Closing the pool waits
+ * for the running tasks before closing the documents, and a document loaded by a task
+ * after the pool was closed is closed right away.
+ *
+ * @since 1.0.0
+ */
+final class PdfWorkerPool implements AutoCloseable {
+
+	/**
+	 * Maximum time to wait for the running tasks when the pool is closed.
+	 */
+	private static final long TERMINATION_TIMEOUT_SECONDS = 30;
+
+	private final PdfDocumentSource source;
+
+	private final ExecutorService executor;
+
+	private final Queue<PDDocument> idleDocuments = new ConcurrentLinkedQueue<>();
+
+	private final List<PDDocument> documents = new ArrayList<>();
+
+	private boolean closed;
+
+	PdfWorkerPool(PdfDocumentSource source, int parallelism) {
+		this.source = source;
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("pdf-reader-");
+		threadFactory.setDaemon(true);
+		this.executor = Executors.newFixedThreadPool(parallelism, threadFactory);
+	}
+
+	<T> CompletableFuture<T> submit(PdfTask<T> task) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				PDDocument document = this.idleDocuments.poll();
+				if (document == null) {
+					document = this.source.load();
+					synchronized (this.documents) {
+						if (this.closed) {
+							document.close();
+							throw new CancellationException("PDF worker pool is closed");
+						}
+						this.documents.add(document);
+					}
+				}
+				try {
+					return task.apply(document);
+				}
+				finally {
+					this.idleDocuments.add(document);
+				}
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}, this.executor);
+	}
+
+	/**
+	 * Waits for the result of a task, rethrowing its failure.
+	 */
+	static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw ex;
+		}
+	}
+
+	@Override
+	public void close() {
+		this.executor.shutdownNow();
+		try {
+			this.executor.awaitTermination(TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		List<PDDocument> documents;
+		synchronized (this.documents) {
+			this.closed = true;
+			documents = new ArrayList<>(this.documents);
+		}
+		for (PDDocument document : documents) {
+			try {
+				document.close();
+			}
+			catch (IOException ex) {
+				// ignore
+			}
+		}
+	}
+
+	@FunctionalInterface
+	interface PdfTask<T> {
+
+		T apply(PDDocument document) throws IOException;
+
+	}
+
+}
@@ -41,12 +41,15 @@ public final class PdfDocumentReaderConfig {
 
 	public final ExtractedTextFormatter pageExtractedTextFormatter;
 
+	public final int parallelism;
+
 	private PdfDocumentReaderConfig(PdfDocumentReaderConfig.Builder builder) {
 		this.pagesPerDocument = builder.pagesPerDocument;
 		this.pageBottomMargin = builder.pageBottomMargin;
 		this.pageTopMargin = builder.pageTopMargin;
 		this.pageExtractedTextFormatter = builder.pageExtractedTextFormatter;
 		this.reversedParagraphPosition = builder.reversedParagraphPosition;
+		this.parallelism = builder.parallelism;
 	}
 
 	/**
@@ -77,6 +80,8 @@ public final class PdfDocumentReaderConfig {
 
 		private boolean reversedParagraphPosition = false;
 
+		private int parallelism = 1;
+
 		private Builder() {
 		}
 
@@ -137,6 +142,19 @@ public final class PdfDocumentReaderConfig {
 			return this;
 		}
 
+		/**
+		 * Configures the number of threads extracting the text of the pages
+		 * concurrently. Each thread opens its own copy of the PDF document. Defaults to
+		 * 1, extracting the pages on the calling thread.
+		 * @param parallelism the number of extraction threads
+		 * @return this builder
+		 */
+		public Builder withParallelism(int parallelism) {
+			Assert.isTrue(parallelism > 0, "Parallelism must be a positive value.");
+			this.parallelism = parallelism;
+			return this;
+		}
+
 		/**
 		 * {@return the immutable configuration}
 		 */
@@ -16,6 +16,7 @@
 
 package org.springframework.ai.reader.pdf;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,6 +25,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.reader.ExtractedTextFormatter;
 import org.springframework.ai.reader.pdf.config.PdfDocumentReaderConfig;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -71,4 +75,23 @@ class PagePdfDocumentReaderTests {
 		assertThat(documents).hasSize(64);
 	}
 
+	@Test
+	void parallelReadMatchesSequentialRead() throws IOException {
+		Resource resource = new DefaultResourceLoader().getResource("classpath:/sample2.pdf");
+		PdfDocumentReaderConfig.Builder config = PdfDocumentReaderConfig.builder().withPagesPerDocument(3);
+
+		List<Document> sequential = new PagePdfDocumentReader(resource, config.build()).get();
+		List<Document> parallel = new PagePdfDocumentReader(resource, config.withParallelism(4).build()).get();
+		List<Document> parallelInMemory = new PagePdfDocumentReader(
+				new ByteArrayResource(resource.getContentAsByteArray()), config.withParallelism(4).build())
+			.get();
+
+		assertThat(parallel).extracting(Document::getText)
+			.isEqualTo(sequential.stream().map(Document::getText).toList());
+		assertThat(parallel).extracting(Document::getMetadata)
+			.isEqualTo(sequential.stream().map(Document::getMetadata).toList());
+		assertThat(parallelInMemory).extracting(Document::getText)
+			.isEqualTo(sequential.stream().map(Document::getText).toList());
+	}
+
 }
@@ -16,11 +16,16 @@
 
 package org.springframework.ai.reader.pdf;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import org.springframework.ai.document.Document;
 import org.springframework.ai.reader.ExtractedTextFormatter;
+import org.springframework.ai.reader.pdf.config.ParagraphManager.Paragraph;
 import org.springframework.ai.reader.pdf.config.PdfDocumentReaderConfig;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
@@ -50,4 +55,43 @@ public class ParagraphPdfDocumentReaderTests {
 
 	}
 
+	@Test
+	void parallelReadMatchesSequentialRead() {
+		PdfDocumentReaderConfig.Builder config = PdfDocumentReaderConfig.builder();
+
+		try (var sequentialReader = new ParagraphPdfDocumentReader("classpath:/sample2.pdf", config.build());
+				var parallelReader = new ParagraphPdfDocumentReader("classpath:/sample2.pdf",
+						config.withParallelism(4).build())) {
+			List<Document> sequential = sequentialReader.get();
+			List<Document> parallel = parallelReader.get();
+
+			assertThat(parallel).isNotEmpty();
+			assertThat(parallel).extracting(Document::getText)
+				.isEqualTo(sequential.stream().map(Document::getText).toList());
+			assertThat(parallel).extracting(Document::getMetadata)
+				.isEqualTo(sequential.stream().map(Document::getMetadata).toList());
+		}
+	}
+
+	@Test
+	void parallelReadUsesDocumentConversionOverride() {
+		PdfDocumentReaderConfig config = PdfDocumentReaderConfig.builder().withParallelism(4).build();
+
+		try (var reader = new ParagraphPdfDocumentReader("classpath:/sample2.pdf", config) {
+
+			@Override
+			protected Document toDocument(Paragraph from, Paragraph to) {
+				Document document = super.toDocument(from, to);
+				if (document != null) {
+					document.getMetadata().put("converted_by", "override");
+				}
+				return document;
+			}
+
+		}) {
+			assertThat(reader.get()).isNotEmpty()
+				.allSatisfy(document -> assertThat(document.getMetadata()).containsEntry("converted_by", "override"));
+		}
+	}
+
 }
@@ -0,0 +1,339 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.document;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.util.Assert;
+
+/**
+ * Streams documents from a {@link DocumentReader} through a chain of
+ * {@link DocumentTransformer}s into a {@link DocumentWriter}, one batch at a time.
+ *
+ * Documents are pulled from the reader's {@link DocumentReader#stream() stream} only as
+ * fast as the downstream stages consume them. Each stage regroups its input into batches
+ * of {@code batchSize} documents and processes at most {@code parallelism} of them at
+ * once, keeping their output in order, so the number of documents held in memory is
+ * bounded by the batch size and the parallelism of the stages rather than by the size of
+ * the corpus.
+ *
+ * <pre class="code">
+ * long written = DocumentPipeline.builder(pdfReader)
+ *     .batchSize(64)
+ *     .transformer(tokenTextSplitter, 4)
+ *     .build()
+ *     .writeTo(vectorStore, 2);
+ * </pre>
+ *
+ * @since 1.0.0
+ */
+public final class DocumentPipeline {
+
+	public static final int DEFAULT_BATCH_SIZE = 100;
+
+	private final Supplier<Stream<Document>> source;
+
+	private final int batchSize;
+
+	private final Executor executor;
+
+	private final List<Stage> stages;
+
+	private DocumentPipeline(Builder builder) {
+		this.source = builder.source;
+		this.batchSize = builder.batchSize;
+		this.executor = builder.executor;
+		this.stages = List.copyOf(builder.stages);
+	}
+
+	/**
+	 * Creates a pipeline builder that reads the documents of the given reader.
+	 * @param reader the source of the documents
+	 * @return a new builder
+	 */
+	public static Builder builder(DocumentReader reader) {
+		Assert.notNull(reader, "reader must not be null");
+		return new Builder(reader::stream);
+	}
+
+	/**
+	 * Creates a pipeline builder that reads the given documents.
+	 * @param documents the source of the documents, consumed at most once
+	 * @return a new builder
+	 */
+	public static Builder builder(Stream<Document> documents) {
+		Assert.notNull(documents, "documents must not be null");
+		return new Builder(() -> documents);
+	}
+
+	/**
+	 * Returns the transformed documents as a lazily evaluated stream. The stream must be
+	 * consumed sequentially, and should be closed to release the reader when it is not
+	 * consumed to the end. Closing it also cancels the batches that were submitted ahead
+	 * of the consumer but have not started yet.
+	 * @return the stream of transformed documents
+	 */
+	public Stream<Document> stream() {
+		Stream<Document> documents = this.source.get();
+		List<Runnable> cancellations = new ArrayList<>();
+		Iterator<Document> iterator = documents.iterator();
+		for (Stage stage : this.stages) {
+			iterator = flatten(process(batches(iterator), stage.transformer, stage.parallelism, cancellations));
+		}
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+			.onClose(() -> {
+				try {
+					cancellations.forEach(Runnable::run);
+				}
+				finally {
+					documents.close();
+				}
+			});
+	}
+
+	/**
+	 * Writes all transformed documents to the given writer, one batch at a time.
+	 * @param writer the writer to write the documents to
+	 * @return the number of documents written
+	 */
+	public long writeTo(DocumentWriter writer) {
+		return writeTo(writer, 1);
+	}
+
+	/**
+	 * Writes all transformed documents to the given writer, with at most
+	 * {@code parallelism} batches being written at once.
+	 * @param writer the writer to write the documents to
+	 * @param parallelism the maximum number of concurrent writes
+	 * @return the number of documents written
+	 */
+	public long writeTo(DocumentWriter writer, int parallelism) {
+		Assert.notNull(writer, "writer must not be null");
+		Assert.isTrue(parallelism > 0, "parallelism must be greater than 0");
+		List<Runnable> cancellations = new ArrayList<>();
+		try (Stream<Document> documents = stream()) {
+			Iterator<Integer> written = process(batches(documents.iterator()), batch -> {
+				writer.accept(batch);
+				return batch.size();
+			}, parallelism, cancellations);
+			long count = 0;
+			while (written.hasNext()) {
+				count += written.next();
+			}
+			return count;
+		}
+		finally {
+			cancellations.forEach(Runnable::run);
+		}
+	}
+
+	private Iterator<List<Document>> batches(Iterator<Document> documents) {
+		return new Iterator<>() {
+
+			@Override
+			public boolean hasNext() {
+				return documents.hasNext();
+			}
+
+			@Override
+			public List<Document> next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				List<Document> batch = new ArrayList<>(DocumentPipeline.this.batchSize);
+				while (batch.size() < DocumentPipeline.this.batchSize && documents.hasNext()) {
+					batch.add(documents.next());
+				}
+				return batch;
+			}
+
+		};
+	}
+
+	/**
+	 * Applies the function to the batches, running up to {@code parallelism} of them
+	 * ahead of the consumer on the executor and returning the results in input order.
+	 * Adds an action cancelling the batches still in flight to {@code cancellations}.
+	 */
+	private <T> Iterator<T> process(Iterator<List<Document>> batches, Function<List<Document>, T> function,
+			int parallelism, List<Runnable> cancellations) {
+		if (parallelism == 1) {
+			return new Iterator<>() {
+
+				@Override
+				public boolean hasNext() {
+					return batches.hasNext();
+				}
+
+				@Override
+				public T next() {
+					return function.apply(batches.next());
+				}
+
+			};
+		}
+		Deque<CompletableFuture<T>> inFlight = new ArrayDeque<>(parallelism);
+		// A cancelled batch that has not started is skipped by the executor, one that is
+		// running completes but its result is discarded.
+		cancellations.add(() -> {
+			inFlight.forEach(future -> future.cancel(false));
+			inFlight.clear();
+		});
+		return new Iterator<>() {
+
+			@Override
+			public boolean hasNext() {
+				while (inFlight.size() < parallelism && batches.hasNext()) {
+					List<Document> batch = batches.next();
+					inFlight.add(CompletableFuture.supplyAsync(() -> function.apply(batch),
+							DocumentPipeline.this.executor));
+				}
+				return !inFlight.isEmpty();
+			}
+
+			@Override
+			public T next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				try {
+					return inFlight.removeFirst().join();
+				}
+				catch (CompletionException ex) {
+					inFlight.forEach(future -> future.cancel(false));
+					inFlight.clear();
+					if (ex.getCause() instanceof RuntimeException cause) {
+						throw cause;
+					}
+					throw ex;
+				}
+			}
+
+		};
+	}
+
+	private static Iterator<Document> flatten(Iterator<List<Document>> batches) {
+		return new Iterator<>() {
+
+			private Iterator<Document> current = Collections.emptyIterator();
+
+			@Override
+			public boolean hasNext() {
+				while (!this.current.hasNext() && batches.hasNext()) {
+					this.current = batches.next().iterator();
+				}
+				return this.current.hasNext();
+			}
+
+			@Override
+			public Document next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return this.current.next();
+			}
+
+		};
+	}
+
+	private record Stage(DocumentTransformer transformer, int parallelism) {
+
+	}
+
+	public static final class Builder {
+
+		private final Supplier<Stream<Document>> source;
+
+		private final List<Stage> stages = new ArrayList<>();
+
+		private int batchSize = DEFAULT_BATCH_SIZE;
+
+		private Executor executor = new SimpleAsyncTaskExecutor("document-pipeline-");
+
+		private Builder(Supplier<Stream<Document>> source) {
+			this.source = source;
+		}
+
+		/**
+		 * Sets the number of documents each stage processes at once.
+		 * @param batchSize the batch size, defaults to {@value #DEFAULT_BATCH_SIZE}
+		 * @return this builder
+		 */
+		public Builder batchSize(int batchSize) {
+			Assert.isTrue(batchSize > 0, "batchSize must be greater than 0");
+			this.batchSize = batchSize;
+			return this;
+		}
+
+		/**
+		 * Sets the executor running the batches of stages with a parallelism greater
+		 * than 1. Stages with a parallelism of 1 run on the consuming thread.
+		 * @param executor the executor to use
+		 * @return this builder
+		 */
+		public Builder executor(Executor executor) {
+			Assert.notNull(executor, "executor must not be null");
+			this.executor = executor;
+			return this;
+		}
+
+		/**
+		 * Adds a transformation stage processing one batch at a time.
+		 * @param transformer the transformer to apply
+		 * @return this builder
+		 */
+		public Builder transformer(DocumentTransformer transformer) {
+			return transformer(transformer, 1);
+		}
+
+		/**
+		 * Adds a transformation stage processing up to {@code parallelism} batches at
+		 * once.
+		 * @param transformer the transformer to apply
+		 * @param parallelism the maximum number of batches transformed concurrently
+		 * @return this builder
+		 */
+		public Builder transformer(DocumentTransformer transformer, int parallelism) {
+			Assert.notNull(transformer, "transformer must not be null");
+			Assert.isTrue(parallelism > 0, "parallelism must be greater than 0");
+			this.stages.add(new Stage(transformer, parallelism));
+			return this;
+		}
+
+		public DocumentPipeline build() {
+			return new DocumentPipeline(this);
+		}
+
+	}
+
+}
@@ -18,6 +18,7 @@ package org.springframework.ai.document;
 
 import java.util.List;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 public interface DocumentReader extends Supplier<List<Document>> {
 
@@ -25,4 +26,15 @@ public interface DocumentReader extends Supplier<List<Document>> {
 		return get();
 	}
 
+	/**
+	 * Returns the documents of this reader as a lazily consumed stream. Readers that can
+	 * produce their documents incrementally should override this method, so that a
+	 * {@link DocumentPipeline} does not have to hold all of them in memory at once.
+	 * @return the stream of documents
+	 * @since 1.0.0
+	 */
+	default Stream<Document> stream() {
+		return get().stream();
+	}
+
 }
@@ -21,8 +21,14 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -89,6 +95,66 @@ public class JsonReader implements DocumentReader {
 		}
 	}
 
+	/**
+	 * Streams the documents of the JSON resource. The elements of a top level array are
+	 * parsed one at a time as the stream is consumed, so the array is never held in
+	 * memory as a whole. The stream should be closed to release the resource when it is
+	 * not consumed to the end.
+	 * @return the stream of documents
+	 */
+	@Override
+	public Stream<Document> stream() {
+		JsonParser parser;
+		try {
+			parser = this.objectMapper.createParser(this.resource.getInputStream());
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		try {
+			if (parser.nextToken() != JsonToken.START_ARRAY) {
+				try (parser) {
+					JsonNode rootNode = this.objectMapper.readTree(parser);
+					return (rootNode != null) ? get(rootNode).stream() : Stream.empty();
+				}
+			}
+		}
+		catch (IOException e) {
+			closeQuietly(parser);
+			throw new RuntimeException(e);
+		}
+		Spliterator<Document> documents = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+				Spliterator.ORDERED | Spliterator.NONNULL) {
+
+			@Override
+			public boolean tryAdvance(Consumer<? super Document> action) {
+				try {
+					JsonToken token = parser.nextToken();
+					if (token == null || token == JsonToken.END_ARRAY) {
+						return false;
+					}
+					JsonNode jsonNode = JsonReader.this.objectMapper.readTree(parser);
+					action.accept(parseJsonNode(jsonNode, JsonReader.this.objectMapper));
+					return true;
+				}
+				catch (IOException e) {
+					throw new RuntimeException(e);
+				}
+			}
+
+		};
+		return StreamSupport.stream(documents, false).onClose(() -> closeQuietly(parser));
+	}
+
+	private static void closeQuietly(JsonParser parser) {
+		try {
+			parser.close();
+		}
+		catch (IOException e) {
+			// Nothing left to read from the resource.
+		}
+	}
+
 	private Document parseJsonNode(JsonNode jsonNode, ObjectMapper objectMapper) {
 		Map<String, Object> item = objectMapper.convertValue(jsonNode, new TypeReference<Map<String, Object>>() {
 
@@ -78,11 +78,11 @@ public abstract class TextSplitter implements DocumentTransformer {
 
 		// Process the data in a column oriented way and recreate the Document
 		List<Document> documents = new ArrayList<>();
+		List<List<String>> chunksList = splitTexts(texts);
 
 		for (int i = 0; i < texts.size(); i++) {
-			String text = texts.get(i);
 			Map<String, Object> metadata = metadataList.get(i);
-			List<String> chunks = splitText(text);
+			List<String> chunks = chunksList.get(i);
 			if (chunks.size() > 1) {
 				logger.info("Splitting up document into " + chunks.size() + " chunks.");
 			}
@@ -109,4 +109,18 @@ public abstract class TextSplitter implements DocumentTransformer {
 
 	protected abstract List<String> splitText(String text);
 
+	/**
+	 * Splits the texts of several documents. Returns the chunks of each text at the index
+	 * of the text. Splits the texts one after the other by default.
+	 * @param texts the texts to split
+	 * @return the chunks of each text
+	 */
+	protected List<List<String>> splitTexts(List<String> texts) {
+		List<List<String>> chunks = new ArrayList<>(texts.size());
+		for (String text : texts) {
+			chunks.add(splitText(text));
+		}
+		return chunks;
+	}
+
 }
@@ -16,6 +16,8 @@
 
 package org.springframework.ai.transformer.splitter;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -25,11 +27,14 @@ import com.knuddels.jtokkit.api.EncodingRegistry;
 import com.knuddels.jtokkit.api.EncodingType;
 import com.knuddels.jtokkit.api.IntArrayList;
 
-import org.springframework.util.Assert;
-
 /**
  * A {@link TextSplitter} that splits text into chunks of a target size in tokens.
  *
+ * Each text is encoded once, and the chunks are cut from its tokens by offset. Each
+ * token is decoded once, which also gives the number of tokens of a chunk truncated at a
+ * punctuation mark without encoding it again. In parallel mode, the texts of the
+ * documents are split concurrently.
+ *
  * @author Raphael Yu
  * @author Christian Tzolov
  * @author Ricken Bazolo
@@ -64,6 +69,9 @@ public class TokenTextSplitter extends TextSplitter {
 
 	private final boolean keepSeparator;
 
+	// Whether the texts of several documents are split concurrently
+	private final boolean parallel;
+
 	public TokenTextSplitter() {
 		this(DEFAULT_CHUNK_SIZE, MIN_CHUNK_SIZE_CHARS, MIN_CHUNK_LENGTH_TO_EMBED, MAX_NUM_CHUNKS, KEEP_SEPARATOR);
 	}
@@ -74,11 +82,17 @@ public class TokenTextSplitter extends TextSplitter {
 
 	public TokenTextSplitter(int chunkSize, int minChunkSizeChars, int minChunkLengthToEmbed, int maxNumChunks,
 			boolean keepSeparator) {
+		this(chunkSize, minChunkSizeChars, minChunkLengthToEmbed, maxNumChunks, keepSeparator, false);
+	}
+
+	public TokenTextSplitter(int chunkSize, int minChunkSizeChars, int minChunkLengthToEmbed, int maxNumChunks,
+			boolean keepSeparator, boolean parallel) {
 		this.chunkSize = chunkSize;
 		this.minChunkSizeChars = minChunkSizeChars;
 		this.minChunkLengthToEmbed = minChunkLengthToEmbed;
 		this.maxNumChunks = maxNumChunks;
 		this.keepSeparator = keepSeparator;
+		this.parallel = parallel;
 	}
 
 	public static Builder builder() {
@@ -90,24 +104,38 @@ public class TokenTextSplitter extends TextSplitter {
 		return doSplit(text, this.chunkSize);
 	}
 
+	@Override
+	protected List<List<String>> splitTexts(List<String> texts) {
+		if (!this.parallel || texts.size() < 2) {
+			return super.splitTexts(texts);
+		}
+		// The encoding is thread-safe, and the ordered stream keeps the chunks of each
+		// text at the index of the text.
+		return texts.parallelStream().map(this::splitText).toList();
+	}
+
 	protected List<String> doSplit(String text, int chunkSize) {
 		if (text == null || text.trim().isEmpty()) {
 			return new ArrayList<>();
 		}
 
-		List<Integer> tokens = getEncodedTokens(text);
+		IntArrayList tokens = this.encoding.encode(text);
+		TokenDecoder decoder = new TokenDecoder(tokens);
 		List<String> chunks = new ArrayList<>();
+		int offset = 0;
 		int num_chunks = 0;
-		while (!tokens.isEmpty() && num_chunks < this.maxNumChunks) {
-			List<Integer> chunk = tokens.subList(0, Math.min(chunkSize, tokens.size()));
-			String chunkText = decodeTokens(chunk);
+		while (offset < tokens.size() && num_chunks < this.maxNumChunks) {
+			int end = Math.min(offset + chunkSize, tokens.size());
+			String chunkText = decoder.decode(offset, end);
 
 			// Skip the chunk if it is empty or whitespace
 			if (chunkText.trim().isEmpty()) {
-				tokens = tokens.subList(chunk.size(), tokens.size());
+				offset = end;
 				continue;
 			}
 
+			int chunkTokens = end - offset;
+
 			// Find the last period or punctuation mark in the chunk
 			int lastPunctuation = Math.max(chunkText.lastIndexOf('.'), Math.max(chunkText.lastIndexOf('?'),
 					Math.max(chunkText.lastIndexOf('!'), chunkText.lastIndexOf('\n'))));
@@ -115,6 +143,7 @@ public class TokenTextSplitter extends TextSplitter {
 			if (lastPunctuation != -1 && lastPunctuation > this.minChunkSizeChars) {
 				// Truncate the chunk text at the punctuation mark
 				chunkText = chunkText.substring(0, lastPunctuation + 1);
+				chunkTokens = decoder.tokensCovering(chunkText);
 			}
 
 			String chunkTextToAppend = (this.keepSeparator) ? chunkText.trim()
@@ -123,15 +152,17 @@ public class TokenTextSplitter extends TextSplitter {
 				chunks.add(chunkTextToAppend);
 			}
 
-			// Remove the tokens corresponding to the chunk text from the remaining tokens
-			tokens = tokens.subList(getEncodedTokens(chunkText).size(), tokens.size());
+			// Skip the tokens of the chunk text
+			offset += chunkTokens;
 
 			num_chunks++;
 		}
 
 		// Handle the remaining tokens
-		if (!tokens.isEmpty()) {
-			String remaining_text = decodeTokens(tokens).replace(System.lineSeparator(), " ").trim();
+		if (offset < tokens.size()) {
+			String remaining_text = decoder.decode(offset, tokens.size())
+				.replace(System.lineSeparator(), " ")
+				.trim();
 			if (remaining_text.length() > this.minChunkLengthToEmbed) {
 				chunks.add(remaining_text);
 			}
@@ -140,16 +171,56 @@ public class TokenTextSplitter extends TextSplitter {
 		return chunks;
 	}
 
-	private List<Integer> getEncodedTokens(String text) {
-		Assert.notNull(text, "Text must not be null");
-		return this.encoding.encode(text).boxed();
-	}
+	/**
+	 * Decodes ranges of the tokens of a text, and keeps the UTF-8 length of each token of
+	 * the last decoded range, to map a prefix of its text back to a number of tokens.
+	 */
+	private final class TokenDecoder {
+
+		private final IntArrayList tokens;
+
+		private final IntArrayList singleToken = new IntArrayList(1);
+
+		private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		// Cumulative UTF-8 length of the tokens of the last decoded range
+		private int[] tokenEnds = new int[0];
+
+		private int rangeSize;
+
+		TokenDecoder(IntArrayList tokens) {
+			this.tokens = tokens;
+		}
+
+		String decode(int from, int to) {
+			this.bytes.reset();
+			this.rangeSize = to - from;
+			if (this.tokenEnds.length < this.rangeSize) {
+				this.tokenEnds = new int[this.rangeSize];
+			}
+			for (int i = from; i < to; i++) {
+				this.singleToken.clear();
+				this.singleToken.add(this.tokens.get(i));
+				this.bytes.writeBytes(TokenTextSplitter.this.encoding.decodeBytes(this.singleToken));
+				this.tokenEnds[i - from] = this.bytes.size();
+			}
+			return this.bytes.toString(StandardCharsets.UTF_8);
+		}
+
+		/**
+		 * Returns the number of tokens of the last decoded range needed to cover a prefix
+		 * of its text.
+		 */
+		int tokensCovering(String prefix) {
+			int prefixLength = prefix.getBytes(StandardCharsets.UTF_8).length;
+			for (int i = 0; i < this.rangeSize; i++) {
+				if (this.tokenEnds[i] >= prefixLength) {
+					return i + 1;
+				}
+			}
+			return this.rangeSize;
+		}
 
-	private String decodeTokens(List<Integer> tokens) {
-		Assert.notNull(tokens, "Tokens must not be null");
-		var tokensIntArray = new IntArrayList(tokens.size());
-		tokens.forEach(tokensIntArray::add);
-		return this.encoding.decode(tokensIntArray);
 	}
 
 	public static final class Builder {
@@ -164,6 +235,8 @@ public class TokenTextSplitter extends TextSplitter {
 
 		private boolean keepSeparator;
 
+		private boolean parallel;
+
 		private Builder() {
 		}
 
@@ -192,9 +265,20 @@ public class TokenTextSplitter extends TextSplitter {
 			return this;
 		}
 
+		/**
+		 * Sets whether the texts of several documents are split concurrently, on the
+		 * common fork-join pool. The documents are returned in the same order either way.
+		 * @param parallel true to split the documents concurrently
+		 * @return the builder instance
+		 */
+		public Builder withParallel(boolean parallel) {
+			this.parallel = parallel;
+			return this;
+		}
+
 		public TokenTextSplitter build() {
 			return new TokenTextSplitter(this.chunkSize, this.minChunkSizeChars, this.minChunkLengthToEmbed,
-					this.maxNumChunks, this.keepSeparator);
+					this.maxNumChunks, this.keepSeparator, this.parallel);
 		}
 
 	}
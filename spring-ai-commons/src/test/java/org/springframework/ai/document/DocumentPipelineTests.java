@@ -0,0 +1,172 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.document;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DocumentPipelineTests {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	@AfterEach
+	void shutdown() {
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	void shouldTransformBatchesInOrder() {
+		DocumentTransformer duplicate = batch -> batch.stream()
+			.flatMap(document -> Stream.of(document, new Document(document.getText() + "'")))
+			.toList();
+
+		List<String> texts = DocumentPipeline.builder(documents(5))
+			.batchSize(2)
+			.executor(this.executor)
+			.transformer(duplicate, 3)
+			.build()
+			.stream()
+			.map(Document::getText)
+			.toList();
+
+		assertThat(texts).containsExactly("0", "0'", "1", "1'", "2", "2'", "3", "3'", "4", "4'");
+	}
+
+	@Test
+	void shouldBoundDocumentsReadAhead() {
+		AtomicInteger read = new AtomicInteger();
+		Stream<Document> source = IntStream.range(0, 1000)
+			.peek(i -> read.incrementAndGet())
+			.mapToObj(i -> new Document(String.valueOf(i)));
+		AtomicInteger maxAhead = new AtomicInteger();
+		AtomicInteger consumed = new AtomicInteger();
+
+		long written = DocumentPipeline.builder(source)
+			.batchSize(10)
+			.executor(this.executor)
+			.transformer(batch -> batch, 2)
+			.build()
+			.writeTo(batch -> {
+				consumed.addAndGet(batch.size());
+				maxAhead.accumulateAndGet(read.get() - consumed.get(), Math::max);
+			});
+
+		assertThat(written).isEqualTo(1000);
+		// The transformer has at most 2 batches in flight, the writer the current one.
+		assertThat(maxAhead.get()).isLessThanOrEqualTo(2 * 10 + 10);
+	}
+
+	@Test
+	void shouldWriteBatchesConcurrently() {
+		List<List<Document>> batches = Collections.synchronizedList(new ArrayList<>());
+
+		long written = DocumentPipeline.builder(documents(25))
+			.batchSize(10)
+			.executor(this.executor)
+			.build()
+			.writeTo(batches::add, 2);
+
+		assertThat(written).isEqualTo(25);
+		assertThat(batches).extracting(List::size).containsExactlyInAnyOrder(10, 10, 5);
+	}
+
+	@Test
+	void shouldPropagateTransformerFailures() {
+		DocumentPipeline pipeline = DocumentPipeline.builder(documents(10))
+			.batchSize(1)
+			.executor(this.executor)
+			.transformer(batch -> {
+				throw new IllegalStateException("boom");
+			}, 2)
+			.build();
+
+		assertThatThrownBy(() -> pipeline.writeTo(batch -> {
+		})).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+	}
+
+	@Test
+	void shouldCancelPendingBatchesOnClose() throws InterruptedException {
+		ExecutorService singleThread = Executors.newSingleThreadExecutor();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger transformed = new AtomicInteger();
+		try {
+			Stream<Document> documents = DocumentPipeline.builder(documents(10))
+				.batchSize(1)
+				.executor(singleThread)
+				.transformer(batch -> {
+					transformed.incrementAndGet();
+					if (batch.get(0).getText().equals("1")) {
+						// Blocks the executor, so that the third batch is still pending.
+						started.countDown();
+						awaitQuietly(release);
+					}
+					return batch;
+				}, 3)
+				.build()
+				.stream();
+
+			assertThat(documents.iterator().hasNext()).isTrue();
+			assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+			documents.close();
+			release.countDown();
+		}
+		finally {
+			singleThread.shutdown();
+		}
+
+		assertThat(singleThread.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(transformed).hasValue(2);
+	}
+
+	@Test
+	void shouldReadFromDocumentReader() {
+		DocumentReader reader = () -> List.of(new Document("a"), new Document("b"));
+
+		List<String> texts = DocumentPipeline.builder(reader).build().stream().map(Document::getText).toList();
+
+		assertThat(texts).containsExactly("a", "b");
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static Stream<Document> documents(int count) {
+		return IntStream.range(0, count).mapToObj(i -> new Document(String.valueOf(i)));
+	}
+
+}
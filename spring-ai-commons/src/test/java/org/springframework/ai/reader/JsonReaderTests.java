@@ -17,6 +17,7 @@
 package org.springframework.ai.reader;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
@@ -61,6 +62,23 @@ public class JsonReaderTests {
 		}
 	}
 
+	@Test
+	void streamJsonArray() {
+		JsonReader jsonReader = new JsonReader(this.arrayResource, "description");
+		try (Stream<Document> documents = jsonReader.stream()) {
+			assertThat(documents.map(Document::getText)).containsExactlyElementsOf(
+					jsonReader.get().stream().map(Document::getText).toList());
+		}
+	}
+
+	@Test
+	void streamJsonObject() {
+		JsonReader jsonReader = new JsonReader(this.ObjectResource, "description");
+		try (Stream<Document> documents = jsonReader.stream()) {
+			assertThat(documents.map(Document::getText)).containsExactly(jsonReader.get().get(0).getText());
+		}
+	}
+
 	@Test
 	void loadJsonArrayFromPointer() {
 		assertThat(this.arrayResource).isNotNull();
@@ -18,6 +18,7 @@ package org.springframework.ai.transformer.splitter;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -113,4 +114,43 @@ public class TokenTextSplitterTest {
 		assertThat(chunks.get(2).getMetadata()).containsKeys("key2", "key3").doesNotContainKeys("key1");
 	}
 
+	@Test
+	public void testTruncatedChunksDoNotDropOrRepeatTokens() {
+		var tokenTextSplitter = TokenTextSplitter.builder()
+			.withChunkSize(12)
+			.withMinChunkSizeChars(10)
+			.withMinChunkLengthToEmbed(0)
+			.withMaxNumChunks(100)
+			.withKeepSeparator(true)
+			.build();
+		String text = "The cat sat on the mat in the sun. The dog ran in the park all day! Did the bird sing "
+				+ "at night? It did. A last line without a stop";
+
+		List<String> chunks = tokenTextSplitter.split(new Document(text)).stream().map(Document::getText).toList();
+
+		assertThat(String.join(" ", chunks)).isEqualTo(text);
+	}
+
+	@Test
+	public void testParallelSplittingKeepsDocumentOrder() {
+		List<Document> documents = IntStream.range(0, 50)
+			.mapToObj(i -> new Document(("Document " + i + " has a sentence. ").repeat(i + 1), Map.of("index", i)))
+			.toList();
+		TokenTextSplitter.Builder builder = TokenTextSplitter.builder()
+			.withChunkSize(20)
+			.withMinChunkSizeChars(10)
+			.withMinChunkLengthToEmbed(5)
+			.withMaxNumChunks(100)
+			.withKeepSeparator(true);
+
+		List<Document> sequential = builder.build().apply(documents);
+		List<Document> parallel = builder.withParallel(true).build().apply(documents);
+
+		assertThat(parallel).extracting(Document::getText)
+			.containsExactlyElementsOf(sequential.stream().map(Document::getText).toList());
+		assertThat(parallel).extracting(document -> document.getMetadata().get("index"))
+			.containsExactlyElementsOf(
+					sequential.stream().map(document -> document.getMetadata().get("index")).toList());
+	}
+
 }
@@ -74,9 +74,10 @@ public abstract class AbstractEmbeddingModel implements EmbeddingModel {
 			return KNOWN_EMBEDDING_DIMENSIONS.get(modelName);
 		}
 		else {
-			// Determine the dimensions empirically.
+			// Determine the dimensions empirically, once per model instance and name.
 			// Generate an embedding and count the dimension size;
-			return embeddingModel.embed(dummyContent).length;
+			return EmbeddingDimensionsResolver.resolve(embeddingModel, "model:" + modelName,
+					() -> embeddingModel.embed(dummyContent).length);
 		}
 	}
 
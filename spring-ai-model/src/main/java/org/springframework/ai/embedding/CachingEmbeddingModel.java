@@ -0,0 +1,370 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.embedding;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.micrometer.observation.ObservationRegistry;
+
+import org.springframework.ai.chat.metadata.EmptyUsage;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.document.MetadataMode;
+import org.springframework.ai.document.id.IdGenerator;
+import org.springframework.ai.document.id.JdkSha256HexIdGenerator;
+import org.springframework.ai.embedding.observation.DefaultEmbeddingModelObservationConvention;
+import org.springframework.ai.embedding.observation.EmbeddingModelObservationContext;
+import org.springframework.ai.embedding.observation.EmbeddingModelObservationConvention;
+import org.springframework.ai.embedding.observation.EmbeddingModelObservationDocumentation;
+import org.springframework.ai.model.ModelOptionsUtils;
+import org.springframework.ai.observation.conventions.AiProvider;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link EmbeddingModel} decorator memoizing the embeddings of the delegate model, so
+ * that re-ingested documents and repeated queries are not sent to the provider again.
+ *
+ * Embeddings are keyed by a SHA-256 hash of the model name, the request options and the
+ * input text. They are looked up in a bounded in-memory cache first, whose entries are
+ * evicted in least recently used order and optionally expire after a time to live, and
+ * then in an optional second tier {@link EmbeddingCache}. Only the inputs found in
+ * neither are sent to the delegate, in a single request.
+ *
+ * Each request is observed as an embedding model operation whose context carries the
+ * number of cache hits and misses. The response metadata only carries these counters,
+ * under {@link #CACHE_HITS_METADATA_KEY} and {@link #CACHE_MISSES_METADATA_KEY}: the
+ * usage of the delegate is reported by the delegate itself, and cache hits have none.
+ *
+ * Cached arrays are never shared: embeddings are copied when cached and when returned.
+ *
+ * @since 1.0.0
+ */
+public class CachingEmbeddingModel implements EmbeddingModel {
+
+	public static final int DEFAULT_MAX_SIZE = 10_000;
+
+	public static final String CACHE_HITS_METADATA_KEY = "cache-hits";
+
+	public static final String CACHE_MISSES_METADATA_KEY = "cache-misses";
+
+	private static final EmbeddingModelObservationConvention DEFAULT_OBSERVATION_CONVENTION = new DefaultEmbeddingModelObservationConvention();
+
+	private final EmbeddingModel delegate;
+
+	private final String modelName;
+
+	private final MetadataMode metadataMode;
+
+	private final IdGenerator keyGenerator = new JdkSha256HexIdGenerator();
+
+	private final InMemoryTier memoryTier;
+
+	@Nullable
+	private final EmbeddingCache secondTier;
+
+	private final ObservationRegistry observationRegistry;
+
+	@Nullable
+	private final EmbeddingModelObservationConvention observationConvention;
+
+	protected CachingEmbeddingModel(Builder builder) {
+		this.delegate = builder.delegate;
+		this.modelName = (builder.modelName != null) ? builder.modelName : builder.delegate.getClass().getName();
+		this.metadataMode = builder.metadataMode;
+		this.memoryTier = new InMemoryTier(builder.maxSize, builder.timeToLive);
+		this.secondTier = builder.secondTier;
+		this.observationRegistry = builder.observationRegistry;
+		this.observationConvention = builder.observationConvention;
+	}
+
+	public static Builder builder(EmbeddingModel delegate) {
+		return new Builder(delegate);
+	}
+
+	@Override
+	public EmbeddingResponse call(EmbeddingRequest request) {
+		EmbeddingOptions options = (request.getOptions() != null) ? request.getOptions()
+				: EmbeddingOptionsBuilder.builder().build();
+		var observationContext = EmbeddingModelObservationContext.builder()
+			.embeddingRequest(request)
+			.provider(AiProvider.SPRING_AI.value())
+			.requestOptions(options)
+			.build();
+
+		return EmbeddingModelObservationDocumentation.EMBEDDING_MODEL_OPERATION
+			.observation(this.observationConvention, DEFAULT_OBSERVATION_CONVENTION, () -> observationContext,
+					this.observationRegistry)
+			.observe(() -> {
+				List<String> inputs = request.getInstructions();
+				String optionsKey = ModelOptionsUtils.toJsonString(options);
+				float[][] embeddings = new float[inputs.size()][];
+				// Identical inputs of the same request are only embedded once.
+				Map<String, String> missingInputs = new LinkedHashMap<>();
+				List<String> keys = new ArrayList<>(inputs.size());
+				for (int i = 0; i < inputs.size(); i++) {
+					String key = key(optionsKey, inputs.get(i));
+					keys.add(key);
+					embeddings[i] = lookup(key);
+					if (embeddings[i] == null) {
+						missingInputs.put(key, inputs.get(i));
+					}
+				}
+
+				EmbeddingResponse delegateResponse = null;
+				if (!missingInputs.isEmpty()) {
+					delegateResponse = this.delegate
+						.call(new EmbeddingRequest(new ArrayList<>(missingInputs.values()), request.getOptions()));
+					Assert.state(delegateResponse.getResults().size() == missingInputs.size(),
+							"Embeddings must have the same number as that of the inputs");
+					Map<String, float[]> computed = new LinkedHashMap<>();
+					int index = 0;
+					for (String key : missingInputs.keySet()) {
+						float[] embedding = delegateResponse.getResults().get(index++).getOutput();
+						store(key, embedding);
+						computed.put(key, embedding);
+					}
+					for (int i = 0; i < inputs.size(); i++) {
+						if (embeddings[i] == null) {
+							// Copied, so that repeated inputs do not share an array.
+							embeddings[i] = computed.get(keys.get(i)).clone();
+						}
+					}
+				}
+
+				List<Embedding> results = new ArrayList<>(inputs.size());
+				for (int i = 0; i < inputs.size(); i++) {
+					results.add(new Embedding(embeddings[i], i));
+				}
+				String model = (options.getModel() != null) ? options.getModel() : "";
+				EmbeddingResponse response = new EmbeddingResponse(results,
+						new EmbeddingResponseMetadata(model, new EmptyUsage(),
+								Map.of(CACHE_HITS_METADATA_KEY, inputs.size() - missingInputs.size(),
+										CACHE_MISSES_METADATA_KEY, missingInputs.size())));
+
+				observationContext.setCacheHits(inputs.size() - missingInputs.size());
+				observationContext.setCacheMisses(missingInputs.size());
+				observationContext.setResponse(response);
+				return response;
+			});
+	}
+
+	@Override
+	public float[] embed(Document document) {
+		String key = key(ModelOptionsUtils.toJsonString(EmbeddingOptionsBuilder.builder().build()),
+				document.getFormattedContent(this.metadataMode));
+		float[] embedding = lookup(key);
+		if (embedding == null) {
+			embedding = this.delegate.embed(document);
+			store(key, embedding);
+		}
+		return embedding;
+	}
+
+	@Override
+	public int dimensions() {
+		return this.delegate.dimensions();
+	}
+
+	/**
+	 * Removes all embeddings from the in-memory cache. The second tier is left
+	 * untouched.
+	 */
+	public void clear() {
+		this.memoryTier.clear();
+	}
+
+	private String key(String optionsKey, String input) {
+		return this.keyGenerator.generateId(this.modelName, optionsKey, input);
+	}
+
+	@Nullable
+	private float[] lookup(String key) {
+		float[] embedding = this.memoryTier.get(key);
+		if (embedding == null && this.secondTier != null) {
+			embedding = this.secondTier.get(key);
+			if (embedding != null) {
+				this.memoryTier.put(key, embedding);
+				embedding = embedding.clone();
+			}
+		}
+		return embedding;
+	}
+
+	private void store(String key, float[] embedding) {
+		this.memoryTier.put(key, embedding);
+		if (this.secondTier != null) {
+			this.secondTier.put(key, embedding.clone());
+		}
+	}
+
+	/**
+	 * Size bounded LRU map of embeddings with an optional time to live.
+	 */
+	private static final class InMemoryTier {
+
+		private final long timeToLiveNanos;
+
+		private final LinkedHashMap<String, Entry> entries;
+
+		InMemoryTier(int maxSize, @Nullable Duration timeToLive) {
+			this.timeToLiveNanos = (timeToLive != null) ? timeToLive.toNanos() : 0L;
+			this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+					return size() > maxSize;
+				}
+
+			};
+		}
+
+		@Nullable
+		synchronized float[] get(String key) {
+			Entry entry = this.entries.get(key);
+			if (entry == null) {
+				return null;
+			}
+			if (this.timeToLiveNanos > 0 && System.nanoTime() - entry.createdAt() > this.timeToLiveNanos) {
+				this.entries.remove(key);
+				return null;
+			}
+			return entry.embedding().clone();
+		}
+
+		synchronized void put(String key, float[] embedding) {
+			this.entries.put(key, new Entry(embedding.clone(), System.nanoTime()));
+		}
+
+		synchronized void clear() {
+			this.entries.clear();
+		}
+
+		private record Entry(float[] embedding, long createdAt) {
+		}
+
+	}
+
+	public static final class Builder {
+
+		private final EmbeddingModel delegate;
+
+		@Nullable
+		private String modelName;
+
+		private MetadataMode metadataMode = MetadataMode.EMBED;
+
+		private int maxSize = DEFAULT_MAX_SIZE;
+
+		@Nullable
+		private Duration timeToLive;
+
+		@Nullable
+		private EmbeddingCache secondTier;
+
+		private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+		@Nullable
+		private EmbeddingModelObservationConvention observationConvention;
+
+		private Builder(EmbeddingModel delegate) {
+			Assert.notNull(delegate, "EmbeddingModel must not be null");
+			this.delegate = delegate;
+		}
+
+		/**
+		 * Sets the name of the model used when the request options do not name one.
+		 * Defaults to the class name of the delegate model, so it should be set when
+		 * several models of the same class share a second tier cache.
+		 * @param modelName the model name
+		 * @return the builder instance
+		 */
+		public Builder modelName(String modelName) {
+			Assert.hasText(modelName, "Model name must not be empty");
+			this.modelName = modelName;
+			return this;
+		}
+
+		/**
+		 * Sets the mode used to format the documents passed to
+		 * {@link CachingEmbeddingModel#embed(Document)} into cache keys. It should match
+		 * the one of the delegate model.
+		 * @param metadataMode the metadata mode, defaults to {@link MetadataMode#EMBED}
+		 * @return the builder instance
+		 */
+		public Builder metadataMode(MetadataMode metadataMode) {
+			Assert.notNull(metadataMode, "MetadataMode must not be null");
+			this.metadataMode = metadataMode;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of embeddings kept in memory.
+		 * @param maxSize the maximum number of embeddings, defaults to
+		 * {@value #DEFAULT_MAX_SIZE}
+		 * @return the builder instance
+		 */
+		public Builder maxSize(int maxSize) {
+			Assert.isTrue(maxSize > 0, "Max size must be positive");
+			this.maxSize = maxSize;
+			return this;
+		}
+
+		/**
+		 * Sets how long embeddings are kept in memory. Defaults to no expiry.
+		 * @param timeToLive the time to live of the in-memory entries
+		 * @return the builder instance
+		 */
+		public Builder timeToLive(Duration timeToLive) {
+			Assert.isTrue(timeToLive != null && !timeToLive.isNegative() && !timeToLive.isZero(),
+					"Time to live must be positive");
+			this.timeToLive = timeToLive;
+			return this;
+		}
+
+		/**
+		 * Sets the cache consulted when an embedding is not in memory.
+		 * @param secondTier the second tier cache
+		 * @return the builder instance
+		 */
+		public Builder secondTier(EmbeddingCache secondTier) {
+			Assert.notNull(secondTier, "EmbeddingCache must not be null");
+			this.secondTier = secondTier;
+			return this;
+		}
+
+		public Builder observationRegistry(ObservationRegistry observationRegistry) {
+			Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+			this.observationRegistry = observationRegistry;
+			return this;
+		}
+
+		public Builder observationConvention(EmbeddingModelObservationConvention observationConvention) {
+			this.observationConvention = observationConvention;
+			return this;
+		}
+
+		public CachingEmbeddingModel build() {
+			return new CachingEmbeddingModel(this);
+		}
+
+	}
+
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.embedding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.ai.document.Document;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.util.Assert;
+
+/**
+ * {@link EmbeddingModel} decorator sending the batches of
+ * {@link #embed(List, EmbeddingOptions, BatchingStrategy)} to the delegate model
+ * concurrently instead of one after another, so that a bulk ingest takes roughly the
+ * latency of the slowest batch rather than the sum of all of them. All other calls are
+ * passed to the delegate as is.
+ *
+ * At most {@code maxInFlight} batches are being embedded at any time, across all
+ * concurrent calls of the same instance. Once that limit is reached, the calling thread
+ * blocks until a batch completes, which bounds the request rate sent to the provider. The
+ * embeddings are returned in the order of the documents.
+ *
+ * By default, batches run on virtual threads when the JVM supports them, and on a new
+ * platform thread per batch otherwise.
+ *
+ * @since 1.0.0
+ */
+public class ConcurrentEmbeddingModel implements EmbeddingModel {
+
+	public static final int DEFAULT_MAX_IN_FLIGHT = 4;
+
+	/**
+	 * Sends an already batched list of documents to the delegate as is.
+	 */
+	private static final BatchingStrategy SINGLE_BATCH_STRATEGY = documents -> List.of(documents);
+
+	private final EmbeddingModel delegate;
+
+	private final Executor executor;
+
+	private final Semaphore inFlight;
+
+	protected ConcurrentEmbeddingModel(Builder builder) {
+		this.delegate = builder.delegate;
+		this.executor = (builder.executor != null) ? builder.executor : defaultExecutor();
+		this.inFlight = new Semaphore(builder.maxInFlight, true);
+	}
+
+	public static Builder builder(EmbeddingModel delegate) {
+		return new Builder(delegate);
+	}
+
+	@Override
+	public EmbeddingResponse call(EmbeddingRequest request) {
+		return this.delegate.call(request);
+	}
+
+	@Override
+	public float[] embed(Document document) {
+		return this.delegate.embed(document);
+	}
+
+	@Override
+	public int dimensions() {
+		return this.delegate.dimensions();
+	}
+
+	@Override
+	public List<float[]> embed(List<Document> documents, EmbeddingOptions options, BatchingStrategy batchingStrategy) {
+		Assert.notNull(documents, "Documents must not be null");
+		List<List<Document>> batches = batchingStrategy.batch(documents);
+		List<CompletableFuture<List<float[]>>> futures = new ArrayList<>(batches.size());
+		try {
+			for (List<Document> batch : batches) {
+				if (futures.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+					break;
+				}
+				this.inFlight.acquire();
+				// The permit is released once the batch is embedded, or when it is cancelled
+				// before it started, whichever claims the pending flag.
+				AtomicBoolean pending = new AtomicBoolean(true);
+				try {
+					CompletableFuture<List<float[]>> future = CompletableFuture.supplyAsync(() -> {
+						if (!pending.compareAndSet(true, false)) {
+							return List.of();
+						}
+						try {
+							return embedBatch(batch, options);
+						}
+						finally {
+							this.inFlight.release();
+						}
+					}, this.executor);
+					future.whenComplete((embeddings, ex) -> {
+						if (ex instanceof CancellationException) {
+							releaseIfPending(pending);
+						}
+					});
+					futures.add(future);
+				}
+				catch (RuntimeException ex) {
+					releaseIfPending(pending);
+					throw ex;
+				}
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			futures.forEach(future -> future.cancel(false));
+			throw new IllegalStateException("Interrupted while waiting to send an embedding batch", ex);
+		}
+		catch (RuntimeException ex) {
+			futures.forEach(future -> future.cancel(false));
+			throw ex;
+		}
+
+		List<float[]> embeddings = new ArrayList<>(documents.size());
+		for (CompletableFuture<List<float[]>> future : futures) {
+			try {
+				embeddings.addAll(future.join());
+			}
+			catch (CompletionException ex) {
+				futures.forEach(pending -> pending.cancel(false));
+				if (ex.getCause() instanceof RuntimeException cause) {
+					throw cause;
+				}
+				throw ex;
+			}
+		}
+		Assert.isTrue(embeddings.size() == documents.size(),
+				"Embeddings must have the same number as that of the documents");
+		return embeddings;
+	}
+
+	private void releaseIfPending(AtomicBoolean pending) {
+		if (pending.compareAndSet(true, false)) {
+			this.inFlight.release();
+		}
+	}
+
+	private List<float[]> embedBatch(List<Document> batch, EmbeddingOptions options) {
+		// Goes through the batch method of the delegate, so that a delegate overriding it
+		// still handles every batch itself.
+		return this.delegate.embed(batch, options, SINGLE_BATCH_STRATEGY);
+	}
+
+	private static Executor defaultExecutor() {
+		try {
+			return new VirtualThreadTaskExecutor("embedding-");
+		}
+		catch (UnsupportedOperationException ex) {
+			SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("embedding-");
+			executor.setDaemon(true);
+			return executor;
+		}
+	}
+
+	public static final class Builder {
+
+		private final EmbeddingModel delegate;
+
+		private Executor executor;
+
+		private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+
+		private Builder(EmbeddingModel delegate) {
+			Assert.notNull(delegate, "EmbeddingModel must not be null");
+			this.delegate = delegate;
+		}
+
+		/**
+		 * Sets the executor running the embedding batches. Defaults to virtual threads
+		 * when available.
+		 * @param executor the executor to use
+		 * @return the builder instance
+		 */
+		public Builder executor(Executor executor) {
+			Assert.notNull(executor, "Executor must not be null");
+			this.executor = executor;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of batches being embedded at the same time.
+		 * @param maxInFlight the maximum number of concurrent batches, defaults to
+		 * {@value #DEFAULT_MAX_IN_FLIGHT}
+		 * @return the builder instance
+		 */
+		public Builder maxInFlight(int maxInFlight) {
+			Assert.isTrue(maxInFlight > 0, "maxInFlight must be positive");
+			this.maxInFlight = maxInFlight;
+			return this;
+		}
+
+		public ConcurrentEmbeddingModel build() {
+			return new ConcurrentEmbeddingModel(this);
+		}
+
+	}
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.embedding;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Storage for embeddings computed by a {@link CachingEmbeddingModel}, used as the second
+ * tier behind its in-memory cache, for example backed by a database table or a local
+ * directory.
+ *
+ * Keys are opaque hashes of the model, the options and the input text, made of hex
+ * digits and dashes only. Implementations must be thread-safe.
+ *
+ * @since 1.0.0
+ * @see FileSystemEmbeddingCache
+ */
+public interface EmbeddingCache {
+
+	/**
+	 * Returns the embedding stored for the given key.
+	 * @param key the cache key
+	 * @return the embedding, or {@code null} if none is stored
+	 */
+	@Nullable
+	float[] get(String key);
+
+	/**
+	 * Stores the embedding for the given key, replacing any previous one.
+	 * @param key the cache key
+	 * @param embedding the embedding to store
+	 */
+	void put(String key, float[] embedding);
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.embedding;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
+
+import org.springframework.ai.model.ModelOptionsUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Resolves the number of dimensions of the embeddings of {@link EmbeddingModel}s and
+ * caches it, so that it is only determined once per model and options.
+ *
+ * {@link EmbeddingModel#dimensions()} may embed a dummy text to count the dimensions,
+ * which is a round trip to the provider. The vector stores use this resolver instead
+ * wherever the dimensions are needed on the hot path, such as in their observations.
+ *
+ * The models are weakly referenced, so that the cache does not keep them from being
+ * garbage collected.
+ *
+ * @since 1.0.0
+ */
+public final class EmbeddingDimensionsResolver {
+
+	private static final String DEFAULT_OPTIONS_KEY = "";
+
+	private static final String PROBE_TEXT = "Test String";
+
+	private static final Map<EmbeddingModel, Map<String, Integer>> DIMENSIONS = Collections
+		.synchronizedMap(new WeakHashMap<>());
+
+	private EmbeddingDimensionsResolver() {
+	}
+
+	/**
+	 * Returns the number of dimensions of the embeddings of the model, as determined by
+	 * {@link EmbeddingModel#dimensions()} on the first call.
+	 * @param embeddingModel the embedding model
+	 * @return the number of dimensions
+	 */
+	public static int resolve(EmbeddingModel embeddingModel) {
+		Assert.notNull(embeddingModel, "EmbeddingModel must not be null");
+		return resolve(embeddingModel, DEFAULT_OPTIONS_KEY, embeddingModel::dimensions);
+	}
+
+	/**
+	 * Returns the number of dimensions of the embeddings of the model with the given
+	 * options. These are the requested dimensions when the options set them, and
+	 * otherwise are determined by embedding a dummy text with the options on the first
+	 * call.
+	 * @param embeddingModel the embedding model
+	 * @param options the embedding options, or null for the default options of the model
+	 * @return the number of dimensions
+	 */
+	public static int resolve(EmbeddingModel embeddingModel, @Nullable EmbeddingOptions options) {
+		if (options == null) {
+			return resolve(embeddingModel);
+		}
+		Assert.notNull(embeddingModel, "EmbeddingModel must not be null");
+		if (options.getDimensions() != null) {
+			return options.getDimensions();
+		}
+		return resolve(embeddingModel, "options:" + ModelOptionsUtils.toJsonString(options),
+				() -> embeddingModel.call(new EmbeddingRequest(List.of(PROBE_TEXT), options))
+					.getResult()
+					.getOutput().length);
+	}
+
+	/**
+	 * Removes the cached dimensions of the model, for instance after its default options
+	 * changed.
+	 * @param embeddingModel the embedding model
+	 */
+	public static void evict(EmbeddingModel embeddingModel) {
+		DIMENSIONS.remove(embeddingModel);
+	}
+
+	/**
+	 * Returns the cached dimensions of the model for the key, determining them with the
+	 * probe on a miss. The probe runs without any lock held, as it may resolve other
+	 * keys of the same model, so concurrent misses may run it more than once.
+	 */
+	static int resolve(EmbeddingModel embeddingModel, String key, IntSupplier probe) {
+		Map<String, Integer> dimensions = DIMENSIONS.computeIfAbsent(embeddingModel,
+				model -> new ConcurrentHashMap<>());
+		Integer cached = dimensions.get(key);
+		if (cached != null) {
+			return cached;
+		}
+		int resolved = probe.getAsInt();
+		Integer previous = dimensions.putIfAbsent(key, resolved);
+		return (previous != null) ? previous : resolved;
+	}
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.embedding;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link EmbeddingCache} storing each embedding as a little-endian float file named
+ * after its key in a local directory, so that embeddings survive restarts of the
+ * application.
+ *
+ * @since 1.0.0
+ */
+public class FileSystemEmbeddingCache implements EmbeddingCache {
+
+	private static final String FILE_EXTENSION = ".emb";
+
+	private final Path directory;
+
+	public FileSystemEmbeddingCache(Path directory) {
+		Assert.notNull(directory, "Directory must not be null");
+		try {
+			this.directory = Files.createDirectories(directory);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to create embedding cache directory " + directory, ex);
+		}
+	}
+
+	@Override
+	@Nullable
+	public float[] get(String key) {
+		byte[] bytes;
+		try {
+			bytes = Files.readAllBytes(file(key));
+		}
+		catch (NoSuchFileException ex) {
+			return null;
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to read cached embedding " + key, ex);
+		}
+		float[] embedding = new float[bytes.length / Float.BYTES];
+		ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(embedding);
+		return embedding;
+	}
+
+	@Override
+	public void put(String key, float[] embedding) {
+		ByteBuffer buffer = ByteBuffer.allocate(embedding.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.asFloatBuffer().put(embedding);
+		try {
+			// Write to a temporary file first so that readers never see a partial embedding.
+			Path tempFile = Files.createTempFile(this.directory, key, ".tmp");
+			try {
+				Files.write(tempFile, buffer.array());
+				Files.move(tempFile, file(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			finally {
+				Files.deleteIfExists(tempFile);
+			}
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to write cached embedding " + key, ex);
+		}
+	}
+
+	private Path file(String key) {
+		return this.directory.resolve(key + FILE_EXTENSION);
+	}
+
+}
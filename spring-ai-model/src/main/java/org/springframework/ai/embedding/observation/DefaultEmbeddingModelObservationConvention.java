@@ -92,6 +92,9 @@ public class DefaultEmbeddingModelObservationConvention implements EmbeddingMode
 		// Response
 		keyValues = usageInputTokens(keyValues, context);
 		keyValues = usageTotalTokens(keyValues, context);
+		// Cache
+		keyValues = cacheHits(keyValues, context);
+		keyValues = cacheMisses(keyValues, context);
 		return keyValues;
 	}
 
@@ -130,4 +133,23 @@ public class DefaultEmbeddingModelObservationConvention implements EmbeddingMode
 		return keyValues;
 	}
 
+	// Cache
+
+	protected KeyValues cacheHits(KeyValues keyValues, EmbeddingModelObservationContext context) {
+		if (context.getCacheHits() != null) {
+			return keyValues.and(EmbeddingModelObservationDocumentation.HighCardinalityKeyNames.CACHE_HITS.asString(),
+					String.valueOf(context.getCacheHits()));
+		}
+		return keyValues;
+	}
+
+	protected KeyValues cacheMisses(KeyValues keyValues, EmbeddingModelObservationContext context) {
+		if (context.getCacheMisses() != null) {
+			return keyValues.and(
+					EmbeddingModelObservationDocumentation.HighCardinalityKeyNames.CACHE_MISSES.asString(),
+					String.valueOf(context.getCacheMisses()));
+		}
+		return keyValues;
+	}
+
 }
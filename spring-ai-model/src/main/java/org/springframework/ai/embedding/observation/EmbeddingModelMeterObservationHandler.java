@@ -16,7 +16,14 @@
 
 package org.springframework.ai.embedding.observation;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
 import io.micrometer.observation.Observation;
 import io.micrometer.observation.ObservationHandler;
 
@@ -43,6 +50,27 @@ public class EmbeddingModelMeterObservationHandler implements ObservationHandler
 			ModelUsageMetricsGenerator.generate(context.getResponse().getMetadata().getUsage(), context,
 					this.meterRegistry);
 		}
+		if (context.getCacheHits() != null) {
+			incrementCacheCounter(EmbeddingModelObservationDocumentation.HighCardinalityKeyNames.CACHE_HITS,
+					"Measures number of embedding inputs served from the cache", context.getCacheHits(), context);
+		}
+		if (context.getCacheMisses() != null) {
+			incrementCacheCounter(EmbeddingModelObservationDocumentation.HighCardinalityKeyNames.CACHE_MISSES,
+					"Measures number of embedding inputs not found in the cache", context.getCacheMisses(), context);
+		}
+	}
+
+	private void incrementCacheCounter(KeyName name, String description, int amount,
+			EmbeddingModelObservationContext context) {
+		List<Tag> tags = new ArrayList<>();
+		for (KeyValue keyValue : context.getLowCardinalityKeyValues()) {
+			tags.add(Tag.of(keyValue.getKey(), keyValue.getValue()));
+		}
+		Counter.builder(name.asString())
+			.description(description)
+			.tags(tags)
+			.register(this.meterRegistry)
+			.increment(amount);
 	}
 
 	@Override
@@ -22,6 +22,7 @@ import org.springframework.ai.embedding.EmbeddingResponse;
 import org.springframework.ai.model.observation.ModelObservationContext;
 import org.springframework.ai.observation.AiOperationMetadata;
 import org.springframework.ai.observation.conventions.AiOperationType;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -34,6 +35,12 @@ public class EmbeddingModelObservationContext extends ModelObservationContext<Em
 
 	private final EmbeddingOptions requestOptions;
 
+	@Nullable
+	private Integer cacheHits;
+
+	@Nullable
+	private Integer cacheMisses;
+
 	EmbeddingModelObservationContext(EmbeddingRequest embeddingRequest, String provider,
 			EmbeddingOptions requestOptions) {
 		super(embeddingRequest,
@@ -57,6 +64,34 @@ public class EmbeddingModelObservationContext extends ModelObservationContext<Em
 		return this.requestOptions;
 	}
 
+	/**
+	 * Return the number of inputs served from an embedding cache, if the exchange went
+	 * through one.
+	 * @return the number of cache hits, or {@code null} if no cache was involved
+	 */
+	@Nullable
+	public Integer getCacheHits() {
+		return this.cacheHits;
+	}
+
+	public void setCacheHits(@Nullable Integer cacheHits) {
+		this.cacheHits = cacheHits;
+	}
+
+	/**
+	 * Return the number of inputs that were not found in an embedding cache, if the
+	 * exchange went through one.
+	 * @return the number of cache misses, or {@code null} if no cache was involved
+	 */
+	@Nullable
+	public Integer getCacheMisses() {
+		return this.cacheMisses;
+	}
+
+	public void setCacheMisses(@Nullable Integer cacheMisses) {
+		this.cacheMisses = cacheMisses;
+	}
+
 	public static final class Builder {
 
 		private EmbeddingRequest embeddingRequest;
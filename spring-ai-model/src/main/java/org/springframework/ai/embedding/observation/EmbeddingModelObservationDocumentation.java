@@ -134,6 +134,28 @@ public enum EmbeddingModelObservationDocumentation implements ObservationDocumen
 			public String asString() {
 				return AiObservationAttributes.USAGE_TOTAL_TOKENS.value();
 			}
+		},
+
+		// Cache
+
+		/**
+		 * The number of inputs served from the embedding cache.
+		 */
+		CACHE_HITS {
+			@Override
+			public String asString() {
+				return "spring.ai.embedding.cache.hits";
+			}
+		},
+
+		/**
+		 * The number of inputs not found in the embedding cache.
+		 */
+		CACHE_MISSES {
+			@Override
+			public String asString() {
+				return "spring.ai.embedding.cache.misses";
+			}
 		}
 
 	}
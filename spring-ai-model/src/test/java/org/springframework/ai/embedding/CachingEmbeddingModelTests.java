@@ -0,0 +1,183 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.embedding;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.observation.DefaultEmbeddingModelObservationConvention;
+import org.springframework.ai.embedding.observation.EmbeddingModelObservationDocumentation.HighCardinalityKeyNames;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingEmbeddingModelTests {
+
+	private final RecordingEmbeddingModel delegate = new RecordingEmbeddingModel();
+
+	@Test
+	void shouldOnlyEmbedMissingInputs() {
+		CachingEmbeddingModel embeddingModel = CachingEmbeddingModel.builder(this.delegate).build();
+
+		assertThat(embeddingModel.embed(List.of("a", "bb"))).containsExactly(new float[] { 1f }, new float[] { 2f });
+		assertThat(embeddingModel.embed(List.of("bb", "ccc", "ccc", "a")))
+			.containsExactly(new float[] { 2f }, new float[] { 3f }, new float[] { 3f }, new float[] { 1f });
+		assertThat(embeddingModel.embed("a")).containsExactly(1f);
+
+		assertThat(this.delegate.requests).containsExactly(List.of("a", "bb"), List.of("ccc"));
+	}
+
+	@Test
+	void shouldKeyEmbeddingsByOptions() {
+		CachingEmbeddingModel embeddingModel = CachingEmbeddingModel.builder(this.delegate).build();
+
+		embeddingModel.call(new EmbeddingRequest(List.of("a"), EmbeddingOptionsBuilder.builder().build()));
+		embeddingModel.call(new EmbeddingRequest(List.of("a"), EmbeddingOptionsBuilder.builder().build()));
+		embeddingModel
+			.call(new EmbeddingRequest(List.of("a"), EmbeddingOptionsBuilder.builder().withModel("other").build()));
+		embeddingModel.call(new EmbeddingRequest(List.of("a"),
+				EmbeddingOptionsBuilder.builder().withModel("other").withDimensions(8).build()));
+
+		assertThat(this.delegate.requests).hasSize(3);
+	}
+
+	@Test
+	void shouldEvictLeastRecentlyUsedEmbeddings() {
+		CachingEmbeddingModel embeddingModel = CachingEmbeddingModel.builder(this.delegate).maxSize(2).build();
+
+		embeddingModel.embed("a");
+		embeddingModel.embed("bb");
+		embeddingModel.embed("a");
+		embeddingModel.embed("ccc");
+		embeddingModel.embed("a");
+		embeddingModel.embed("bb");
+
+		assertThat(this.delegate.requests).containsExactly(List.of("a"), List.of("bb"), List.of("ccc"),
+				List.of("bb"));
+	}
+
+	@Test
+	void shouldExpireEmbeddings() throws InterruptedException {
+		CachingEmbeddingModel embeddingModel = CachingEmbeddingModel.builder(this.delegate)
+			.timeToLive(Duration.ofMillis(10))
+			.build();
+
+		embeddingModel.embed("a");
+		Thread.sleep(20);
+		embeddingModel.embed("a");
+
+		assertThat(this.delegate.requests).hasSize(2);
+	}
+
+	@Test
+	void shouldReadThroughSecondTier(@TempDir Path directory) {
+		CachingEmbeddingModel first = CachingEmbeddingModel.builder(this.delegate)
+			.secondTier(new FileSystemEmbeddingCache(directory))
+			.build();
+		first.embed(List.of("a", "bb"));
+
+		CachingEmbeddingModel second = CachingEmbeddingModel.builder(this.delegate)
+			.secondTier(new FileSystemEmbeddingCache(directory))
+			.build();
+		assertThat(second.embed(List.of("bb", "a"))).containsExactly(new float[] { 2f }, new float[] { 1f });
+		assertThat(second.embed(new Document("ccc"))).containsExactly(3f);
+		assertThat(second.embed(new Document("ccc"))).containsExactly(3f);
+
+		assertThat(this.delegate.requests).containsExactly(List.of("a", "bb"));
+		assertThat(this.delegate.documentCalls).isEqualTo(1);
+	}
+
+	@Test
+	void shouldObserveCacheHitsAndMisses() {
+		TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+		CachingEmbeddingModel embeddingModel = CachingEmbeddingModel.builder(this.delegate)
+			.observationRegistry(observationRegistry)
+			.build();
+
+		embeddingModel.embed(List.of("a"));
+		observationRegistry.clear();
+		embeddingModel.embed(List.of("a", "bb", "ccc"));
+
+		TestObservationRegistryAssert.assertThat(observationRegistry)
+			.doesNotHaveAnyRemainingCurrentObservation()
+			.hasObservationWithNameEqualTo(DefaultEmbeddingModelObservationConvention.DEFAULT_NAME)
+			.that()
+			.hasHighCardinalityKeyValue(HighCardinalityKeyNames.CACHE_HITS.asString(), "1")
+			.hasHighCardinalityKeyValue(HighCardinalityKeyNames.CACHE_MISSES.asString(), "2")
+			.hasBeenStarted()
+			.hasBeenStopped();
+	}
+
+	@Test
+	void shouldReportOnlyCacheCountersInMetadata() {
+		CachingEmbeddingModel embeddingModel = CachingEmbeddingModel.builder(this.delegate).build();
+
+		embeddingModel.embed(List.of("a"));
+		EmbeddingResponse response = embeddingModel.embedForResponse(List.of("a", "bb"));
+
+		assertThat(response.getMetadata().getUsage().getTotalTokens()).isZero();
+		assertThat(response.getMetadata().<Integer>get(CachingEmbeddingModel.CACHE_HITS_METADATA_KEY)).isEqualTo(1);
+		assertThat(response.getMetadata().<Integer>get(CachingEmbeddingModel.CACHE_MISSES_METADATA_KEY)).isEqualTo(1);
+	}
+
+	@Test
+	void shouldNotShareCachedEmbeddings() {
+		CachingEmbeddingModel embeddingModel = CachingEmbeddingModel.builder(this.delegate).build();
+
+		List<float[]> embeddings = embeddingModel.embed(List.of("a", "a"));
+		embeddings.get(0)[0] = 42f;
+		embeddingModel.embed("a")[0] = 42f;
+
+		assertThat(embeddings.get(1)).containsExactly(1f);
+		assertThat(embeddingModel.embed("a")).containsExactly(1f);
+	}
+
+	/**
+	 * Embeds a text as a single component vector holding its length.
+	 */
+	private static final class RecordingEmbeddingModel implements EmbeddingModel {
+
+		private final List<List<String>> requests = new ArrayList<>();
+
+		private int documentCalls;
+
+		@Override
+		public EmbeddingResponse call(EmbeddingRequest request) {
+			this.requests.add(request.getInstructions());
+			List<Embedding> embeddings = new ArrayList<>();
+			for (String input : request.getInstructions()) {
+				embeddings.add(new Embedding(new float[] { input.length() }, embeddings.size()));
+			}
+			return new EmbeddingResponse(embeddings);
+		}
+
+		@Override
+		public float[] embed(Document document) {
+			this.documentCalls++;
+			return new float[] { document.getText().length() };
+		}
+
+	}
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.embedding;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.document.Document;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrentEmbeddingModelTests {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final AtomicInteger maxObservedInFlight = new AtomicInteger();
+
+	private final AtomicInteger calls = new AtomicInteger();
+
+	@AfterEach
+	void shutdown() {
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	void shouldReturnEmbeddingsInDocumentOrder() {
+		ConcurrentEmbeddingModel embeddingModel = ConcurrentEmbeddingModel.builder(new SlowEmbeddingModel(null))
+			.executor(this.executor)
+			.maxInFlight(4)
+			.build();
+		List<Document> documents = documents(100);
+
+		List<float[]> embeddings = embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
+				singletonBatches());
+
+		assertThat(embeddings).hasSize(100);
+		for (int i = 0; i < 100; i++) {
+			assertThat(embeddings.get(i)).containsExactly(i);
+		}
+		assertThat(this.calls).hasValue(100);
+	}
+
+	@Test
+	void shouldNotExceedMaxInFlight() {
+		ConcurrentEmbeddingModel embeddingModel = ConcurrentEmbeddingModel.builder(new SlowEmbeddingModel(null))
+			.executor(this.executor)
+			.maxInFlight(3)
+			.build();
+
+		embeddingModel.embed(documents(50), EmbeddingOptionsBuilder.builder().build(), singletonBatches());
+
+		assertThat(this.maxObservedInFlight.get()).isBetween(1, 3);
+	}
+
+	@Test
+	void shouldPropagateBatchFailure() {
+		ConcurrentEmbeddingModel embeddingModel = ConcurrentEmbeddingModel.builder(new SlowEmbeddingModel("7"))
+			.executor(this.executor)
+			.build();
+
+		assertThatThrownBy(() -> embeddingModel.embed(documents(20), EmbeddingOptionsBuilder.builder().build(),
+				singletonBatches()))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("Rate limited");
+
+		embeddingModel.embed(documents(3), EmbeddingOptionsBuilder.builder().build(), singletonBatches());
+	}
+
+	@Test
+	void shouldUseDefaultExecutor() {
+		ConcurrentEmbeddingModel embeddingModel = ConcurrentEmbeddingModel.builder(new SlowEmbeddingModel(null))
+			.build();
+
+		assertThat(embeddingModel.embed(documents(10), EmbeddingOptionsBuilder.builder().build(), singletonBatches()))
+			.hasSize(10);
+		assertThat(embeddingModel.dimensions()).isEqualTo(1);
+	}
+
+	private static BatchingStrategy singletonBatches() {
+		return documents -> documents.stream().map(List::of).toList();
+	}
+
+	private static List<Document> documents(int count) {
+		return IntStream.range(0, count).mapToObj(i -> new Document(String.valueOf(i))).toList();
+	}
+
+	/**
+	 * Embeds a numeric text as a single component vector holding its value.
+	 */
+	private final class SlowEmbeddingModel implements EmbeddingModel {
+
+		private final String failingText;
+
+		SlowEmbeddingModel(String failingText) {
+			this.failingText = failingText;
+		}
+
+		@Override
+		public EmbeddingResponse call(EmbeddingRequest request) {
+			int current = ConcurrentEmbeddingModelTests.this.inFlight.incrementAndGet();
+			ConcurrentEmbeddingModelTests.this.maxObservedInFlight.accumulateAndGet(current, Math::max);
+			ConcurrentEmbeddingModelTests.this.calls.incrementAndGet();
+			try {
+				Thread.sleep(ThreadLocalRandom.current().nextInt(1, 10));
+				if (this.failingText != null && request.getInstructions().contains(this.failingText)) {
+					throw new IllegalStateException("Rate limited");
+				}
+				return new EmbeddingResponse(IntStream.range(0, request.getInstructions().size())
+					.mapToObj(i -> new Embedding(new float[] { Float.parseFloat(request.getInstructions().get(i)) }, i))
+					.toList());
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(ex);
+			}
+			finally {
+				ConcurrentEmbeddingModelTests.this.inFlight.decrementAndGet();
+			}
+		}
+
+		@Override
+		public float[] embed(Document document) {
+			return new float[] { Float.parseFloat(document.getText()) };
+		}
+
+		@Override
+		public int dimensions() {
+			return 1;
+		}
+
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.embedding;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EmbeddingDimensionsResolverTests {
+
+	@Mock
+	private EmbeddingModel embeddingModel;
+
+	@Test
+	void shouldResolveDimensionsOnce() {
+		given(this.embeddingModel.dimensions()).willReturn(384);
+
+		assertThat(EmbeddingDimensionsResolver.resolve(this.embeddingModel)).isEqualTo(384);
+		assertThat(EmbeddingDimensionsResolver.resolve(this.embeddingModel)).isEqualTo(384);
+
+		verify(this.embeddingModel, times(1)).dimensions();
+	}
+
+	@Test
+	void shouldResolveDimensionsAgainAfterEviction() {
+		given(this.embeddingModel.dimensions()).willReturn(384, 768);
+
+		assertThat(EmbeddingDimensionsResolver.resolve(this.embeddingModel)).isEqualTo(384);
+		EmbeddingDimensionsResolver.evict(this.embeddingModel);
+		assertThat(EmbeddingDimensionsResolver.resolve(this.embeddingModel)).isEqualTo(768);
+	}
+
+	@Test
+	void shouldUseRequestedDimensions() {
+		EmbeddingOptions options = EmbeddingOptionsBuilder.builder().withDimensions(256).build();
+
+		assertThat(EmbeddingDimensionsResolver.resolve(this.embeddingModel, options)).isEqualTo(256);
+
+		verify(this.embeddingModel, never()).call(any());
+		verify(this.embeddingModel, never()).dimensions();
+	}
+
+	@Test
+	void shouldResolveDimensionsOncePerOptions() {
+		given(this.embeddingModel.call(any())).willAnswer(invocation -> {
+			EmbeddingRequest request = invocation.getArgument(0);
+			int dimensions = "large".equals(request.getOptions().getModel()) ? 3 : 2;
+			return new EmbeddingResponse(List.of(new Embedding(new float[dimensions], 0)));
+		});
+		EmbeddingOptions small = EmbeddingOptionsBuilder.builder().withModel("small").build();
+		EmbeddingOptions large = EmbeddingOptionsBuilder.builder().withModel("large").build();
+
+		assertThat(EmbeddingDimensionsResolver.resolve(this.embeddingModel, small)).isEqualTo(2);
+		assertThat(EmbeddingDimensionsResolver.resolve(this.embeddingModel, large)).isEqualTo(3);
+		assertThat(EmbeddingDimensionsResolver.resolve(this.embeddingModel, small)).isEqualTo(2);
+		assertThat(EmbeddingDimensionsResolver.resolve(this.embeddingModel, large)).isEqualTo(3);
+
+		verify(this.embeddingModel, times(2)).call(any());
+	}
+
+	@Test
+	void shouldProbeUnknownModelsOnce() {
+		given(this.embeddingModel.embed("Hello world!")).willReturn(new float[] { 0.1f, 0.1f, 0.1f });
+
+		for (int i = 0; i < 2; i++) {
+			assertThat(AbstractEmbeddingModel.dimensions(this.embeddingModel, "unknown_model", "Hello world!"))
+				.isEqualTo(3);
+		}
+
+		verify(this.embeddingModel, times(1)).embed("Hello world!");
+	}
+
+}
@@ -125,7 +125,22 @@ class DefaultEmbeddingModelObservationConventionTests {
 			.map(KeyValue::getKey)
 			.toList()).doesNotContain(HighCardinalityKeyNames.REQUEST_EMBEDDING_DIMENSIONS.asString(),
 					HighCardinalityKeyNames.USAGE_INPUT_TOKENS.asString(),
-					HighCardinalityKeyNames.USAGE_TOTAL_TOKENS.asString());
+					HighCardinalityKeyNames.USAGE_TOTAL_TOKENS.asString(),
+					HighCardinalityKeyNames.CACHE_HITS.asString(), HighCardinalityKeyNames.CACHE_MISSES.asString());
+	}
+
+	@Test
+	void shouldHaveCacheKeyValuesWhenDefined() {
+		EmbeddingModelObservationContext observationContext = EmbeddingModelObservationContext.builder()
+			.embeddingRequest(generateEmbeddingRequest())
+			.provider("superprovider")
+			.requestOptions(EmbeddingOptionsBuilder.builder().build())
+			.build();
+		observationContext.setCacheHits(3);
+		observationContext.setCacheMisses(1);
+		assertThat(this.observationConvention.getHighCardinalityKeyValues(observationContext)).contains(
+				KeyValue.of(HighCardinalityKeyNames.CACHE_HITS.asString(), "3"),
+				KeyValue.of(HighCardinalityKeyNames.CACHE_MISSES.asString(), "1"));
 	}
 
 	private EmbeddingRequest generateEmbeddingRequest() {
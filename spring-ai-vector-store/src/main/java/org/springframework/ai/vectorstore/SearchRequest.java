@@ -16,6 +16,7 @@
 
 package org.springframework.ai.vectorstore;
 
+import java.util.Arrays;
 import java.util.Objects;
 
 import org.springframework.ai.document.Document;
@@ -59,8 +60,13 @@ public class SearchRequest {
 	@Nullable
 	private Filter.Expression filterExpression;
 
+	@Nullable
+	private float[] queryEmbedding;
+
 	/**
-	 * Copy an existing {@link SearchRequest.Builder} instance.
+	 * Copy an existing {@link SearchRequest.Builder} instance. The query embedding is not
+	 * copied, so that a copy with another query text does not search with the embedding
+	 * of the original query.
 	 * @param originalSearchRequest {@link SearchRequest} instance to copy.
 	 * @return Returns new {@link SearchRequest.Builder} instance.
 	 */
@@ -79,6 +85,7 @@ public class SearchRequest {
 		this.topK = original.topK;
 		this.similarityThreshold = original.similarityThreshold;
 		this.filterExpression = original.filterExpression;
+		this.queryEmbedding = (original.queryEmbedding != null) ? original.queryEmbedding.clone() : null;
 	}
 
 	public String getQuery() {
@@ -102,10 +109,24 @@ public class SearchRequest {
 		return this.filterExpression != null;
 	}
 
+	/**
+	 * Returns a copy of the query embedding.
+	 * @return the query embedding, or {@code null} if the query text is to be embedded
+	 */
+	@Nullable
+	public float[] getQueryEmbedding() {
+		return (this.queryEmbedding != null) ? this.queryEmbedding.clone() : null;
+	}
+
+	public boolean hasQueryEmbedding() {
+		return this.queryEmbedding != null;
+	}
+
 	@Override
 	public String toString() {
 		return "SearchRequest{" + "query='" + this.query + '\'' + ", topK=" + this.topK + ", similarityThreshold="
-				+ this.similarityThreshold + ", filterExpression=" + this.filterExpression + '}';
+				+ this.similarityThreshold + ", filterExpression=" + this.filterExpression + ", queryEmbedding="
+				+ ((this.queryEmbedding != null) ? this.queryEmbedding.length + " dimensions" : null) + '}';
 	}
 
 	@Override
@@ -119,12 +140,14 @@ public class SearchRequest {
 		SearchRequest that = (SearchRequest) o;
 		return this.topK == that.topK && Double.compare(that.similarityThreshold, this.similarityThreshold) == 0
 				&& Objects.equals(this.query, that.query)
-				&& Objects.equals(this.filterExpression, that.filterExpression);
+				&& Objects.equals(this.filterExpression, that.filterExpression)
+				&& Arrays.equals(this.queryEmbedding, that.queryEmbedding);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(this.query, this.topK, this.similarityThreshold, this.filterExpression);
+		return 31 * Objects.hash(this.query, this.topK, this.similarityThreshold, this.filterExpression)
+				+ Arrays.hashCode(this.queryEmbedding);
 	}
 
 	/**
@@ -287,6 +310,21 @@ public class SearchRequest {
 			return this;
 		}
 
+		/**
+		 * Embedding of the query, for example read from a cache or taken from an existing
+		 * document. When set, vector stores search with this embedding instead of
+		 * embedding the {@link #query(String) query} text. The embedding must come from
+		 * the same embedding model as the embeddings of the stored documents. The embedding
+		 * is copied, and is not copied by {@link SearchRequest#from(SearchRequest)}.
+		 * @param queryEmbedding the query embedding, or 'null' to embed the query text.
+		 * @return this builder.
+		 */
+		public Builder queryEmbedding(@Nullable float[] queryEmbedding) {
+			Assert.isTrue(queryEmbedding == null || queryEmbedding.length > 0, "Query embedding must not be empty.");
+			this.searchRequest.queryEmbedding = (queryEmbedding != null) ? queryEmbedding.clone() : null;
+			return this;
+		}
+
 		public SearchRequest build() {
 			return this.searchRequest;
 		}
@@ -16,44 +16,49 @@
 
 package org.springframework.ai.vectorstore;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
-import java.util.Comparator;
-import java.util.HashMap;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
+import java.util.stream.Collector;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.BatchingStrategy;
+import org.springframework.ai.embedding.ConcurrentEmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingDimensionsResolver;
 import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
 import org.springframework.ai.observation.conventions.VectorStoreSimilarityMetric;
 import org.springframework.ai.util.JacksonUtils;
-import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
-import org.springframework.ai.vectorstore.filter.converter.SimpleVectorStoreFilterExpressionConverter;
+import org.springframework.ai.vectorstore.filter.FilterExpressionPredicateCompiler;
 import org.springframework.ai.vectorstore.observation.AbstractObservationVectorStore;
 import org.springframework.ai.vectorstore.observation.VectorStoreObservationContext;
 import org.springframework.core.io.Resource;
-import org.springframework.expression.ExpressionParser;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * SimpleVectorStore is a simple implementation of the VectorStore interface.
@@ -65,6 +70,19 @@ import org.springframework.expression.spel.support.StandardEvaluationContext;
  * calculating similarity scores among vectors, refer to this
  * [resource](https://docs.spring.io/spring-ai/reference/api/vectordbs.html#_understanding_vectors).
  *
+ * By default every search is an exact scan over all stored vectors. For large stores an
+ * in-memory HNSW index can be enabled with
+ * {@link SimpleVectorStoreBuilder#indexType(IndexType)} to trade some recall for
+ * sub-linear search time. Alternatively,
+ * {@link SimpleVectorStoreBuilder#quantizationType(QuantizationType)} speeds up exact
+ * scans by scanning int8 quantized embeddings before re-ranking the best candidates.
+ * Only the quantized codes stay on the heap, which shrinks the resident embeddings to a
+ * quarter: the full precision embeddings are moved to a memory mapped temporary file.
+ *
+ * Besides explicit {@link #save(File) save} and {@link #load(File) load} calls, the store
+ * can persist continuously through a write-ahead log enabled with
+ * {@link SimpleVectorStoreBuilder#writeAheadLog(Path)}.
+ *
  * @author Raphael Yu
  * @author Dingmeng Xue
  * @author Mark Pollack
@@ -78,19 +96,74 @@ public class SimpleVectorStore extends AbstractObservationVectorStore {
 
 	private static final Logger logger = LoggerFactory.getLogger(SimpleVectorStore.class);
 
+	/**
+	 * Below this number of candidates a parallel scan costs more than it saves.
+	 */
+	private static final int PARALLEL_SEARCH_MIN_SIZE = 4096;
+
 	private final ObjectMapper objectMapper;
 
-	private final ExpressionParser expressionParser;
+	@Nullable
+	private final SimpleVectorStoreHnswIndex hnswIndex;
+
+	private final int hnswEfSearch;
+
+	private final double filteredExactSearchThreshold;
+
+	@Nullable
+	private final ForkJoinPool forkJoinPool;
+
+	@Nullable
+	private final SimpleVectorStoreMetadataIndex metadataIndex;
+
+	@Nullable
+	private final SimpleVectorStoreQuantizedIndex quantizedIndex;
+
+	private final int rerankFactor;
+
+	@Nullable
+	private final SimpleVectorStoreWriteAheadLog writeAheadLog;
+
+	/**
+	 * Serializes the mutations of the store, their write-ahead log entries and the
+	 * replacement of the whole content by a load.
+	 */
+	private final Object mutationLock = new Object();
 
-	private final FilterExpressionConverter filterExpressionConverter;
+	private final EmbeddingModel documentEmbeddingModel;
 
 	protected Map<String, SimpleVectorStoreContent> store = new ConcurrentHashMap<>();
 
 	protected SimpleVectorStore(SimpleVectorStoreBuilder builder) {
 		super(builder);
 		this.objectMapper = JsonMapper.builder().addModules(JacksonUtils.instantiateAvailableModules()).build();
-		this.expressionParser = new SpelExpressionParser();
-		this.filterExpressionConverter = new SimpleVectorStoreFilterExpressionConverter();
+		this.hnswIndex = (builder.indexType == IndexType.HNSW)
+				? new SimpleVectorStoreHnswIndex(builder.hnswM, builder.hnswEfConstruction) : null;
+		this.hnswEfSearch = builder.hnswEfSearch;
+		this.filteredExactSearchThreshold = builder.filteredExactSearchThreshold;
+		this.forkJoinPool = builder.parallelSearch ? builder.forkJoinPool : null;
+		this.metadataIndex = builder.indexedMetadataKeys.isEmpty() ? null
+				: new SimpleVectorStoreMetadataIndex(builder.indexedMetadataKeys);
+		this.quantizedIndex = (builder.quantizationType == QuantizationType.INT8)
+				? new SimpleVectorStoreQuantizedIndex() : null;
+		this.rerankFactor = builder.rerankFactor;
+		this.documentEmbeddingModel = (builder.embeddingExecutor != null) ? ConcurrentEmbeddingModel
+			.builder(this.embeddingModel)
+			.executor(builder.embeddingExecutor)
+			.maxInFlight(builder.embeddingMaxInFlight)
+			.build() : this.embeddingModel;
+		this.writeAheadLog = (builder.writeAheadLogDirectory != null) ? new SimpleVectorStoreWriteAheadLog(
+				builder.writeAheadLogDirectory, builder.compactionThreshold, this.objectMapper) : null;
+		if (this.writeAheadLog != null) {
+			try {
+				this.store = this.writeAheadLog.recover();
+			}
+			catch (IOException ex) {
+				throw new RuntimeException(
+						"Failed to recover vector store from " + builder.writeAheadLogDirectory, ex);
+			}
+			rebuildIndexes();
+		}
 	}
 
 	/**
@@ -108,45 +181,235 @@ public class SimpleVectorStore extends AbstractObservationVectorStore {
 			throw new IllegalArgumentException("Documents list cannot be empty");
 		}
 
-		for (Document document : documents) {
-			logger.info("Calling EmbeddingModel for document id = {}", document.getId());
-			float[] embedding = this.embeddingModel.embed(document);
-			SimpleVectorStoreContent storeContent = new SimpleVectorStoreContent(document.getId(), document.getText(),
-					document.getMetadata(), embedding);
-			this.store.put(document.getId(), storeContent);
+		List<float[]> embeddings = embed(documents);
+		List<SimpleVectorStoreContent> contents = new ArrayList<>(documents.size());
+		for (int i = 0; i < documents.size(); i++) {
+			Document document = documents.get(i);
+			contents.add(new SimpleVectorStoreContent(document.getId(), document.getText(), document.getMetadata(),
+					embeddings.get(i)));
 		}
+		applyLogged(log -> log.appendAdd(contents), () -> validateDimensions(contents),
+				() -> contents.forEach(this::putContent));
+	}
+
+	/**
+	 * Embeds the documents in the batches of the configured {@link BatchingStrategy}.
+	 * With an embedding executor configured, the batches are sent to the embedding
+	 * model concurrently through a {@link ConcurrentEmbeddingModel}.
+	 */
+	private List<float[]> embed(List<Document> documents) {
+		return this.documentEmbeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
+				this.batchingStrategy);
 	}
 
 	@Override
 	public void doDelete(List<String> idList) {
-		for (String id : idList) {
-			this.store.remove(id);
+		applyLogged(log -> log.appendDelete(idList), () -> {
+		}, () -> idList.forEach(this::removeContent));
+	}
+
+	private void putContent(SimpleVectorStoreContent added) {
+		// With quantization, store the content reading its embedding from the index.
+		SimpleVectorStoreContent content = (this.quantizedIndex != null) ? this.quantizedIndex.add(added) : added;
+		SimpleVectorStoreContent previous = this.store.put(content.getId(), content);
+		if (this.metadataIndex != null) {
+			if (previous != null) {
+				this.metadataIndex.remove(previous);
+			}
+			this.metadataIndex.add(content);
+		}
+		if (this.hnswIndex != null) {
+			this.hnswIndex.add(content.getId(), content.embedding());
+		}
+	}
+
+	/**
+	 * Checks that the contents can be added to the configured indexes, which require all
+	 * embeddings to have the same dimensions, before any of them is applied.
+	 * @throws IllegalArgumentException if an embedding has other dimensions than the
+	 * ones already stored or the others of the batch
+	 */
+	private void validateDimensions(List<SimpleVectorStoreContent> contents) {
+		if (this.hnswIndex == null && this.quantizedIndex == null) {
+			return;
+		}
+		int dimensions = this.store.values()
+			.stream()
+			.findAny()
+			.map(SimpleVectorStoreContent::dimensions)
+			.orElseGet(() -> contents.get(0).dimensions());
+		for (SimpleVectorStoreContent content : contents) {
+			if (content.dimensions() != dimensions) {
+				throw new IllegalArgumentException("Embedding of document " + content.getId() + " has "
+						+ content.dimensions() + " dimensions, expected " + dimensions);
+			}
+		}
+	}
+
+	private void removeContent(String id) {
+		SimpleVectorStoreContent removed = this.store.remove(id);
+		if (removed != null && this.metadataIndex != null) {
+			this.metadataIndex.remove(removed);
+		}
+		if (this.hnswIndex != null) {
+			this.hnswIndex.remove(id);
+		}
+		if (this.quantizedIndex != null) {
+			this.quantizedIndex.remove(id);
+		}
+	}
+
+	/**
+	 * Validates a store mutation, appends it to the write-ahead log when one is
+	 * configured, and only then applies it, all within the same critical section. A
+	 * mutation rejected by the validation, for example because of an embedding
+	 * dimension mismatch, leaves both the store and the log untouched, and a mutation
+	 * that cannot be logged is not applied. Mutations are serialized so that the log
+	 * order matches the order in which they were applied.
+	 */
+	private void applyLogged(WriteAheadLogAppender appender, Runnable validation, Runnable mutation) {
+		boolean compactionDue = false;
+		synchronized (this.mutationLock) {
+			validation.run();
+			if (this.writeAheadLog != null) {
+				try {
+					appender.append(this.writeAheadLog);
+				}
+				catch (IOException ex) {
+					throw new RuntimeException("Failed to append to the vector store write-ahead log", ex);
+				}
+				compactionDue = this.writeAheadLog.isCompactionDue();
+			}
+			mutation.run();
+		}
+		if (compactionDue) {
+			compact();
 		}
 	}
 
 	@Override
-	public List<Document> doSimilaritySearch(SearchRequest request) {
+	protected List<Document> doSimilaritySearch(SearchRequest request, float[] userQueryEmbedding) {
 		Predicate<SimpleVectorStoreContent> documentFilterPredicate = doFilterPredicate(request);
-		float[] userQueryEmbedding = getUserQueryEmbedding(request.getQuery());
-		return this.store.values()
-			.stream()
-			.filter(documentFilterPredicate)
-			.map(content -> content
-				.toDocument(EmbeddingMath.cosineSimilarity(userQueryEmbedding, content.getEmbedding())))
-			.filter(document -> document.getScore() >= request.getSimilarityThreshold())
-			.sorted(Comparator.comparing(Document::getScore).reversed())
-			.limit(request.getTopK())
-			.toList();
+		Set<String> candidateIds = filterCandidateIds(request);
+		Collection<SimpleVectorStoreContent> candidates = (candidateIds != null)
+				? candidateIds.stream().map(this.store::get).filter(Objects::nonNull).toList() : this.store.values();
+		if (this.hnswIndex != null) {
+			return approximateSimilaritySearch(request, userQueryEmbedding, candidates, documentFilterPredicate);
+		}
+		if (this.quantizedIndex != null && candidateIds == null) {
+			return quantizedSimilaritySearch(request, userQueryEmbedding, documentFilterPredicate);
+		}
+		return exactSimilaritySearch(candidates, documentFilterPredicate, request, userQueryEmbedding);
 	}
 
+	/**
+	 * Resolves the ids of the documents to score with the metadata index.
+	 * @return the candidate ids, or {@code null} if the request filter does not constrain
+	 * any indexed key and the whole store must be scored
+	 */
+	@Nullable
+	private Set<String> filterCandidateIds(SearchRequest request) {
+		if (this.metadataIndex == null || !request.hasFilterExpression()) {
+			return null;
+		}
+		return this.metadataIndex.candidates(request.getFilterExpression());
+	}
+
+	/**
+	 * Scores every content matching the filter and keeps the best {@code topK} in a
+	 * bounded heap. With parallel search enabled, large scans are split across the
+	 * configured {@link ForkJoinPool} and the per-thread heaps are merged.
+	 */
+	private List<Document> exactSimilaritySearch(Collection<SimpleVectorStoreContent> contents,
+			Predicate<SimpleVectorStoreContent> documentFilterPredicate, SearchRequest request,
+			float[] userQueryEmbedding) {
+		double queryMagnitude = EmbeddingMath.magnitude(userQueryEmbedding);
+		Collector<SimpleVectorStoreContent, ?, SimpleVectorStoreTopK> topKCollector = SimpleVectorStoreTopK.collector(
+				Math.min(request.getTopK(), contents.size()), request.getSimilarityThreshold(),
+				content -> content.cosineSimilarity(userQueryEmbedding, queryMagnitude));
+		SimpleVectorStoreTopK topK;
+		if (this.forkJoinPool != null && contents.size() >= PARALLEL_SEARCH_MIN_SIZE) {
+			topK = this.forkJoinPool
+				.submit(() -> contents.parallelStream().filter(documentFilterPredicate).collect(topKCollector))
+				.join();
+		}
+		else {
+			topK = contents.stream().filter(documentFilterPredicate).collect(topKCollector);
+		}
+		return topK.toDocuments();
+	}
+
+	/**
+	 * Searches the HNSW index. When the request filter matches only a small fraction of
+	 * the store, the graph traversal would have to visit most nodes to collect enough
+	 * matches, so the matching documents are scanned exactly instead. Matches are only
+	 * counted up to that fraction, so filters matching many documents go straight to the
+	 * index, which applies the filter to the nodes it visits. The candidates returned by
+	 * the index are re-scored exactly, so scores are identical to the exact search.
+	 */
+	private List<Document> approximateSimilaritySearch(SearchRequest request, float[] userQueryEmbedding,
+			Collection<SimpleVectorStoreContent> candidates,
+			Predicate<SimpleVectorStoreContent> documentFilterPredicate) {
+		Predicate<String> idFilter = id -> true;
+		if (request.hasFilterExpression()) {
+			long exactSearchMaxMatches = (long) (this.store.size() * this.filteredExactSearchThreshold);
+			long matchCount = candidates.stream()
+				.filter(documentFilterPredicate)
+				.limit(exactSearchMaxMatches + 1)
+				.count();
+			if (matchCount <= exactSearchMaxMatches) {
+				return exactSimilaritySearch(candidates, documentFilterPredicate, request, userQueryEmbedding);
+			}
+			idFilter = id -> {
+				SimpleVectorStoreContent content = this.store.get(id);
+				return content != null && documentFilterPredicate.test(content);
+			};
+		}
+		List<String> ids = this.hnswIndex.search(userQueryEmbedding, request.getTopK(), this.hnswEfSearch, idFilter);
+		List<SimpleVectorStoreContent> nearest = ids.stream().map(this.store::get).filter(Objects::nonNull).toList();
+		return exactSimilaritySearch(nearest, content -> true, request, userQueryEmbedding);
+	}
+
+	/**
+	 * Scans the quantized embeddings for {@code rerankFactor} times {@code topK}
+	 * candidates and re-ranks them with the exact embeddings, so returned scores are
+	 * identical to the exact search.
+	 */
+	private List<Document> quantizedSimilaritySearch(SearchRequest request, float[] userQueryEmbedding,
+			Predicate<SimpleVectorStoreContent> documentFilterPredicate) {
+		int limit = (int) Math.min(Integer.MAX_VALUE, (long) request.getTopK() * this.rerankFactor);
+		return this.quantizedIndex
+			.search(userQueryEmbedding, limit, request.getTopK(), request.getSimilarityThreshold(),
+					documentFilterPredicate, this.forkJoinPool)
+			.toDocuments();
+	}
+
+	private void rebuildIndexes() {
+		if (this.quantizedIndex != null) {
+			this.quantizedIndex.clear();
+			this.store.replaceAll((id, content) -> this.quantizedIndex.add(content));
+		}
+		if (this.metadataIndex != null) {
+			this.metadataIndex.clear();
+			this.store.values().forEach(this.metadataIndex::add);
+		}
+		if (this.hnswIndex != null) {
+			this.hnswIndex.clear();
+			this.store.values().forEach(content -> this.hnswIndex.add(content.getId(), content.embedding()));
+		}
+	}
+
+	/**
+	 * Compiles the request filter once into a metadata predicate, so the per-document
+	 * cost of filtering is a few map lookups and comparisons.
+	 */
 	private Predicate<SimpleVectorStoreContent> doFilterPredicate(SearchRequest request) {
-		return request.hasFilterExpression() ? document -> {
-			StandardEvaluationContext context = new StandardEvaluationContext();
-			context.setVariable("metadata", document.getMetadata());
-			return this.expressionParser
-				.parseExpression(this.filterExpressionConverter.convertExpression(request.getFilterExpression()))
-				.getValue(context, Boolean.class);
-		} : document -> true;
+		if (!request.hasFilterExpression()) {
+			return document -> true;
+		}
+		Predicate<Map<String, Object>> metadataPredicate = FilterExpressionPredicateCompiler
+			.compile(request.getFilterExpression());
+		return document -> metadataPredicate.test(document.getMetadata());
 	}
 
 	/**
@@ -154,7 +417,6 @@ public class SimpleVectorStore extends AbstractObservationVectorStore {
 	 * @param file the file to save the vector store content
 	 */
 	public void save(File file) {
-		String json = getVectorDbAsJson();
 		try {
 			if (!file.exists()) {
 				logger.info("Creating new vector store file: {}", file);
@@ -171,10 +433,8 @@ public class SimpleVectorStore extends AbstractObservationVectorStore {
 			else {
 				logger.info("Overwriting existing vector store file: {}", file);
 			}
-			try (OutputStream stream = new FileOutputStream(file);
-					Writer writer = new OutputStreamWriter(stream, StandardCharsets.UTF_8)) {
-				writer.write(json);
-				writer.flush();
+			try (OutputStream stream = new BufferedOutputStream(new FileOutputStream(file))) {
+				SimpleVectorStoreJsonFormat.write(stream, this.store.values(), this.objectMapper);
 			}
 		}
 		catch (IOException ex) {
@@ -196,15 +456,14 @@ public class SimpleVectorStore extends AbstractObservationVectorStore {
 	 * @param file the file to load the vector store content
 	 */
 	public void load(File file) {
-		TypeReference<HashMap<String, SimpleVectorStoreContent>> typeRef = new TypeReference<>() {
-
-		};
-		try {
-			this.store = this.objectMapper.readValue(file, typeRef);
+		Map<String, SimpleVectorStoreContent> contents;
+		try (InputStream stream = new BufferedInputStream(new FileInputStream(file))) {
+			contents = SimpleVectorStoreJsonFormat.read(stream, this.objectMapper);
 		}
 		catch (IOException ex) {
 			throw new RuntimeException(ex);
 		}
+		replaceStore(contents);
 	}
 
 	/**
@@ -212,40 +471,146 @@ public class SimpleVectorStore extends AbstractObservationVectorStore {
 	 * @param resource the resource to load the vector store content
 	 */
 	public void load(Resource resource) {
-		TypeReference<HashMap<String, SimpleVectorStoreContent>> typeRef = new TypeReference<>() {
+		Map<String, SimpleVectorStoreContent> contents;
+		try (InputStream stream = resource.getInputStream()) {
+			contents = SimpleVectorStoreJsonFormat.read(stream, this.objectMapper);
+		}
+		catch (IOException ex) {
+			throw new RuntimeException(ex);
+		}
+		replaceStore(contents);
+	}
 
-		};
+	/**
+	 * Serialize the vector store content into a file in the compact binary format: a
+	 * float32 vector block followed by an offset-indexed block of document ids, texts
+	 * and metadata. All embeddings must have the same dimensions.
+	 * @param file the file to save the vector store content
+	 */
+	public void saveBinary(File file) {
 		try {
-			this.store = this.objectMapper.readValue(resource.getInputStream(), typeRef);
+			logger.info("Saving vector store in binary format to file: {}", file);
+			SimpleVectorStoreBinaryFormat.write(file.toPath(), this.store.values(), this.objectMapper);
+		}
+		catch (IOException ex) {
+			logger.error("IOException occurred while saving vector store file.", ex);
+			throw new RuntimeException(ex);
+		}
+	}
+
+	/**
+	 * Deserialize the vector store content from a file in the binary format written by
+	 * {@link #saveBinary(File)}. The file is memory mapped and only the document ids are
+	 * read up front, so loading is nearly instant: embeddings are scored directly from
+	 * the mapping and the text and metadata of a document are decoded when first
+	 * accessed. An {@link IndexType#HNSW HNSW} index still builds a heap copy of the
+	 * vectors, and a {@link QuantizationType#INT8 quantized} one its own codes. The file
+	 * must not be modified while the store uses it, other than by
+	 * {@link #saveBinary(File)}, which replaces it.
+	 * @param file the file to load the vector store content
+	 */
+	public void loadBinary(File file) {
+		Map<String, SimpleVectorStoreContent> contents;
+		try {
+			contents = SimpleVectorStoreBinaryFormat.read(file.toPath(), this.objectMapper);
 		}
 		catch (IOException ex) {
 			throw new RuntimeException(ex);
 		}
+		replaceStore(contents);
 	}
 
-	private String getVectorDbAsJson() {
-		ObjectWriter objectWriter = this.objectMapper.writerWithDefaultPrettyPrinter();
+	/**
+	 * Compacts the write-ahead log into a new snapshot of the current content. Called
+	 * automatically once the configured number of operations has been logged. Does
+	 * nothing if a compaction is already in progress.
+	 * @throws IllegalStateException if no write-ahead log is configured
+	 * @see SimpleVectorStoreBuilder#writeAheadLog(Path)
+	 */
+	public void compact() {
+		Assert.state(this.writeAheadLog != null, "No write-ahead log is configured");
+		List<SimpleVectorStoreContent> snapshot;
 		try {
-			return objectWriter.writeValueAsString(this.store);
+			synchronized (this.mutationLock) {
+				if (!this.writeAheadLog.rotate()) {
+					return;
+				}
+				snapshot = new ArrayList<>(this.store.values());
+			}
+			try {
+				// Written outside the lock: concurrent mutations go to the new active log.
+				this.writeAheadLog.writeSnapshot(snapshot);
+			}
+			finally {
+				synchronized (this.mutationLock) {
+					this.mutationLock.notifyAll();
+				}
+			}
 		}
-		catch (JsonProcessingException e) {
-			throw new RuntimeException("Error serializing documentMap to JSON.", e);
+		catch (IOException ex) {
+			logger.error("IOException occurred while compacting vector store write-ahead log.", ex);
+			throw new RuntimeException(ex);
 		}
 	}
 
-	private float[] getUserQueryEmbedding(String query) {
-		return this.embeddingModel.embed(query);
+	/**
+	 * Replaces the whole content of the store with loaded contents. With a write-ahead
+	 * log configured, the loaded contents are snapshotted in the same critical section,
+	 * after any compaction in progress has completed, so that concurrent mutations are
+	 * neither lost nor logged against the previous content.
+	 */
+	private void replaceStore(Map<String, SimpleVectorStoreContent> contents) {
+		synchronized (this.mutationLock) {
+			if (this.writeAheadLog == null) {
+				this.store = contents;
+				rebuildIndexes();
+				return;
+			}
+			try {
+				while (!this.writeAheadLog.rotate()) {
+					this.mutationLock.wait();
+				}
+				this.store = contents;
+				rebuildIndexes();
+				this.writeAheadLog.writeSnapshot(new ArrayList<>(contents.values()));
+			}
+			catch (IOException ex) {
+				logger.error("IOException occurred while snapshotting loaded vector store content.", ex);
+				throw new RuntimeException(ex);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while waiting for a compaction to complete", ex);
+			}
+		}
 	}
 
 	@Override
 	public VectorStoreObservationContext.Builder createObservationContextBuilder(String operationName) {
 
 		return VectorStoreObservationContext.builder(VectorStoreProvider.SIMPLE.value(), operationName)
-			.dimensions(this.embeddingModel.dimensions())
+			.dimensions(EmbeddingDimensionsResolver.resolve(this.embeddingModel))
 			.collectionName("in-memory-map")
 			.similarityMetric(VectorStoreSimilarityMetric.COSINE.value());
 	}
 
+	/**
+	 * Appends a mutation to the write-ahead log.
+	 */
+	@FunctionalInterface
+	private interface WriteAheadLogAppender {
+
+		void append(SimpleVectorStoreWriteAheadLog log) throws IOException;
+
+	}
+
+	/**
+	 * Vector math used by the {@link SimpleVectorStore}. The dot product kernel is
+	 * unrolled over four independent accumulators, which removes the loop-carried
+	 * dependency of a naive float reduction and lets the JIT pipeline the
+	 * multiply-adds. Because the additions are reordered, results may differ from a
+	 * sequential loop in the last few ulps.
+	 */
 	public static final class EmbeddingMath {
 
 		private EmbeddingMath() {
@@ -256,46 +621,386 @@ public class SimpleVectorStore extends AbstractObservationVectorStore {
 			if (vectorX == null || vectorY == null) {
 				throw new RuntimeException("Vectors must not be null");
 			}
-			if (vectorX.length != vectorY.length) {
-				throw new IllegalArgumentException("Vectors lengths must be equal");
-			}
-
-			float dotProduct = dotProduct(vectorX, vectorY);
-			float normX = norm(vectorX);
-			float normY = norm(vectorY);
+			return cosineSimilarity(vectorX, magnitude(vectorX), vectorY, magnitude(vectorY));
+		}
 
-			if (normX == 0 || normY == 0) {
+		/**
+		 * Computes the cosine similarity of two vectors whose magnitudes are already
+		 * known, reducing the computation to a single dot product. Produces exactly the
+		 * same result as {@link #cosineSimilarity(float[], float[])}.
+		 * @param vectorX the first vector
+		 * @param magnitudeX the magnitude of the first vector, see
+		 * {@link #magnitude(float[])}
+		 * @param vectorY the second vector
+		 * @param magnitudeY the magnitude of the second vector, see
+		 * {@link #magnitude(float[])}
+		 * @return the cosine similarity
+		 */
+		public static double cosineSimilarity(float[] vectorX, double magnitudeX, float[] vectorY,
+				double magnitudeY) {
+			if (magnitudeX == 0 || magnitudeY == 0) {
 				throw new IllegalArgumentException("Vectors cannot have zero norm");
 			}
-
-			return dotProduct / (Math.sqrt(normX) * Math.sqrt(normY));
+			return dotProduct(vectorX, vectorY) / (magnitudeX * magnitudeY);
 		}
 
 		public static float dotProduct(float[] vectorX, float[] vectorY) {
 			if (vectorX.length != vectorY.length) {
 				throw new IllegalArgumentException("Vectors lengths must be equal");
 			}
+			return dotProduct(vectorX, 0, vectorY, 0, vectorX.length);
+		}
 
-			float result = 0;
-			for (int i = 0; i < vectorX.length; ++i) {
-				result += vectorX[i] * vectorY[i];
+		/**
+		 * Computes the dot product of the query vector with every row of a row-major
+		 * matrix of vectors stored contiguously in a single array.
+		 * @param vector the query vector
+		 * @param matrix the matrix, holding {@code result.length} rows of
+		 * {@code vector.length} elements each
+		 * @param result receives the dot product of the query vector with each row
+		 */
+		public static void dotProducts(float[] vector, float[] matrix, float[] result) {
+			int dimensions = vector.length;
+			if ((long) dimensions * result.length != matrix.length) {
+				throw new IllegalArgumentException("Matrix size must be equal to vector length times result length");
+			}
+			for (int row = 0, offset = 0; row < result.length; row++, offset += dimensions) {
+				result[row] = dotProduct(vector, 0, matrix, offset, dimensions);
 			}
-
-			return result;
 		}
 
 		public static float norm(float[] vector) {
 			return dotProduct(vector, vector);
 		}
 
+		/**
+		 * Returns the magnitude (Euclidean length) of the vector.
+		 * @param vector the vector
+		 * @return the square root of {@link #norm(float[])}
+		 */
+		public static double magnitude(float[] vector) {
+			return Math.sqrt(norm(vector));
+		}
+
+		/**
+		 * Returns a unit-length copy of the vector. A zero vector is returned as a zero
+		 * vector.
+		 * @param vector the vector to normalize
+		 * @return the normalized copy
+		 */
+		public static float[] normalize(float[] vector) {
+			float[] normalized = new float[vector.length];
+			double magnitude = magnitude(vector);
+			if (magnitude == 0) {
+				return normalized;
+			}
+			for (int i = 0; i < vector.length; i++) {
+				normalized[i] = (float) (vector[i] / magnitude);
+			}
+			return normalized;
+		}
+
+		private static float dotProduct(float[] vectorX, int offsetX, float[] vectorY, int offsetY, int length) {
+			float sum0 = 0;
+			float sum1 = 0;
+			float sum2 = 0;
+			float sum3 = 0;
+			int i = 0;
+			int upperBound = length & ~3;
+			for (; i < upperBound; i += 4) {
+				sum0 += vectorX[offsetX + i] * vectorY[offsetY + i];
+				sum1 += vectorX[offsetX + i + 1] * vectorY[offsetY + i + 1];
+				sum2 += vectorX[offsetX + i + 2] * vectorY[offsetY + i + 2];
+				sum3 += vectorX[offsetX + i + 3] * vectorY[offsetY + i + 3];
+			}
+			for (; i < length; i++) {
+				sum0 += vectorX[offsetX + i] * vectorY[offsetY + i];
+			}
+			return (sum0 + sum1) + (sum2 + sum3);
+		}
+
+	}
+
+	/**
+	 * The index used to answer similarity searches.
+	 */
+	public enum IndexType {
+
+		/**
+		 * Performs an exact scan over all stored vectors, which provides perfect recall.
+		 */
+		NONE,
+		/**
+		 * Maintains an in-memory HNSW graph, updated incrementally on add and delete. It
+		 * uses more memory and slows down ingestion, but answers searches in sub-linear
+		 * time at the cost of some recall.
+		 */
+		HNSW
+
+	}
+
+	/**
+	 * The quantization of the embeddings scanned by exact searches.
+	 */
+	public enum QuantizationType {
+
+		/**
+		 * Scans the full precision embeddings.
+		 */
+		NONE,
+		/**
+		 * Scans the embeddings quantized to one signed byte per dimension, which reads a
+		 * quarter of the memory of a full precision scan, and re-ranks the best
+		 * candidates with the full precision embeddings. Only the quantized codes are
+		 * kept on the heap; the full precision embeddings are kept in a memory mapped
+		 * temporary file that the operating system pages in on demand.
+		 */
+		INT8
+
 	}
 
 	public static final class SimpleVectorStoreBuilder extends AbstractVectorStoreBuilder<SimpleVectorStoreBuilder> {
 
+		public static final int DEFAULT_HNSW_M = 16;
+
+		public static final int DEFAULT_HNSW_EF_CONSTRUCTION = 200;
+
+		public static final int DEFAULT_HNSW_EF_SEARCH = 64;
+
+		public static final double DEFAULT_FILTERED_EXACT_SEARCH_THRESHOLD = 0.05;
+
+		public static final int DEFAULT_COMPACTION_THRESHOLD = 10_000;
+
+		public static final int DEFAULT_RERANK_FACTOR = 4;
+
+		private IndexType indexType = IndexType.NONE;
+
+		private int hnswM = DEFAULT_HNSW_M;
+
+		private int hnswEfConstruction = DEFAULT_HNSW_EF_CONSTRUCTION;
+
+		private int hnswEfSearch = DEFAULT_HNSW_EF_SEARCH;
+
+		private double filteredExactSearchThreshold = DEFAULT_FILTERED_EXACT_SEARCH_THRESHOLD;
+
+		private boolean parallelSearch = false;
+
+		private ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();
+
+		private Set<String> indexedMetadataKeys = Set.of();
+
+		@Nullable
+		private Path writeAheadLogDirectory;
+
+		private int compactionThreshold = DEFAULT_COMPACTION_THRESHOLD;
+
+		@Nullable
+		private Executor embeddingExecutor;
+
+		private int embeddingMaxInFlight = ConcurrentEmbeddingModel.DEFAULT_MAX_IN_FLIGHT;
+
+		private QuantizationType quantizationType = QuantizationType.NONE;
+
+		private int rerankFactor = DEFAULT_RERANK_FACTOR;
+
 		private SimpleVectorStoreBuilder(EmbeddingModel embeddingModel) {
 			super(embeddingModel);
 		}
 
+		/**
+		 * Sets the index used for similarity searches. Defaults to {@link IndexType#NONE}.
+		 * @param indexType the index type
+		 * @return the builder instance
+		 */
+		public SimpleVectorStoreBuilder indexType(IndexType indexType) {
+			Assert.notNull(indexType, "IndexType must not be null");
+			this.indexType = indexType;
+			return this;
+		}
+
+		/**
+		 * Sets the number of bi-directional links created for every new HNSW node. Higher
+		 * values improve recall for high-dimensional data at the cost of memory.
+		 * @param m the number of links, defaults to {@value #DEFAULT_HNSW_M}
+		 * @return the builder instance
+		 */
+		public SimpleVectorStoreBuilder hnswM(int m) {
+			Assert.isTrue(m >= 2, "M must be at least 2");
+			this.hnswM = m;
+			return this;
+		}
+
+		/**
+		 * Sets the size of the dynamic candidate list used while building the HNSW graph.
+		 * @param efConstruction the candidate list size, defaults to
+		 * {@value #DEFAULT_HNSW_EF_CONSTRUCTION}
+		 * @return the builder instance
+		 */
+		public SimpleVectorStoreBuilder hnswEfConstruction(int efConstruction) {
+			Assert.isTrue(efConstruction > 0, "efConstruction must be positive");
+			this.hnswEfConstruction = efConstruction;
+			return this;
+		}
+
+		/**
+		 * Sets the size of the dynamic candidate list used while searching the HNSW
+		 * graph. Higher values improve recall at the cost of latency. The effective value
+		 * is never lower than the requested top-k.
+		 * @param efSearch the candidate list size, defaults to
+		 * {@value #DEFAULT_HNSW_EF_SEARCH}
+		 * @return the builder instance
+		 */
+		public SimpleVectorStoreBuilder hnswEfSearch(int efSearch) {
+			Assert.isTrue(efSearch > 0, "efSearch must be positive");
+			this.hnswEfSearch = efSearch;
+			return this;
+		}
+
+		/**
+		 * Sets the fraction of the store a filter may match for the search to fall back
+		 * to an exact scan of the matching documents instead of the HNSW index.
+		 * @param threshold the fraction in the [0,1] range, defaults to
+		 * {@value #DEFAULT_FILTERED_EXACT_SEARCH_THRESHOLD}
+		 * @return the builder instance
+		 */
+		public SimpleVectorStoreBuilder filteredExactSearchThreshold(double threshold) {
+			Assert.isTrue(threshold >= 0 && threshold <= 1, "Threshold must be in [0,1] range");
+			this.filteredExactSearchThreshold = threshold;
+			return this;
+		}
+
+		/**
+		 * Enables splitting large exact scans across the threads of a
+		 * {@link ForkJoinPool}. Disabled by default.
+		 * @param parallelSearch whether exact scans run in parallel
+		 * @return the builder instance
+		 */
+		public SimpleVectorStoreBuilder parallelSearch(boolean parallelSearch) {
+			this.parallelSearch = parallelSearch;
+			return this;
+		}
+
+		/**
+		 * Sets the pool used by parallel searches. Defaults to the
+		 * {@link ForkJoinPool#commonPool() common pool}.
+		 * @param forkJoinPool the pool to use
+		 * @return the builder instance
+		 */
+		public SimpleVectorStoreBuilder forkJoinPool(ForkJoinPool forkJoinPool) {
+			Assert.notNull(forkJoinPool, "ForkJoinPool must not be null");
+			this.forkJoinPool = forkJoinPool;
+			return this;
+		}
+
+		/**
+		 * Sets the metadata keys to maintain inverted indexes for. Searches filtering on
+		 * these keys with {@code ==} or {@code IN} only score the documents holding the
+		 * requested values. Good candidates are low-cardinality keys used to partition
+		 * the store, such as a tenant or a document type.
+		 * @param keys the metadata keys to index
+		 * @return the builder instance
+		 */
+		public SimpleVectorStoreBuilder indexedMetadataKeys(String... keys) {
+			Assert.notNull(keys, "Keys must not be null");
+			return indexedMetadataKeys(List.of(keys));
+		}
+
+		/**
+		 * Sets the metadata keys to maintain inverted indexes for.
+		 * @param keys the metadata keys to index
+		 * @return the builder instance
+		 * @see #indexedMetadataKeys(String...)
+		 */
+		public SimpleVectorStoreBuilder indexedMetadataKeys(Collection<String> keys) {
+			Assert.notNull(keys, "Keys must not be null");
+			Assert.noNullElements(keys, "Keys must not contain null elements");
+			this.indexedMetadataKeys = Set.copyOf(keys);
+			return this;
+		}
+
+		/**
+		 * Enables continuous persistence into the given directory. Every add and delete
+		 * is validated, appended to a write-ahead log and then applied, and the log is
+		 * periodically compacted into a JSON snapshot. On creation, the store recovers
+		 * its content from the directory. Disabled by default.
+		 * @param directory the directory holding the snapshot and the log
+		 * @return the builder instance
+		 * @see SimpleVectorStore#compact()
+		 */
+		public SimpleVectorStoreBuilder writeAheadLog(Path directory) {
+			Assert.notNull(directory, "Directory must not be null");
+			this.writeAheadLogDirectory = directory;
+			return this;
+		}
+
+		/**
+		 * Sets the number of logged operations after which the write-ahead log is
+		 * compacted into a new snapshot.
+		 * @param compactionThreshold the number of operations, defaults to
+		 * {@value #DEFAULT_COMPACTION_THRESHOLD}
+		 * @return the builder instance
+		 */
+		public SimpleVectorStoreBuilder compactionThreshold(int compactionThreshold) {
+			Assert.isTrue(compactionThreshold > 0, "Compaction threshold must be positive");
+			this.compactionThreshold = compactionThreshold;
+			return this;
+		}
+
+		/**
+		 * Sets the executor used to send the embedding batches of an add operation to
+		 * the embedding model concurrently, through a {@link ConcurrentEmbeddingModel}.
+		 * By default the batches are sent one after another from the calling thread.
+		 * @param embeddingExecutor the executor to dispatch embedding batches on
+		 * @return the builder instance
+		 * @see #batchingStrategy(BatchingStrategy)
+		 * @see #embeddingMaxInFlight(int)
+		 */
+		public SimpleVectorStoreBuilder embeddingExecutor(Executor embeddingExecutor) {
+			Assert.notNull(embeddingExecutor, "Executor must not be null");
+			this.embeddingExecutor = embeddingExecutor;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of embedding batches sent concurrently when an
+		 * {@link #embeddingExecutor(Executor) embedding executor} is configured.
+		 * @param embeddingMaxInFlight the maximum number of concurrent batches, defaults
+		 * to {@value ConcurrentEmbeddingModel#DEFAULT_MAX_IN_FLIGHT}
+		 * @return the builder instance
+		 */
+		public SimpleVectorStoreBuilder embeddingMaxInFlight(int embeddingMaxInFlight) {
+			Assert.isTrue(embeddingMaxInFlight > 0, "embeddingMaxInFlight must be positive");
+			this.embeddingMaxInFlight = embeddingMaxInFlight;
+			return this;
+		}
+
+		/**
+		 * Sets the quantization of the embeddings scanned by exact searches.
+		 * Defaults to {@link QuantizationType#NONE}.
+		 * @param quantizationType the quantization type
+		 * @return the builder instance
+		 * @see #rerankFactor(int)
+		 */
+		public SimpleVectorStoreBuilder quantizationType(QuantizationType quantizationType) {
+			Assert.notNull(quantizationType, "QuantizationType must not be null");
+			this.quantizationType = quantizationType;
+			return this;
+		}
+
+		/**
+		 * Sets how many candidates per requested result a quantized scan selects for
+		 * re-ranking with the exact embeddings. Higher values improve recall at the cost
+		 * of latency.
+		 * @param rerankFactor the number of candidates per result, defaults to
+		 * {@value #DEFAULT_RERANK_FACTOR}
+		 * @return the builder instance
+		 */
+		public SimpleVectorStoreBuilder rerankFactor(int rerankFactor) {
+			Assert.isTrue(rerankFactor >= 1, "Rerank factor must be at least 1");
+			this.rerankFactor = rerankFactor;
+			return this;
+		}
+
 		@Override
 		public SimpleVectorStore build() {
 			return new SimpleVectorStore(this);
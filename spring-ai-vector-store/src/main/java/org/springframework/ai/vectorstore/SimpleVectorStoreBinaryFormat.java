@@ -0,0 +1,409 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Compact binary persistence format of the {@link SimpleVectorStore}.
+ *
+ * <pre>
+ * header    magic (int), version (int), count (int), dimensions (int),
+ *           vector block offset (long), record offsets offset (long)
+ * vectors   count x dimensions float32, row-major
+ * records   per document: id, text and metadata JSON, each as a length-prefixed UTF-8
+ *           byte sequence
+ * offsets   count + 1 longs: the file position of each record and the end of the last
+ * </pre>
+ *
+ * All values are little-endian. The file is read through {@link FileChannel#map memory
+ * mapped} windows and only the document ids are decoded up front. The contents keep
+ * referencing the mapped windows: embeddings are scored in place, without being copied
+ * onto the heap, and the text and metadata of a document are decoded when first
+ * accessed. The operating system pages the file in and out as needed, and a window is
+ * only unmapped once no content refers to it any more and it is garbage collected.
+ *
+ * A mapped file must therefore not be modified while contents read from it are in use.
+ * {@link #write(Path, Collection, ObjectMapper)} writes a new file and moves it in place
+ * of the previous one, so that a store can be saved to the file it was loaded from.
+ *
+ * @since 1.0.0
+ */
+final class SimpleVectorStoreBinaryFormat {
+
+	static final int MAGIC = 0x53415653; // "SAVS"
+
+	static final int VERSION = 1;
+
+	private static final int HEADER_SIZE = 32;
+
+	/**
+	 * Upper bound of a single mapped window, well below the 2 GB limit of a
+	 * {@link ByteBuffer}.
+	 */
+	private static final long MAX_WINDOW_SIZE = 1L << 30;
+
+	private static final int WRITE_BUFFER_SIZE = 1 << 20;
+
+	private static final TypeReference<Map<String, Object>> METADATA_TYPE = new TypeReference<>() {
+
+	};
+
+	private SimpleVectorStoreBinaryFormat() {
+	}
+
+	/**
+	 * Writes the contents to the given file, replacing any existing content. The contents
+	 * are written to a temporary file that is then moved in place of the given one, so
+	 * that contents mapped from the previous file stay readable.
+	 * @param path the file to write
+	 * @param contents the contents to write, all embeddings must have the same
+	 * dimensions
+	 * @param objectMapper the mapper used to serialize the metadata
+	 * @throws IOException if the file cannot be written
+	 */
+	static void write(Path path, Collection<SimpleVectorStoreContent> contents, ObjectMapper objectMapper)
+			throws IOException {
+		Path temporaryFile = path.resolveSibling(path.getFileName() + ".tmp");
+		try {
+			write(temporaryFile, new ArrayList<>(contents), objectMapper);
+			try {
+				Files.move(temporaryFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException ex) {
+				Files.move(temporaryFile, path, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		finally {
+			Files.deleteIfExists(temporaryFile);
+		}
+	}
+
+	private static void write(Path path, List<SimpleVectorStoreContent> snapshot, ObjectMapper objectMapper)
+			throws IOException {
+		int count = snapshot.size();
+		int dimensions = (count > 0) ? snapshot.get(0).dimensions() : 0;
+		long[] offsets = new long[count + 1];
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			ChannelWriter writer = new ChannelWriter(channel);
+			writer.skip(HEADER_SIZE);
+
+			long vectorsOffset = writer.position();
+			for (SimpleVectorStoreContent content : snapshot) {
+				if (content.dimensions() != dimensions) {
+					throw new IllegalStateException("The binary format requires all embeddings to have "
+							+ dimensions + " dimensions, but document " + content.getId() + " has "
+							+ content.dimensions());
+				}
+				writer.putFloats(content.embedding());
+			}
+
+			for (int i = 0; i < count; i++) {
+				SimpleVectorStoreContent content = snapshot.get(i);
+				offsets[i] = writer.position();
+				writer.putBytes(content.getId().getBytes(StandardCharsets.UTF_8));
+				writer.putBytes(content.getText().getBytes(StandardCharsets.UTF_8));
+				writer.putBytes(objectMapper.writeValueAsBytes(content.getMetadata()));
+			}
+			offsets[count] = writer.position();
+
+			long offsetsOffset = writer.position();
+			for (long offset : offsets) {
+				writer.putLong(offset);
+			}
+			writer.flush();
+
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			header.putInt(MAGIC).putInt(VERSION).putInt(count).putInt(dimensions);
+			header.putLong(vectorsOffset).putLong(offsetsOffset).flip();
+			while (header.hasRemaining()) {
+				channel.write(header, header.position());
+			}
+		}
+	}
+
+	/**
+	 * Maps the given file and reads the contents it holds. Only the document ids are
+	 * decoded: the returned contents read their embedding, text and metadata from the
+	 * mapping.
+	 * @param path the file to read
+	 * @param objectMapper the mapper used to deserialize the metadata
+	 * @return the contents, keyed by document id
+	 * @throws IOException if the file cannot be read or is not in the binary format
+	 */
+	static Map<String, SimpleVectorStoreContent> read(Path path, ObjectMapper objectMapper) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			if (channel.size() < HEADER_SIZE) {
+				throw new IOException("Not a binary vector store file: " + path);
+			}
+			ByteBuffer header = map(channel, 0, HEADER_SIZE);
+			if (header.getInt() != MAGIC) {
+				throw new IOException("Not a binary vector store file: " + path);
+			}
+			int version = header.getInt();
+			if (version != VERSION) {
+				throw new IOException("Unsupported binary vector store version " + version + ": " + path);
+			}
+			int count = header.getInt();
+			int dimensions = header.getInt();
+			long vectorsOffset = header.getLong();
+			long offsetsOffset = header.getLong();
+
+			LongBuffer offsets = map(channel, offsetsOffset, (count + 1L) * Long.BYTES).asLongBuffer();
+			Map<String, SimpleVectorStoreContent> contents = new ConcurrentHashMap<>(Math.max(16, count * 4 / 3));
+			long rowSize = (long) dimensions * Float.BYTES;
+			int maxRows = (int) Math.max(1, Math.min(Integer.MAX_VALUE, MAX_WINDOW_SIZE / Math.max(1, rowSize)));
+
+			int start = 0;
+			while (start < count) {
+				int end = (int) Math.min(count, (long) start + maxRows);
+				while (end - start > 1 && offsets.get(end) - offsets.get(start) > MAX_WINDOW_SIZE) {
+					end = start + (end - start) / 2;
+				}
+				FloatBuffer vectors = map(channel, vectorsOffset + start * rowSize, (end - start) * rowSize)
+					.asFloatBuffer();
+				long recordsOffset = offsets.get(start);
+				ByteBuffer records = map(channel, recordsOffset, offsets.get(end) - recordsOffset);
+				for (int i = start; i < end; i++) {
+					int recordOffset = (int) (offsets.get(i) - recordsOffset);
+					byte[] id = readBytes(records, recordOffset);
+					MappedSource source = new MappedSource(vectors, (i - start) * dimensions, dimensions, records,
+							recordOffset + Integer.BYTES + id.length, objectMapper);
+					String documentId = new String(id, StandardCharsets.UTF_8);
+					contents.put(documentId, new SimpleVectorStoreContent(documentId, source));
+				}
+				start = end;
+			}
+			return contents;
+		}
+	}
+
+	private static ByteBuffer map(FileChannel channel, long position, long size) throws IOException {
+		if (position < 0 || size < 0 || position + size > channel.size()) {
+			throw new IOException("Corrupted binary vector store file, region [" + position + ", " + (position + size)
+					+ ") is out of bounds");
+		}
+		return channel.map(FileChannel.MapMode.READ_ONLY, position, size).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * Reads a length-prefixed byte sequence at the given index, without changing the
+	 * position of the buffer, so that the buffer can be shared between threads.
+	 */
+	private static byte[] readBytes(ByteBuffer buffer, int index) {
+		byte[] bytes = new byte[buffer.getInt(index)];
+		buffer.get(index + Integer.BYTES, bytes);
+		return bytes;
+	}
+
+	/**
+	 * Reads the text, metadata and embedding of a document from the mapped windows. The
+	 * metadata is decoded once and kept, since filters read it on every search, while the
+	 * text is decoded on every access.
+	 */
+	private static final class MappedSource implements SimpleVectorStoreContent.Source {
+
+		private final FloatBuffer vectors;
+
+		private final int vectorOffset;
+
+		private final int dimensions;
+
+		private final ByteBuffer records;
+
+		private final int textOffset;
+
+		private final ObjectMapper objectMapper;
+
+		@Nullable
+		private volatile Map<String, Object> metadata;
+
+		private volatile double embeddingMagnitude = -1;
+
+		MappedSource(FloatBuffer vectors, int vectorOffset, int dimensions, ByteBuffer records, int textOffset,
+				ObjectMapper objectMapper) {
+			this.vectors = vectors;
+			this.vectorOffset = vectorOffset;
+			this.dimensions = dimensions;
+			this.records = records;
+			this.textOffset = textOffset;
+			this.objectMapper = objectMapper;
+		}
+
+		@Override
+		public String text() {
+			return new String(readBytes(this.records, this.textOffset), StandardCharsets.UTF_8);
+		}
+
+		@Override
+		public Map<String, Object> metadata() {
+			Map<String, Object> metadata = this.metadata;
+			if (metadata == null) {
+				int metadataOffset = this.textOffset + Integer.BYTES + this.records.getInt(this.textOffset);
+				try {
+					metadata = Map.copyOf(
+							this.objectMapper.readValue(readBytes(this.records, metadataOffset), METADATA_TYPE));
+				}
+				catch (IOException ex) {
+					throw new IllegalStateException("Failed to read the metadata of a mapped document", ex);
+				}
+				this.metadata = metadata;
+			}
+			return metadata;
+		}
+
+		@Override
+		public float[] embedding() {
+			float[] embedding = new float[this.dimensions];
+			this.vectors.get(this.vectorOffset, embedding);
+			return embedding;
+		}
+
+		@Override
+		public int dimensions() {
+			return this.dimensions;
+		}
+
+		@Override
+		public double embeddingMagnitude() {
+			double embeddingMagnitude = this.embeddingMagnitude;
+			if (embeddingMagnitude < 0) {
+				embeddingMagnitude = SimpleVectorStore.EmbeddingMath.magnitude(embedding());
+				this.embeddingMagnitude = embeddingMagnitude;
+			}
+			return embeddingMagnitude;
+		}
+
+		@Override
+		public float dotProduct(float[] vector) {
+			if (vector.length != this.dimensions) {
+				throw new IllegalArgumentException("Vectors lengths must be equal");
+			}
+			FloatBuffer vectors = this.vectors;
+			int offset = this.vectorOffset;
+			float sum0 = 0;
+			float sum1 = 0;
+			float sum2 = 0;
+			float sum3 = 0;
+			int i = 0;
+			int upperBound = vector.length & ~3;
+			for (; i < upperBound; i += 4) {
+				sum0 += vector[i] * vectors.get(offset + i);
+				sum1 += vector[i + 1] * vectors.get(offset + i + 1);
+				sum2 += vector[i + 2] * vectors.get(offset + i + 2);
+				sum3 += vector[i + 3] * vectors.get(offset + i + 3);
+			}
+			for (; i < vector.length; i++) {
+				sum0 += vector[i] * vectors.get(offset + i);
+			}
+			return (sum0 + sum1) + (sum2 + sum3);
+		}
+
+	}
+
+	/**
+	 * Buffered, position-tracking little-endian writer on top of a {@link FileChannel}.
+	 */
+	private static final class ChannelWriter {
+
+		private final FileChannel channel;
+
+		private final ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+		private long position;
+
+		ChannelWriter(FileChannel channel) {
+			this.channel = channel;
+		}
+
+		long position() {
+			return this.position;
+		}
+
+		void skip(int bytes) throws IOException {
+			flush();
+			this.position += bytes;
+			this.channel.position(this.position);
+		}
+
+		void putLong(long value) throws IOException {
+			ensureRemaining(Long.BYTES);
+			this.buffer.putLong(value);
+			this.position += Long.BYTES;
+		}
+
+		void putFloats(float[] values) throws IOException {
+			for (float value : values) {
+				ensureRemaining(Float.BYTES);
+				this.buffer.putFloat(value);
+			}
+			this.position += (long) values.length * Float.BYTES;
+		}
+
+		void putBytes(byte[] bytes) throws IOException {
+			ensureRemaining(Integer.BYTES);
+			this.buffer.putInt(bytes.length);
+			int offset = 0;
+			while (offset < bytes.length) {
+				ensureRemaining(1);
+				int length = Math.min(this.buffer.remaining(), bytes.length - offset);
+				this.buffer.put(bytes, offset, length);
+				offset += length;
+			}
+			this.position += Integer.BYTES + bytes.length;
+		}
+
+		void flush() throws IOException {
+			this.buffer.flip();
+			while (this.buffer.hasRemaining()) {
+				this.channel.write(this.buffer);
+			}
+			this.buffer.clear();
+		}
+
+		private void ensureRemaining(int bytes) throws IOException {
+			if (this.buffer.remaining() < bytes) {
+				flush();
+			}
+		}
+
+	}
+
+}
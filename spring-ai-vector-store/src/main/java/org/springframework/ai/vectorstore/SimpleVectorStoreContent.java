@@ -30,23 +30,39 @@ import org.springframework.ai.document.DocumentMetadata;
 import org.springframework.ai.document.id.IdGenerator;
 import org.springframework.ai.document.id.RandomIdGenerator;
 import org.springframework.ai.content.Content;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
  * An immutable {@link Content} implementation representing content, metadata, and its
  * embeddings. This class is thread-safe and all its fields are final and deeply
  * immutable. The embedding vector is required for all instances of this class.
+ *
+ * Contents loaded with {@link SimpleVectorStore#loadBinary(java.io.File)} are backed by
+ * the memory mapped file: their embedding is read from the mapping and their text and
+ * metadata are decoded when first accessed.
  */
 public final class SimpleVectorStoreContent implements Content {
 
 	private final String id;
 
+	@Nullable
 	private final String text;
 
+	@Nullable
 	private final Map<String, Object> metadata;
 
+	@Nullable
 	private final float[] embedding;
 
+	private final double embeddingMagnitude;
+
+	/**
+	 * Provides the text, metadata and embedding when they are not held by this instance.
+	 */
+	@Nullable
+	private final Source source;
+
 	/**
 	 * Creates a new instance with the given content, empty metadata, and embedding
 	 * vector.
@@ -101,6 +117,25 @@ public final class SimpleVectorStoreContent implements Content {
 		this.text = text;
 		this.metadata = Map.copyOf(metadata);
 		this.embedding = Arrays.copyOf(embedding, embedding.length);
+		this.embeddingMagnitude = SimpleVectorStore.EmbeddingMath.magnitude(this.embedding);
+		this.source = null;
+	}
+
+	/**
+	 * Creates a new instance whose text, metadata and embedding are provided by the given
+	 * source.
+	 * @param id the unique identifier, must not be empty
+	 * @param source the source of the other fields
+	 */
+	SimpleVectorStoreContent(String id, Source source) {
+		Assert.hasText(id, "id must not be null or empty");
+		Assert.notNull(source, "source must not be null");
+		this.id = id;
+		this.text = null;
+		this.metadata = null;
+		this.embedding = null;
+		this.embeddingMagnitude = 0;
+		this.source = source;
 	}
 
 	/**
@@ -113,7 +148,7 @@ public final class SimpleVectorStoreContent implements Content {
 	public SimpleVectorStoreContent withEmbedding(float[] embedding) {
 		Assert.notNull(embedding, "embedding must not be null");
 		Assert.isTrue(embedding.length > 0, "embedding vector must not be empty");
-		return new SimpleVectorStoreContent(this.id, this.text, this.metadata, embedding);
+		return new SimpleVectorStoreContent(this.id, getText(), getMetadata(), embedding);
 	}
 
 	public String getId() {
@@ -122,12 +157,12 @@ public final class SimpleVectorStoreContent implements Content {
 
 	@Override
 	public String getText() {
-		return this.text;
+		return (this.source != null) ? this.source.text() : this.text;
 	}
 
 	@Override
 	public Map<String, Object> getMetadata() {
-		return this.metadata;
+		return (this.source != null) ? this.source.metadata() : this.metadata;
 	}
 
 	/**
@@ -135,13 +170,66 @@ public final class SimpleVectorStoreContent implements Content {
 	 * @return a new array containing the embedding vector
 	 */
 	public float[] getEmbedding() {
-		return Arrays.copyOf(this.embedding, this.embedding.length);
+		return (this.source != null) ? this.source.embedding() : Arrays.copyOf(this.embedding, this.embedding.length);
+	}
+
+	/**
+	 * Returns the embedding vector, without copying it when it is held by this instance.
+	 * Callers must not modify the returned array.
+	 * @return the embedding vector
+	 */
+	float[] embedding() {
+		return (this.source != null) ? this.source.embedding() : this.embedding;
+	}
+
+	/**
+	 * Returns whether the embedding vector is held by this instance on the heap, rather
+	 * than provided by a {@link Source}.
+	 * @return {@code true} if the embedding is held by this instance
+	 */
+	boolean holdsEmbedding() {
+		return this.source == null;
+	}
+
+	/**
+	 * Returns the number of dimensions of the embedding vector.
+	 * @return the embedding dimensions
+	 */
+	int dimensions() {
+		return (this.source != null) ? this.source.dimensions() : this.embedding.length;
+	}
+
+	/**
+	 * Returns the magnitude of the embedding vector, computed once.
+	 * @return the embedding magnitude
+	 */
+	double embeddingMagnitude() {
+		return (this.source != null) ? this.source.embeddingMagnitude() : this.embeddingMagnitude;
+	}
+
+	/**
+	 * Computes the cosine similarity of the embedding with the given vector, without
+	 * copying an embedding that is not held by this instance.
+	 * @param vector the vector to compare with
+	 * @param magnitude the magnitude of the vector
+	 * @return the cosine similarity
+	 */
+	double cosineSimilarity(float[] vector, double magnitude) {
+		if (this.source == null) {
+			return SimpleVectorStore.EmbeddingMath.cosineSimilarity(vector, magnitude, this.embedding,
+					this.embeddingMagnitude);
+		}
+		double embeddingMagnitude = this.source.embeddingMagnitude();
+		if (magnitude == 0 || embeddingMagnitude == 0) {
+			throw new IllegalArgumentException("Vectors cannot have zero norm");
+		}
+		return this.source.dotProduct(vector) / (magnitude * embeddingMagnitude);
 	}
 
 	public Document toDocument(Double score) {
-		var metadata = new HashMap<>(this.metadata);
+		var metadata = new HashMap<>(getMetadata());
 		metadata.put(DocumentMetadata.DISTANCE.value(), 1.0 - score);
-		return Document.builder().id(this.id).text(this.text).metadata(metadata).score(score).build();
+		return Document.builder().id(this.id).text(getText()).metadata(metadata).score(score).build();
 	}
 
 	@Override
@@ -153,23 +241,55 @@ public final class SimpleVectorStoreContent implements Content {
 			return false;
 		}
 		SimpleVectorStoreContent that = (SimpleVectorStoreContent) o;
-		return Objects.equals(this.id, that.id) && Objects.equals(this.text, that.text)
-				&& Objects.equals(this.metadata, that.metadata) && Arrays.equals(this.embedding, that.embedding);
+		return Objects.equals(this.id, that.id) && Objects.equals(getText(), that.getText())
+				&& Objects.equals(getMetadata(), that.getMetadata()) && Arrays.equals(embedding(), that.embedding());
 	}
 
 	@Override
 	public int hashCode() {
 		int result = Objects.hashCode(this.id);
-		result = 31 * result + Objects.hashCode(this.text);
-		result = 31 * result + Objects.hashCode(this.metadata);
-		result = 31 * result + Arrays.hashCode(this.embedding);
+		result = 31 * result + Objects.hashCode(getText());
+		result = 31 * result + Objects.hashCode(getMetadata());
+		result = 31 * result + Arrays.hashCode(embedding());
 		return result;
 	}
 
 	@Override
 	public String toString() {
-		return "SimpleVectorStoreContent{" + "id='" + this.id + '\'' + ", content='" + this.text + '\'' + ", metadata="
-				+ this.metadata + ", embedding=" + Arrays.toString(this.embedding) + '}';
+		return "SimpleVectorStoreContent{" + "id='" + this.id + '\'' + ", content='" + getText() + '\''
+				+ ", metadata=" + getMetadata() + ", embedding=" + Arrays.toString(embedding()) + '}';
+	}
+
+	/**
+	 * Provides the text, metadata and embedding of a content that does not hold them,
+	 * for example because they are read from a memory mapped file on demand.
+	 * Implementations must be thread-safe and always return the same values.
+	 */
+	interface Source {
+
+		String text();
+
+		Map<String, Object> metadata();
+
+		/**
+		 * Returns a copy of the embedding.
+		 * @return the embedding
+		 */
+		float[] embedding();
+
+		int dimensions();
+
+		double embeddingMagnitude();
+
+		/**
+		 * Computes the dot product of the embedding with the given vector, in the same
+		 * order of operations as
+		 * {@link SimpleVectorStore.EmbeddingMath#dotProduct(float[], float[])}.
+		 * @param vector the vector
+		 * @return the dot product
+		 */
+		float dotProduct(float[] vector);
+
 	}
 
 }
@@ -0,0 +1,426 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+import org.springframework.util.Assert;
+
+/**
+ * In-memory Hierarchical Navigable Small World (HNSW) graph used by
+ * {@link SimpleVectorStore} for approximate nearest neighbor search.
+ *
+ * Vectors are normalized on insertion, so the graph is navigated with the inner product,
+ * which is equivalent to the cosine similarity. Deleted entries are tombstoned: they
+ * still take part in the graph traversal but are never returned. The graph is rebuilt
+ * from the live entries once the tombstones outnumber them.
+ *
+ * See <a href="https://arxiv.org/abs/1603.09320">Efficient and robust approximate nearest
+ * neighbor search using Hierarchical Navigable Small World graphs</a>.
+ *
+ * @since 1.0.0
+ */
+final class SimpleVectorStoreHnswIndex {
+
+	private static final Comparator<Candidate> BEST_FIRST = Comparator.comparingDouble(Candidate::similarity)
+		.reversed();
+
+	private static final Comparator<Candidate> WORST_FIRST = Comparator.comparingDouble(Candidate::similarity);
+
+	private final int m;
+
+	private final int maxConnectionsLayerZero;
+
+	private final int efConstruction;
+
+	private final double levelMultiplier;
+
+	private final Random random = new Random();
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final List<Node> nodes = new ArrayList<>();
+
+	private final Map<String, Integer> nodesByDocumentId = new HashMap<>();
+
+	private int entryPoint = -1;
+
+	private int maxLevel = -1;
+
+	private int deletedCount;
+
+	/**
+	 * Creates a new, empty index.
+	 * @param m the number of bi-directional connections created for every new node
+	 * (twice as many are kept on the bottom layer)
+	 * @param efConstruction the size of the dynamic candidate list used while inserting
+	 */
+	SimpleVectorStoreHnswIndex(int m, int efConstruction) {
+		Assert.isTrue(m >= 2, "M must be at least 2");
+		Assert.isTrue(efConstruction > 0, "efConstruction must be positive");
+		this.m = m;
+		this.maxConnectionsLayerZero = 2 * m;
+		this.efConstruction = Math.max(efConstruction, m);
+		this.levelMultiplier = 1 / Math.log(m);
+	}
+
+	/**
+	 * Adds the vector for the given document id, replacing any previous vector indexed
+	 * under the same id.
+	 * @param id the document id
+	 * @param vector the embedding vector
+	 */
+	void add(String id, float[] vector) {
+		float[] normalized = SimpleVectorStore.EmbeddingMath.normalize(vector);
+		this.lock.writeLock().lock();
+		try {
+			markDeleted(id);
+			insert(id, normalized);
+			if (this.deletedCount > this.nodes.size() / 2) {
+				rebuild();
+			}
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Removes the vector indexed under the given document id, if any.
+	 * @param id the document id
+	 */
+	void remove(String id) {
+		this.lock.writeLock().lock();
+		try {
+			if (markDeleted(id) && this.deletedCount > this.nodes.size() / 2) {
+				rebuild();
+			}
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Removes all vectors from the index.
+	 */
+	void clear() {
+		this.lock.writeLock().lock();
+		try {
+			reset();
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the number of live (not deleted) vectors in the index.
+	 * @return the number of indexed documents
+	 */
+	int size() {
+		this.lock.readLock().lock();
+		try {
+			return this.nodesByDocumentId.size();
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Searches the approximate nearest neighbors of the query vector.
+	 * @param query the query vector
+	 * @param k the maximum number of document ids to return
+	 * @param ef the size of the dynamic candidate list, larger values trade latency for
+	 * recall
+	 * @param filter only document ids accepted by this predicate are returned
+	 * @return the ids of the nearest documents, most similar first
+	 */
+	List<String> search(float[] query, int k, int ef, Predicate<String> filter) {
+		if (k <= 0) {
+			return List.of();
+		}
+		float[] normalized = SimpleVectorStore.EmbeddingMath.normalize(query);
+		this.lock.readLock().lock();
+		try {
+			if (this.entryPoint < 0) {
+				return List.of();
+			}
+			int current = this.entryPoint;
+			for (int layer = this.maxLevel; layer > 0; layer--) {
+				current = greedyClosest(normalized, current, layer);
+			}
+			IntPredicate accept = nodeId -> {
+				Node node = this.nodes.get(nodeId);
+				return !node.deleted && filter.test(node.id);
+			};
+			List<Candidate> candidates = searchLayer(normalized, current, Math.max(ef, k), 0, accept);
+			List<String> ids = new ArrayList<>(Math.min(k, candidates.size()));
+			for (int i = 0; i < candidates.size() && i < k; i++) {
+				ids.add(this.nodes.get(candidates.get(i).node()).id);
+			}
+			return ids;
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	private void insert(String id, float[] vector) {
+		int level = randomLevel();
+		int nodeId = this.nodes.size();
+		Node node = new Node(id, vector, level, this.m, this.maxConnectionsLayerZero);
+		this.nodes.add(node);
+		this.nodesByDocumentId.put(id, nodeId);
+
+		if (this.entryPoint < 0) {
+			this.entryPoint = nodeId;
+			this.maxLevel = level;
+			return;
+		}
+
+		int current = this.entryPoint;
+		for (int layer = this.maxLevel; layer > level; layer--) {
+			current = greedyClosest(vector, current, layer);
+		}
+
+		IntPredicate live = candidate -> !this.nodes.get(candidate).deleted;
+		for (int layer = Math.min(level, this.maxLevel); layer >= 0; layer--) {
+			List<Candidate> candidates = searchLayer(vector, current, this.efConstruction, layer, live);
+			int maxConnections = (layer == 0) ? this.maxConnectionsLayerZero : this.m;
+			for (Candidate neighbour : selectNeighbours(candidates, this.m)) {
+				node.connect(layer, neighbour.node());
+				connect(neighbour.node(), nodeId, layer, maxConnections);
+			}
+			if (!candidates.isEmpty()) {
+				current = candidates.get(0).node();
+			}
+		}
+
+		if (level > this.maxLevel) {
+			this.maxLevel = level;
+			this.entryPoint = nodeId;
+		}
+	}
+
+	/**
+	 * Adds a connection from the given node to the new node, shrinking the connection
+	 * list with the neighbour selection heuristic when it is full.
+	 */
+	private void connect(int nodeId, int newNodeId, int layer, int maxConnections) {
+		Node node = this.nodes.get(nodeId);
+		if (node.connectionCounts[layer] < maxConnections) {
+			node.connect(layer, newNodeId);
+			return;
+		}
+		List<Candidate> candidates = new ArrayList<>(maxConnections + 1);
+		candidates.add(new Candidate(newNodeId, similarity(node.vector, newNodeId)));
+		for (int i = 0; i < node.connectionCounts[layer]; i++) {
+			int neighbour = node.connections[layer][i];
+			candidates.add(new Candidate(neighbour, similarity(node.vector, neighbour)));
+		}
+		candidates.sort(BEST_FIRST);
+		node.connectionCounts[layer] = 0;
+		for (Candidate selected : selectNeighbours(candidates, maxConnections)) {
+			node.connect(layer, selected.node());
+		}
+	}
+
+	/**
+	 * Selects up to {@code max} neighbours from the candidates (sorted most similar
+	 * first), preferring candidates that are closer to the base node than to any already
+	 * selected neighbour. This keeps the graph navigable for clustered data. Remaining
+	 * slots are filled with the closest discarded candidates.
+	 */
+	private List<Candidate> selectNeighbours(List<Candidate> candidates, int max) {
+		if (candidates.size() <= max) {
+			return candidates;
+		}
+		List<Candidate> selected = new ArrayList<>(max);
+		List<Candidate> discarded = new ArrayList<>();
+		for (Candidate candidate : candidates) {
+			if (selected.size() >= max) {
+				break;
+			}
+			float[] candidateVector = this.nodes.get(candidate.node()).vector;
+			boolean diverse = true;
+			for (Candidate other : selected) {
+				if (similarity(candidateVector, other.node()) > candidate.similarity()) {
+					diverse = false;
+					break;
+				}
+			}
+			if (diverse) {
+				selected.add(candidate);
+			}
+			else {
+				discarded.add(candidate);
+			}
+		}
+		for (int i = 0; i < discarded.size() && selected.size() < max; i++) {
+			selected.add(discarded.get(i));
+		}
+		return selected;
+	}
+
+	private int greedyClosest(float[] query, int entry, int layer) {
+		int current = entry;
+		double currentSimilarity = similarity(query, current);
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			Node node = this.nodes.get(current);
+			for (int i = 0; i < node.connectionCounts[layer]; i++) {
+				int neighbour = node.connections[layer][i];
+				double neighbourSimilarity = similarity(query, neighbour);
+				if (neighbourSimilarity > currentSimilarity) {
+					current = neighbour;
+					currentSimilarity = neighbourSimilarity;
+					changed = true;
+				}
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * Best-first search of a single layer. All reachable nodes take part in the
+	 * traversal, but only nodes matching the {@code accept} predicate are collected.
+	 * @return the collected candidates, most similar first
+	 */
+	private List<Candidate> searchLayer(float[] query, int entry, int ef, int layer, IntPredicate accept) {
+		BitSet visited = new BitSet(this.nodes.size());
+		PriorityQueue<Candidate> candidates = new PriorityQueue<>(BEST_FIRST);
+		PriorityQueue<Candidate> results = new PriorityQueue<>(WORST_FIRST);
+
+		Candidate start = new Candidate(entry, similarity(query, entry));
+		visited.set(entry);
+		candidates.add(start);
+		if (accept.test(entry)) {
+			results.add(start);
+		}
+
+		while (!candidates.isEmpty()) {
+			Candidate closest = candidates.poll();
+			if (results.size() >= ef && closest.similarity() < results.peek().similarity()) {
+				break;
+			}
+			Node node = this.nodes.get(closest.node());
+			for (int i = 0; i < node.connectionCounts[layer]; i++) {
+				int neighbour = node.connections[layer][i];
+				if (visited.get(neighbour)) {
+					continue;
+				}
+				visited.set(neighbour);
+				double neighbourSimilarity = similarity(query, neighbour);
+				if (results.size() < ef || neighbourSimilarity > results.peek().similarity()) {
+					Candidate candidate = new Candidate(neighbour, neighbourSimilarity);
+					candidates.add(candidate);
+					if (accept.test(neighbour)) {
+						results.add(candidate);
+						if (results.size() > ef) {
+							results.poll();
+						}
+					}
+				}
+			}
+		}
+
+		List<Candidate> sorted = new ArrayList<>(results);
+		sorted.sort(BEST_FIRST);
+		return sorted;
+	}
+
+	private boolean markDeleted(String id) {
+		Integer nodeId = this.nodesByDocumentId.remove(id);
+		if (nodeId == null) {
+			return false;
+		}
+		this.nodes.get(nodeId).deleted = true;
+		this.deletedCount++;
+		return true;
+	}
+
+	private void rebuild() {
+		List<Node> live = this.nodes.stream().filter(node -> !node.deleted).toList();
+		reset();
+		for (Node node : live) {
+			insert(node.id, node.vector);
+		}
+	}
+
+	private void reset() {
+		this.nodes.clear();
+		this.nodesByDocumentId.clear();
+		this.entryPoint = -1;
+		this.maxLevel = -1;
+		this.deletedCount = 0;
+	}
+
+	private int randomLevel() {
+		return (int) (-Math.log(1.0 - this.random.nextDouble()) * this.levelMultiplier);
+	}
+
+	private double similarity(float[] query, int nodeId) {
+		return SimpleVectorStore.EmbeddingMath.dotProduct(query, this.nodes.get(nodeId).vector);
+	}
+
+	private record Candidate(int node, double similarity) {
+
+	}
+
+	private static final class Node {
+
+		private final String id;
+
+		private final float[] vector;
+
+		private final int[][] connections;
+
+		private final int[] connectionCounts;
+
+		private boolean deleted;
+
+		Node(String id, float[] vector, int level, int m, int maxConnectionsLayerZero) {
+			this.id = id;
+			this.vector = vector;
+			this.connections = new int[level + 1][];
+			this.connectionCounts = new int[level + 1];
+			for (int layer = 0; layer <= level; layer++) {
+				this.connections[layer] = new int[(layer == 0) ? maxConnectionsLayerZero : m];
+			}
+		}
+
+		void connect(int layer, int nodeId) {
+			this.connections[layer][this.connectionCounts[layer]++] = nodeId;
+		}
+
+	}
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Streaming reader and writer of the JSON persistence format of the
+ * {@link SimpleVectorStore}: a single JSON object mapping each document id to its
+ * {@link SimpleVectorStoreContent}. Documents are written and read one at a time, so
+ * neither the complete JSON text nor a tree of the whole store is ever held in memory.
+ *
+ * @since 1.0.0
+ */
+final class SimpleVectorStoreJsonFormat {
+
+	private SimpleVectorStoreJsonFormat() {
+	}
+
+	/**
+	 * Writes the contents as a pretty printed JSON object to the given stream. The
+	 * stream is not closed.
+	 * @param outputStream the stream to write to
+	 * @param contents the contents to write
+	 * @param objectMapper the mapper used to serialize the contents
+	 * @throws IOException if the contents cannot be written
+	 */
+	static void write(OutputStream outputStream, Collection<SimpleVectorStoreContent> contents,
+			ObjectMapper objectMapper) throws IOException {
+		ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			generator.useDefaultPrettyPrinter();
+			generator.writeStartObject();
+			for (SimpleVectorStoreContent content : contents) {
+				generator.writeFieldName(content.getId());
+				writer.writeValue(generator, content);
+			}
+			generator.writeEndObject();
+		}
+	}
+
+	/**
+	 * Reads a JSON object of contents from the given stream. The stream is not closed.
+	 * @param inputStream the stream to read from
+	 * @param objectMapper the mapper used to deserialize the contents
+	 * @return the contents, keyed by document id
+	 * @throws IOException if the stream cannot be read or does not hold a JSON object
+	 */
+	static Map<String, SimpleVectorStoreContent> read(InputStream inputStream, ObjectMapper objectMapper)
+			throws IOException {
+		ObjectReader reader = objectMapper.readerFor(SimpleVectorStoreContent.class);
+		Map<String, SimpleVectorStoreContent> contents = new ConcurrentHashMap<>();
+		try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+			parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new JsonParseException(parser, "Expected a JSON object of vector store contents");
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String id = parser.currentName();
+				parser.nextToken();
+				contents.put(id, reader.readValue(parser));
+			}
+		}
+		return contents;
+	}
+
+}
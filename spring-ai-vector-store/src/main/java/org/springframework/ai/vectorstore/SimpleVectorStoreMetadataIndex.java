@@ -0,0 +1,198 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.SimpleDateFormat;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.lang.Nullable;
+
+/**
+ * Inverted index from the values of configured metadata keys to the ids of the
+ * {@link SimpleVectorStore} documents holding them. It resolves the {@code EQ} and
+ * {@code IN} clauses of a {@link Filter.Expression} to a candidate id set before any
+ * vector is scored, so the cost of a filtered search scales with the number of matching
+ * documents rather than with the size of the store.
+ *
+ * The candidate set is a superset of the matching documents: callers must still apply
+ * the complete filter predicate to each candidate.
+ *
+ * @since 1.0.0
+ */
+final class SimpleVectorStoreMetadataIndex {
+
+	private final Map<String, Map<Object, Set<String>>> postings = new ConcurrentHashMap<>();
+
+	SimpleVectorStoreMetadataIndex(Collection<String> keys) {
+		keys.forEach(key -> this.postings.put(key, new ConcurrentHashMap<>()));
+	}
+
+	/**
+	 * Indexes the metadata of the given content.
+	 * @param content the content to index
+	 */
+	void add(SimpleVectorStoreContent content) {
+		this.postings.forEach((key, values) -> {
+			Object value = content.getMetadata().get(key);
+			if (value != null) {
+				values.computeIfAbsent(normalize(value), v -> ConcurrentHashMap.newKeySet()).add(content.getId());
+			}
+		});
+	}
+
+	/**
+	 * Removes the metadata of the given content from the index.
+	 * @param content the content to remove
+	 */
+	void remove(SimpleVectorStoreContent content) {
+		this.postings.forEach((key, values) -> {
+			Object value = content.getMetadata().get(key);
+			if (value != null) {
+				values.computeIfPresent(normalize(value), (v, ids) -> {
+					ids.remove(content.getId());
+					return ids.isEmpty() ? null : ids;
+				});
+			}
+		});
+	}
+
+	/**
+	 * Removes all entries from the index.
+	 */
+	void clear() {
+		this.postings.values().forEach(Map::clear);
+	}
+
+	/**
+	 * Resolves the filter expression to the ids of the documents that may match it.
+	 * @param expression the filter expression
+	 * @return the candidate ids, or {@code null} if the expression cannot be narrowed
+	 * down with the indexed keys
+	 */
+	@Nullable
+	Set<String> candidates(Filter.Operand expression) {
+		if (expression instanceof Filter.Group group) {
+			return candidates(group.content());
+		}
+		if (!(expression instanceof Filter.Expression exp)) {
+			return null;
+		}
+		return switch (exp.type()) {
+			case AND -> {
+				Set<String> left = candidates(exp.left());
+				Set<String> right = candidates(exp.right());
+				if (left == null || right == null) {
+					yield (left != null) ? left : right;
+				}
+				Set<String> smaller = (left.size() <= right.size()) ? left : right;
+				Set<String> larger = (smaller == left) ? right : left;
+				smaller.retainAll(larger);
+				yield smaller;
+			}
+			case OR -> {
+				Set<String> left = candidates(exp.left());
+				Set<String> right = (left != null) ? candidates(exp.right()) : null;
+				if (left == null || right == null) {
+					yield null;
+				}
+				left.addAll(right);
+				yield left;
+			}
+			case EQ -> lookup(exp, Collections.singletonList(valueOf(exp)));
+			case IN -> (valueOf(exp) instanceof List<?> list) ? lookup(exp, list) : null;
+			default -> null;
+		};
+	}
+
+	@Nullable
+	private Set<String> lookup(Filter.Expression expression, List<?> values) {
+		if (!(expression.left() instanceof Filter.Key key)) {
+			return null;
+		}
+		Map<Object, Set<String>> index = this.postings.get(keyName(key));
+		if (index == null) {
+			return null;
+		}
+		Set<String> ids = new HashSet<>();
+		for (Object value : values) {
+			if (value != null) {
+				Set<String> posting = index.get(normalize(value));
+				if (posting != null) {
+					ids.addAll(posting);
+				}
+			}
+		}
+		return ids;
+	}
+
+	@Nullable
+	private static Object valueOf(Filter.Expression expression) {
+		return (expression.right() instanceof Filter.Value value) ? value.value() : null;
+	}
+
+	private static String keyName(Filter.Key key) {
+		String identifier = key.key().trim();
+		boolean quoted = identifier.length() > 1 && ((identifier.startsWith("\"") && identifier.endsWith("\""))
+				|| (identifier.startsWith("'") && identifier.endsWith("'")));
+		return quoted ? identifier.substring(1, identifier.length() - 1) : identifier;
+	}
+
+	/**
+	 * Normalizes a value so that values considered equal by the filter predicate map to
+	 * the same index entry: numbers are compared by value and dates are compared by their
+	 * UTC ISO-8601 representation.
+	 */
+	private static Object normalize(Object value) {
+		if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+			return ((Number) value).longValue();
+		}
+		if (value instanceof BigInteger || value instanceof BigDecimal) {
+			BigDecimal decimal = new BigDecimal(value.toString());
+			try {
+				return decimal.longValueExact();
+			}
+			catch (ArithmeticException ex) {
+				return decimal.doubleValue();
+			}
+		}
+		if (value instanceof Number number) {
+			double d = number.doubleValue();
+			return (d == Math.rint(d) && Math.abs(d) < 0x1p63) ? (Object) (long) d : (Object) d;
+		}
+		if (value instanceof CharSequence text) {
+			return text.toString();
+		}
+		if (value instanceof Date date) {
+			SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'");
+			dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+			return dateFormat.format(date);
+		}
+		return value;
+	}
+
+}
@@ -0,0 +1,588 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Int8 scalar quantized copy of the {@link SimpleVectorStore} embeddings, used to find
+ * the candidates of an exact search with a fraction of the memory traffic.
+ *
+ * Every embedding is normalized and each component is quantized to a signed byte with a
+ * per-vector scale, so no training pass over the data is needed and vectors can be added
+ * one at a time. The codes of all vectors are kept in large contiguous pages, which a
+ * scan reads sequentially at one byte per dimension instead of four. The query is not
+ * quantized, and the approximate score of a vector is the dot product of the normalized
+ * query with its codes times its scale.
+ *
+ * Approximate scores are only used to select candidates, which are re-ranked with the
+ * exact embeddings. Only the codes are kept on the heap: the exact embeddings are written
+ * to a memory mapped temporary file, slot by slot alongside the codes, which the
+ * operating system pages in for the few candidates that are re-ranked. The contents
+ * returned by {@link #add(SimpleVectorStoreContent)} read their embedding from that file,
+ * so the store does not keep a heap copy either. The file is deleted once the index and
+ * all contents referencing it have been garbage collected.
+ *
+ * @since 1.0.0
+ */
+final class SimpleVectorStoreQuantizedIndex {
+
+	/**
+	 * Number of vectors scored by each task of a parallel scan.
+	 */
+	private static final int PARALLEL_CHUNK_SIZE = 4096;
+
+	/**
+	 * Target size of a code page. Codes are paged since the codes of millions of vectors
+	 * do not fit a single array.
+	 */
+	private static final int PAGE_SIZE = 1 << 24;
+
+	private static final Cleaner CLEANER = Cleaner.create();
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final Map<String, Integer> slots = new HashMap<>();
+
+	private int dimensions;
+
+	private int vectorsPerPage = PAGE_SIZE;
+
+	private byte[][] pages = new byte[0][];
+
+	private float[] scales = new float[0];
+
+	private SimpleVectorStoreContent[] contents = new SimpleVectorStoreContent[0];
+
+	/**
+	 * The sources of the contents whose embedding is read from the vector file, by slot,
+	 * or {@code null} for contents that provide their embedding themselves.
+	 */
+	private IndexedSource[] sources = new IndexedSource[0];
+
+	@Nullable
+	private VectorFile vectors;
+
+	private int size;
+
+	/**
+	 * Quantizes and adds the embedding of the given content, replacing the one of any
+	 * content with the same id.
+	 * @param content the content to add
+	 * @return the content to store in place of the given one: a content reading its
+	 * embedding from the vector file if the given one holds its embedding on the heap,
+	 * or the given content otherwise
+	 * @throws IllegalArgumentException if the embedding dimensions differ from the ones
+	 * of the indexed embeddings
+	 */
+	SimpleVectorStoreContent add(SimpleVectorStoreContent content) {
+		float[] embedding = content.embedding();
+		this.lock.writeLock().lock();
+		try {
+			if (this.size == 0 && embedding.length != this.dimensions) {
+				reset(embedding.length);
+			}
+			else if (embedding.length != this.dimensions) {
+				throw new IllegalArgumentException("Embedding of document " + content.getId() + " has "
+						+ embedding.length + " dimensions, expected " + this.dimensions);
+			}
+			Integer slot = this.slots.get(content.getId());
+			if (slot == null) {
+				slot = this.size++;
+				ensureCapacity(this.size);
+				this.slots.put(content.getId(), slot);
+			}
+			else {
+				detach(slot);
+			}
+			VectorFile vectors = vectorFile();
+			this.scales[slot] = quantize(embedding, content.embeddingMagnitude(), page(slot), offset(slot));
+			vectors.write(slot, embedding);
+			IndexedSource source = content.holdsEmbedding() ? new IndexedSource(vectors, slot, content) : null;
+			SimpleVectorStoreContent indexed = (source != null) ? new SimpleVectorStoreContent(content.getId(), source)
+					: content;
+			this.contents[slot] = indexed;
+			this.sources[slot] = source;
+			return indexed;
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Removes the embedding of the content with the given id, if present.
+	 * @param id the document id
+	 */
+	void remove(String id) {
+		this.lock.writeLock().lock();
+		try {
+			Integer slot = this.slots.remove(id);
+			if (slot == null) {
+				return;
+			}
+			detach(slot);
+			int last = --this.size;
+			if (slot != last) {
+				// Move the last vector into the freed slot to keep the codes contiguous.
+				System.arraycopy(page(last), offset(last), page(slot), offset(slot), this.dimensions);
+				this.vectors.write(slot, this.vectors.read(last));
+				this.scales[slot] = this.scales[last];
+				this.contents[slot] = this.contents[last];
+				this.sources[slot] = this.sources[last];
+				if (this.sources[slot] != null) {
+					this.sources[slot].slot = slot;
+				}
+				this.slots.put(this.contents[slot].getId(), slot);
+			}
+			this.contents[last] = null;
+			this.sources[last] = null;
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Removes all embeddings from the index.
+	 */
+	void clear() {
+		this.lock.writeLock().lock();
+		try {
+			this.slots.clear();
+			reset(0);
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Finds the contents most similar to the query: selects the candidates with the
+	 * highest approximate similarity and re-ranks them with the exact embeddings read
+	 * from the vector file, so that the scores are identical to the ones of an exact
+	 * search.
+	 * @param query the query embedding
+	 * @param candidateLimit the maximum number of candidates to re-rank
+	 * @param topK the maximum number of results
+	 * @param similarityThreshold the minimum score of a result
+	 * @param filter the filter the results must match
+	 * @param forkJoinPool the pool to split the scan across, or {@code null} to scan on
+	 * the calling thread
+	 * @return the results
+	 */
+	SimpleVectorStoreTopK search(float[] query, int candidateLimit, int topK, double similarityThreshold,
+			Predicate<SimpleVectorStoreContent> filter, @Nullable ForkJoinPool forkJoinPool) {
+		this.lock.readLock().lock();
+		try {
+			List<SimpleVectorStoreContent> candidates = search(query, candidateLimit, filter, forkJoinPool);
+			SimpleVectorStoreTopK results = new SimpleVectorStoreTopK(Math.min(topK, candidates.size()),
+					similarityThreshold);
+			if (candidates.isEmpty()) {
+				return results;
+			}
+			double queryMagnitude = SimpleVectorStore.EmbeddingMath.magnitude(query);
+			for (SimpleVectorStoreContent content : candidates) {
+				double magnitude = content.embeddingMagnitude();
+				if (queryMagnitude == 0 || magnitude == 0) {
+					throw new IllegalArgumentException("Vectors cannot have zero norm");
+				}
+				int slot = this.slots.get(content.getId());
+				results.offer(content, this.vectors.dotProduct(query, slot) / (queryMagnitude * magnitude));
+			}
+			return results;
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Finds the contents with the highest approximate similarity to the query.
+	 * @param query the query embedding
+	 * @param limit the maximum number of candidates to return
+	 * @param filter the filter the candidates must match
+	 * @param forkJoinPool the pool to split the scan across, or {@code null} to scan on
+	 * the calling thread
+	 * @return the candidates, in no particular order
+	 */
+	List<SimpleVectorStoreContent> search(float[] query, int limit, Predicate<SimpleVectorStoreContent> filter,
+			@Nullable ForkJoinPool forkJoinPool) {
+		this.lock.readLock().lock();
+		try {
+			if (this.size == 0 || limit == 0) {
+				return List.of();
+			}
+			int candidateLimit = Math.min(limit, this.size);
+			if (query.length != this.dimensions) {
+				throw new IllegalArgumentException("Vectors lengths must be equal");
+			}
+			float[] normalizedQuery = SimpleVectorStore.EmbeddingMath.normalize(query);
+			SimpleVectorStoreTopK topK;
+			if (forkJoinPool != null && this.size >= 2 * PARALLEL_CHUNK_SIZE) {
+				int chunks = (this.size + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE;
+				topK = forkJoinPool.submit(() -> IntStream.range(0, chunks)
+					.parallel()
+					.mapToObj(chunk -> scan(normalizedQuery, candidateLimit, filter, chunk * PARALLEL_CHUNK_SIZE,
+							Math.min(this.size, (chunk + 1) * PARALLEL_CHUNK_SIZE)))
+					.reduce(SimpleVectorStoreTopK::merge)
+					.orElseThrow()).join();
+			}
+			else {
+				topK = scan(normalizedQuery, candidateLimit, filter, 0, this.size);
+			}
+			return topK.toContents();
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	int size() {
+		this.lock.readLock().lock();
+		try {
+			return this.size;
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	private SimpleVectorStoreTopK scan(float[] query, int limit, Predicate<SimpleVectorStoreContent> filter, int from,
+			int to) {
+		SimpleVectorStoreTopK topK = new SimpleVectorStoreTopK(limit, Double.NEGATIVE_INFINITY);
+		for (int slot = from; slot < to; slot++) {
+			SimpleVectorStoreContent content = this.contents[slot];
+			if (filter.test(content)) {
+				topK.offer(content, this.scales[slot] * dot(query, page(slot), offset(slot)));
+			}
+		}
+		return topK;
+	}
+
+	private byte[] page(int slot) {
+		return this.pages[slot / this.vectorsPerPage];
+	}
+
+	private int offset(int slot) {
+		return (slot % this.vectorsPerPage) * this.dimensions;
+	}
+
+	private void reset(int dimensions) {
+		this.dimensions = dimensions;
+		this.vectorsPerPage = Math.max(1, PAGE_SIZE / Math.max(1, dimensions));
+		this.pages = new byte[0][];
+		this.scales = new float[0];
+		this.contents = new SimpleVectorStoreContent[0];
+		this.sources = new IndexedSource[0];
+		// Contents indexed so far keep reading the previous file, which is no longer
+		// written to.
+		this.vectors = null;
+		this.size = 0;
+	}
+
+	private VectorFile vectorFile() {
+		if (this.vectors == null) {
+			this.vectors = new VectorFile(this.dimensions, this.vectorsPerPage);
+		}
+		return this.vectors;
+	}
+
+	/**
+	 * Gives the content indexed in the given slot a heap copy of its embedding before
+	 * the slot is reused, for callers still holding a replaced or removed content.
+	 */
+	private void detach(int slot) {
+		IndexedSource source = this.sources[slot];
+		if (source != null) {
+			source.detached = this.vectors.read(slot);
+			this.sources[slot] = null;
+		}
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > this.contents.length) {
+			int newCapacity = Math.max(capacity, Math.max(16, this.contents.length + (this.contents.length >> 1)));
+			this.scales = Arrays.copyOf(this.scales, newCapacity);
+			this.contents = Arrays.copyOf(this.contents, newCapacity);
+			this.sources = Arrays.copyOf(this.sources, newCapacity);
+		}
+		int lastSlot = capacity - 1;
+		int pageIndex = lastSlot / this.vectorsPerPage;
+		if (pageIndex >= this.pages.length) {
+			this.pages = Arrays.copyOf(this.pages, pageIndex + 1);
+		}
+		byte[] page = this.pages[pageIndex];
+		int required = (lastSlot % this.vectorsPerPage + 1) * this.dimensions;
+		if (page == null || page.length < required) {
+			// Only the last page grows on demand, so that small stores stay small.
+			int length = (page != null) ? page.length + (page.length >> 1) : 16 * this.dimensions;
+			length = Math.min(this.vectorsPerPage * this.dimensions, Math.max(required, length));
+			this.pages[pageIndex] = (page != null) ? Arrays.copyOf(page, length) : new byte[length];
+		}
+		vectorFile().ensureCapacity(capacity);
+	}
+
+	/**
+	 * Quantizes the normalized vector into the codes array.
+	 * @return the scale mapping the codes back to the normalized components
+	 */
+	static float quantize(float[] vector, double magnitude, byte[] codes, int offset) {
+		float maxAbs = 0f;
+		for (float component : vector) {
+			maxAbs = Math.max(maxAbs, Math.abs(component));
+		}
+		if (maxAbs == 0f || magnitude == 0d) {
+			Arrays.fill(codes, offset, offset + vector.length, (byte) 0);
+			return 0f;
+		}
+		float inverseStep = 127f / maxAbs;
+		for (int i = 0; i < vector.length; i++) {
+			codes[offset + i] = (byte) Math.round(vector[i] * inverseStep);
+		}
+		return (float) (maxAbs / (127d * magnitude));
+	}
+
+	static float dot(float[] query, byte[] codes, int offset) {
+		int length = query.length;
+		int bound = length & ~3;
+		float sum0 = 0f;
+		float sum1 = 0f;
+		float sum2 = 0f;
+		float sum3 = 0f;
+		int i = 0;
+		for (; i < bound; i += 4) {
+			sum0 += query[i] * codes[offset + i];
+			sum1 += query[i + 1] * codes[offset + i + 1];
+			sum2 += query[i + 2] * codes[offset + i + 2];
+			sum3 += query[i + 3] * codes[offset + i + 3];
+		}
+		for (; i < length; i++) {
+			sum0 += query[i] * codes[offset + i];
+		}
+		return (sum0 + sum1) + (sum2 + sum3);
+	}
+
+	/**
+	 * Provides the text and metadata of an indexed content from the heap and its
+	 * embedding from the vector file. Once the slot of the content is reused, the
+	 * embedding is read from a detached heap copy.
+	 */
+	private final class IndexedSource implements SimpleVectorStoreContent.Source {
+
+		private final VectorFile vectors;
+
+		private final String text;
+
+		private final Map<String, Object> metadata;
+
+		private final double embeddingMagnitude;
+
+		/**
+		 * The slot of the content, guarded by the index lock.
+		 */
+		private int slot;
+
+		/**
+		 * The embedding copied out of the vector file, guarded by the index lock.
+		 */
+		@Nullable
+		private float[] detached;
+
+		IndexedSource(VectorFile vectors, int slot, SimpleVectorStoreContent content) {
+			this.vectors = vectors;
+			this.slot = slot;
+			this.text = content.getText();
+			this.metadata = content.getMetadata();
+			this.embeddingMagnitude = content.embeddingMagnitude();
+		}
+
+		@Override
+		public String text() {
+			return this.text;
+		}
+
+		@Override
+		public Map<String, Object> metadata() {
+			return this.metadata;
+		}
+
+		@Override
+		public float[] embedding() {
+			SimpleVectorStoreQuantizedIndex.this.lock.readLock().lock();
+			try {
+				return (this.detached != null) ? Arrays.copyOf(this.detached, this.detached.length)
+						: this.vectors.read(this.slot);
+			}
+			finally {
+				SimpleVectorStoreQuantizedIndex.this.lock.readLock().unlock();
+			}
+		}
+
+		@Override
+		public int dimensions() {
+			return this.vectors.dimensions;
+		}
+
+		@Override
+		public double embeddingMagnitude() {
+			return this.embeddingMagnitude;
+		}
+
+		@Override
+		public float dotProduct(float[] vector) {
+			SimpleVectorStoreQuantizedIndex.this.lock.readLock().lock();
+			try {
+				return (this.detached != null) ? SimpleVectorStore.EmbeddingMath.dotProduct(vector, this.detached)
+						: this.vectors.dotProduct(vector, this.slot);
+			}
+			finally {
+				SimpleVectorStoreQuantizedIndex.this.lock.readLock().unlock();
+			}
+		}
+
+	}
+
+	/**
+	 * Temporary file holding the exact embeddings by slot, mapped in pages of
+	 * {@code vectorsPerPage} vectors. Only the last page grows, by remapping it. The file
+	 * is deleted when its channel is closed, which happens once the instance is garbage
+	 * collected.
+	 */
+	private static final class VectorFile {
+
+		private final FileChannel channel;
+
+		private final int dimensions;
+
+		private final int vectorsPerPage;
+
+		private FloatBuffer[] pages = new FloatBuffer[0];
+
+		VectorFile(int dimensions, int vectorsPerPage) {
+			this.dimensions = dimensions;
+			this.vectorsPerPage = vectorsPerPage;
+			try {
+				Path file = Files.createTempFile("simple-vector-store-", ".vectors");
+				FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+						StandardOpenOption.DELETE_ON_CLOSE);
+				CLEANER.register(this, () -> close(channel));
+				this.channel = channel;
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException("Failed to create the quantized index vector file", ex);
+			}
+		}
+
+		void ensureCapacity(int capacity) {
+			int lastSlot = capacity - 1;
+			int pageIndex = lastSlot / this.vectorsPerPage;
+			if (pageIndex >= this.pages.length) {
+				this.pages = Arrays.copyOf(this.pages, pageIndex + 1);
+			}
+			FloatBuffer page = this.pages[pageIndex];
+			int required = (lastSlot % this.vectorsPerPage + 1) * this.dimensions;
+			if (page == null || page.capacity() < required) {
+				int length = (page != null) ? page.capacity() + (page.capacity() >> 1) : 16 * this.dimensions;
+				length = Math.min(this.vectorsPerPage * this.dimensions, Math.max(required, length));
+				long position = (long) pageIndex * this.vectorsPerPage * this.dimensions * Float.BYTES;
+				try {
+					this.pages[pageIndex] = this.channel
+						.map(FileChannel.MapMode.READ_WRITE, position, (long) length * Float.BYTES)
+						.order(ByteOrder.nativeOrder())
+						.asFloatBuffer();
+				}
+				catch (IOException ex) {
+					throw new UncheckedIOException("Failed to grow the quantized index vector file", ex);
+				}
+			}
+		}
+
+		void write(int slot, float[] vector) {
+			this.pages[slot / this.vectorsPerPage].put(offset(slot), vector);
+		}
+
+		float[] read(int slot) {
+			float[] vector = new float[this.dimensions];
+			this.pages[slot / this.vectorsPerPage].get(offset(slot), vector);
+			return vector;
+		}
+
+		/**
+		 * Computes the dot product with the vector in the given slot, adding the terms in
+		 * the same order as {@link SimpleVectorStore.EmbeddingMath#dotProduct}, so that
+		 * re-ranked scores are identical to exact ones.
+		 */
+		float dotProduct(float[] vector, int slot) {
+			if (vector.length != this.dimensions) {
+				throw new IllegalArgumentException("Vectors lengths must be equal");
+			}
+			FloatBuffer page = this.pages[slot / this.vectorsPerPage];
+			int offset = offset(slot);
+			float sum0 = 0;
+			float sum1 = 0;
+			float sum2 = 0;
+			float sum3 = 0;
+			int i = 0;
+			int upperBound = vector.length & ~3;
+			for (; i < upperBound; i += 4) {
+				sum0 += vector[i] * page.get(offset + i);
+				sum1 += vector[i + 1] * page.get(offset + i + 1);
+				sum2 += vector[i + 2] * page.get(offset + i + 2);
+				sum3 += vector[i + 3] * page.get(offset + i + 3);
+			}
+			for (; i < vector.length; i++) {
+				sum0 += vector[i] * page.get(offset + i);
+			}
+			return (sum0 + sum1) + (sum2 + sum3);
+		}
+
+		private int offset(int slot) {
+			return (slot % this.vectorsPerPage) * this.dimensions;
+		}
+
+		private static void close(FileChannel channel) {
+			try {
+				channel.close();
+			}
+			catch (IOException ex) {
+				// The file is a temporary one: nothing else to do.
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
+
+import org.springframework.ai.document.Document;
+
+/**
+ * Bounded min-heap keeping the {@code k} best scored {@link SimpleVectorStoreContent}s
+ * seen so far. Scores are kept in a primitive array and {@link Document}s are only
+ * materialized for the final result, so a scan allocates O(k) rather than O(n) objects.
+ * The heap arrays grow on demand, so a large {@code k} only costs memory for the results
+ * actually found.
+ *
+ * @since 1.0.0
+ */
+final class SimpleVectorStoreTopK {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final int k;
+
+	private final double similarityThreshold;
+
+	private double[] scores;
+
+	private SimpleVectorStoreContent[] contents;
+
+	private int size;
+
+	SimpleVectorStoreTopK(int k, double similarityThreshold) {
+		this.k = k;
+		this.similarityThreshold = similarityThreshold;
+		int initialCapacity = Math.min(k, INITIAL_CAPACITY);
+		this.scores = new double[initialCapacity];
+		this.contents = new SimpleVectorStoreContent[initialCapacity];
+	}
+
+	/**
+	 * Returns a {@link Collector} scoring every content with the given function and
+	 * keeping the {@code k} best ones at or above the similarity threshold. The collector
+	 * can be used with parallel streams: every thread fills its own heap and the heaps
+	 * are merged at the end.
+	 * @param k the maximum number of results
+	 * @param similarityThreshold the minimum score of a result
+	 * @param scorer computes the similarity score of a content
+	 * @return the top-k collector
+	 */
+	static Collector<SimpleVectorStoreContent, ?, SimpleVectorStoreTopK> collector(int k, double similarityThreshold,
+			ToDoubleFunction<SimpleVectorStoreContent> scorer) {
+		return Collector.of(() -> new SimpleVectorStoreTopK(k, similarityThreshold),
+				(topK, content) -> topK.offer(content, scorer.applyAsDouble(content)), SimpleVectorStoreTopK::merge,
+				Collector.Characteristics.UNORDERED);
+	}
+
+	/**
+	 * Offers a scored content to the heap.
+	 * @param content the content
+	 * @param score the similarity score of the content
+	 */
+	void offer(SimpleVectorStoreContent content, double score) {
+		if (score < this.similarityThreshold || this.k == 0) {
+			return;
+		}
+		if (this.size < this.k) {
+			if (this.size == this.scores.length) {
+				grow();
+			}
+			siftUp(this.size++, content, score);
+		}
+		else if (score > this.scores[0]) {
+			siftDown(0, content, score);
+		}
+	}
+
+	/**
+	 * Merges the entries of another heap into this one.
+	 * @param other the heap to merge
+	 * @return this heap
+	 */
+	SimpleVectorStoreTopK merge(SimpleVectorStoreTopK other) {
+		for (int i = 0; i < other.size; i++) {
+			offer(other.contents[i], other.scores[i]);
+		}
+		return this;
+	}
+
+	/**
+	 * Drains the heap into {@link Document}s, best score first.
+	 * @return the documents
+	 */
+	List<Document> toDocuments() {
+		Document[] documents = new Document[this.size];
+		while (this.size > 0) {
+			int last = --this.size;
+			documents[last] = this.contents[0].toDocument(this.scores[0]);
+			if (last > 0) {
+				siftDown(0, this.contents[last], this.scores[last]);
+			}
+			this.contents[last] = null;
+		}
+		return List.of(documents);
+	}
+
+	/**
+	 * Returns the contents in the heap, in no particular order.
+	 * @return the contents
+	 */
+	List<SimpleVectorStoreContent> toContents() {
+		return List.of(Arrays.copyOf(this.contents, this.size));
+	}
+
+	private void grow() {
+		int capacity = (int) Math.min(this.k, 2L * this.scores.length);
+		this.scores = Arrays.copyOf(this.scores, capacity);
+		this.contents = Arrays.copyOf(this.contents, capacity);
+	}
+
+	private void siftUp(int index, SimpleVectorStoreContent content, double score) {
+		while (index > 0) {
+			int parent = (index - 1) >>> 1;
+			if (this.scores[parent] <= score) {
+				break;
+			}
+			this.scores[index] = this.scores[parent];
+			this.contents[index] = this.contents[parent];
+			index = parent;
+		}
+		this.scores[index] = score;
+		this.contents[index] = content;
+	}
+
+	private void siftDown(int index, SimpleVectorStoreContent content, double score) {
+		int half = this.size >>> 1;
+		while (index < half) {
+			int child = 2 * index + 1;
+			int right = child + 1;
+			if (right < this.size && this.scores[right] < this.scores[child]) {
+				child = right;
+			}
+			if (score <= this.scores[child]) {
+				break;
+			}
+			this.scores[index] = this.scores[child];
+			this.contents[index] = this.contents[child];
+			index = child;
+		}
+		this.scores[index] = score;
+		this.contents[index] = content;
+	}
+
+}
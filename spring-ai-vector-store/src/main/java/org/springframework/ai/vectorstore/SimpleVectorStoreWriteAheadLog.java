@@ -0,0 +1,322 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Append-only log of the add and delete operations applied to a
+ * {@link SimpleVectorStore}, periodically compacted into a JSON snapshot.
+ *
+ * The directory holds a snapshot in the {@link SimpleVectorStore#save(java.io.File)
+ * JSON format} and up to two logs: the active log, and the log rotated out by a
+ * compaction that has not completed yet. Each log line is one JSON operation. The
+ * current state is the snapshot with the rotated and the active log replayed on top of
+ * it.
+ *
+ * Replaying a log on a snapshot that already contains its operations yields the same
+ * state, because each operation only sets or removes whole documents. A crash at any
+ * point of a compaction therefore never loses or resurrects documents. The store
+ * validates an operation, appends it and only then applies it, all while holding its
+ * mutation lock. Appended operations are flushed to the operating system, so they
+ * survive a crash of the JVM; the snapshot is forced to disk before the rotated log is
+ * deleted.
+ *
+ * Instances are not thread-safe: the store serializes all calls except
+ * {@link #writeSnapshot(Collection)}.
+ *
+ * @since 1.0.0
+ */
+final class SimpleVectorStoreWriteAheadLog {
+
+	private static final Logger logger = LoggerFactory.getLogger(SimpleVectorStoreWriteAheadLog.class);
+
+	static final String SNAPSHOT_FILE_NAME = "simple-vector-store.json";
+
+	static final String LOG_FILE_NAME = "simple-vector-store.wal";
+
+	static final String ROTATED_LOG_FILE_NAME = "simple-vector-store.wal.1";
+
+	private static final String OPERATION = "op";
+
+	private static final String ADD = "add";
+
+	private static final String DELETE = "delete";
+
+	private final Path snapshotFile;
+
+	private final Path logFile;
+
+	private final Path rotatedLogFile;
+
+	private final int compactionThreshold;
+
+	private final ObjectMapper objectMapper;
+
+	@Nullable
+	private OutputStream log;
+
+	private int operationsSinceCompaction;
+
+	private volatile boolean compacting;
+
+	SimpleVectorStoreWriteAheadLog(Path directory, int compactionThreshold, ObjectMapper objectMapper) {
+		this.snapshotFile = directory.resolve(SNAPSHOT_FILE_NAME);
+		this.logFile = directory.resolve(LOG_FILE_NAME);
+		this.rotatedLogFile = directory.resolve(ROTATED_LOG_FILE_NAME);
+		this.compactionThreshold = compactionThreshold;
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * Restores the store contents from the snapshot and the logs, and opens the active
+	 * log for appending.
+	 * @return the recovered contents, keyed by document id
+	 * @throws IOException if the snapshot or a log cannot be read
+	 */
+	Map<String, SimpleVectorStoreContent> recover() throws IOException {
+		Files.createDirectories(this.snapshotFile.getParent());
+		Map<String, SimpleVectorStoreContent> contents;
+		if (Files.exists(this.snapshotFile)) {
+			try (InputStream stream = Files.newInputStream(this.snapshotFile)) {
+				contents = SimpleVectorStoreJsonFormat.read(stream, this.objectMapper);
+			}
+		}
+		else {
+			contents = new ConcurrentHashMap<>();
+		}
+		int replayed = replay(this.rotatedLogFile, contents) + replay(this.logFile, contents);
+		logger.info("Recovered {} documents from {}, replayed {} logged operations", contents.size(),
+				this.snapshotFile.getParent(), replayed);
+		this.operationsSinceCompaction = replayed;
+		this.log = openLog();
+		return contents;
+	}
+
+	/**
+	 * Appends an add operation for the given contents.
+	 * @param contents the added contents
+	 * @throws IOException if the operation cannot be written
+	 */
+	void appendAdd(Collection<SimpleVectorStoreContent> contents) throws IOException {
+		Map<String, Object> operation = new LinkedHashMap<>();
+		operation.put(OPERATION, ADD);
+		operation.put("contents", contents);
+		append(operation);
+	}
+
+	/**
+	 * Appends a delete operation for the given document ids.
+	 * @param ids the deleted document ids
+	 * @throws IOException if the operation cannot be written
+	 */
+	void appendDelete(Collection<String> ids) throws IOException {
+		Map<String, Object> operation = new LinkedHashMap<>();
+		operation.put(OPERATION, DELETE);
+		operation.put("ids", ids);
+		append(operation);
+	}
+
+	/**
+	 * Returns whether enough operations were logged since the last compaction to start
+	 * a new one.
+	 * @return {@code true} if a compaction is due
+	 */
+	boolean isCompactionDue() {
+		return !this.compacting && this.operationsSinceCompaction >= this.compactionThreshold;
+	}
+
+	/**
+	 * Starts a compaction by moving the active log aside and opening an empty one.
+	 * Operations appended from now on are not part of the snapshot that
+	 * {@link #writeSnapshot(Collection)} writes.
+	 * @return {@code false} if another compaction is still in progress
+	 * @throws IOException if the logs cannot be rotated
+	 */
+	boolean rotate() throws IOException {
+		if (this.compacting) {
+			return false;
+		}
+		closeLog();
+		try {
+			if (Files.exists(this.rotatedLogFile)) {
+				// A previous compaction failed: keep its operations ahead of the active ones.
+				try (OutputStream rotated = Files.newOutputStream(this.rotatedLogFile, StandardOpenOption.APPEND)) {
+					Files.copy(this.logFile, rotated);
+				}
+				Files.delete(this.logFile);
+			}
+			else {
+				Files.move(this.logFile, this.rotatedLogFile);
+			}
+		}
+		finally {
+			this.log = openLog();
+		}
+		this.operationsSinceCompaction = 0;
+		this.compacting = true;
+		return true;
+	}
+
+	/**
+	 * Completes a compaction started by {@link #rotate()}: atomically replaces the
+	 * snapshot with the given contents and deletes the rotated log.
+	 * @param contents the store contents at the time of the rotation
+	 * @throws IOException if the snapshot cannot be written
+	 */
+	void writeSnapshot(Collection<SimpleVectorStoreContent> contents) throws IOException {
+		try {
+			Path temporaryFile = this.snapshotFile.resolveSibling(SNAPSHOT_FILE_NAME + ".tmp");
+			try (FileOutputStream file = new FileOutputStream(temporaryFile.toFile());
+					OutputStream stream = new BufferedOutputStream(file)) {
+				SimpleVectorStoreJsonFormat.write(stream, contents, this.objectMapper);
+				stream.flush();
+				file.getFD().sync();
+			}
+			try {
+				Files.move(temporaryFile, this.snapshotFile, StandardCopyOption.REPLACE_EXISTING,
+						StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException ex) {
+				Files.move(temporaryFile, this.snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+			}
+			Files.deleteIfExists(this.rotatedLogFile);
+			logger.debug("Compacted vector store write-ahead log into a snapshot of {} documents", contents.size());
+		}
+		finally {
+			this.compacting = false;
+		}
+	}
+
+	private void append(Map<String, Object> operation) throws IOException {
+		if (this.log == null) {
+			throw new IllegalStateException("Write-ahead log has not been recovered");
+		}
+		this.log.write(this.objectMapper.writeValueAsBytes(operation));
+		this.log.write('\n');
+		this.log.flush();
+		this.operationsSinceCompaction++;
+	}
+
+	private int replay(Path file, Map<String, SimpleVectorStoreContent> contents) throws IOException {
+		if (!Files.exists(file)) {
+			return 0;
+		}
+		truncateIncompleteEntry(file);
+		int operations = 0;
+		try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (!line.isBlank()) {
+					apply(this.objectMapper.readTree(line), contents);
+					operations++;
+				}
+			}
+		}
+		return operations;
+	}
+
+	/**
+	 * Every entry is written with its terminating newline in a single flush, so only a
+	 * JVM stopped while writing can leave an unterminated entry, and only at the end of
+	 * the log. Removes it so that new entries are not appended to it.
+	 */
+	private static void truncateIncompleteEntry(Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			long size = channel.size();
+			long end = size;
+			ByteBuffer buffer = ByteBuffer.allocate(8192);
+			while (end > 0) {
+				int length = (int) Math.min(buffer.capacity(), end);
+				buffer.clear().limit(length);
+				while (buffer.hasRemaining()) {
+					if (channel.read(buffer, end - length + buffer.position()) < 0) {
+						throw new IOException("Unexpected end of write-ahead log " + file);
+					}
+				}
+				int newline = length - 1;
+				while (newline >= 0 && buffer.get(newline) != '\n') {
+					newline--;
+				}
+				if (newline >= 0) {
+					end = end - length + newline + 1;
+					break;
+				}
+				end -= length;
+			}
+			if (end < size) {
+				logger.warn("Discarding incomplete last entry of write-ahead log {}", file);
+				channel.truncate(end);
+			}
+		}
+	}
+
+	private void apply(JsonNode operation, Map<String, SimpleVectorStoreContent> contents) throws IOException {
+		String type = operation.path(OPERATION).asText();
+		if (ADD.equals(type)) {
+			for (JsonNode node : operation.path("contents")) {
+				SimpleVectorStoreContent content = this.objectMapper.treeToValue(node, SimpleVectorStoreContent.class);
+				contents.put(content.getId(), content);
+			}
+		}
+		else if (DELETE.equals(type)) {
+			for (JsonNode id : operation.path("ids")) {
+				contents.remove(id.asText());
+			}
+		}
+		else {
+			throw new IOException("Unknown write-ahead log operation: " + type);
+		}
+	}
+
+	private OutputStream openLog() throws IOException {
+		return new BufferedOutputStream(Files.newOutputStream(this.logFile, StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE, StandardOpenOption.APPEND));
+	}
+
+	private void closeLog() throws IOException {
+		if (this.log != null) {
+			this.log.close();
+			this.log = null;
+		}
+	}
+
+}
@@ -94,6 +94,23 @@ public interface VectorStore extends DocumentWriter {
 	@Nullable
 	List<Document> similaritySearch(SearchRequest request);
 
+	/**
+	 * Runs several similarity searches at once, for example for the expanded queries of
+	 * a multi-query retrieval. The default implementation runs the searches one after
+	 * another. Implementations may run them concurrently, embed all queries in a single
+	 * call and use the native multi-query support of their backend.
+	 * @param requests the search requests
+	 * @return the documents matching each request, in the order of the requests
+	 * @since 1.0.0
+	 */
+	default List<List<Document>> similaritySearch(List<SearchRequest> requests) {
+		Assert.notNull(requests, "Search requests must not be null");
+		return requests.stream().map(request -> {
+			List<Document> documents = this.similaritySearch(request);
+			return (documents != null) ? documents : List.<Document>of();
+		}).toList();
+	}
+
 	/**
 	 * Retrieves documents by query embedding similarity using the default
 	 * {@link SearchRequest}'s' search criteria.
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.filter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TimeZone;
+import java.util.function.Predicate;
+
+import org.springframework.ai.vectorstore.filter.Filter.Expression;
+import org.springframework.ai.vectorstore.filter.Filter.ExpressionType;
+import org.springframework.ai.vectorstore.filter.Filter.Operand;
+import org.springframework.util.Assert;
+
+/**
+ * Compiles a {@link Filter.Expression} into a {@link Predicate} evaluated directly
+ * against a document metadata map. The expression tree is walked once, so evaluating the
+ * predicate for each document costs a few map lookups and comparisons.
+ *
+ * <p>
+ * The comparison semantics follow the SpEL evaluation previously used by the
+ * {@code SimpleVectorStore}: numbers are compared by value regardless of their type,
+ * {@link Date} values are compared as {@code yyyy-MM-dd'T'HH:mm:ss'Z'} UTC strings and a
+ * missing metadata key is treated as {@code null}, which is ordered before any other
+ * value.
+ * </p>
+ *
+ * @since 1.0.0
+ */
+public final class FilterExpressionPredicateCompiler {
+
+	private FilterExpressionPredicateCompiler() {
+	}
+
+	/**
+	 * Compiles the filter expression into a metadata predicate.
+	 * @param expression the filter expression
+	 * @return a predicate returning {@code true} for the metadata maps matching the
+	 * expression
+	 */
+	public static Predicate<Map<String, Object>> compile(Filter.Expression expression) {
+		Assert.notNull(expression, "Filter expression must not be null");
+		return compileOperand(expression);
+	}
+
+	private static Predicate<Map<String, Object>> compileOperand(Operand operand) {
+		if (operand instanceof Filter.Group group) {
+			return compileOperand(group.content());
+		}
+		if (operand instanceof Filter.Expression expression) {
+			return compileExpression(expression);
+		}
+		throw new IllegalArgumentException("Expected an expression or group operand but was: " + operand);
+	}
+
+	private static Predicate<Map<String, Object>> compileExpression(Expression expression) {
+		return switch (expression.type()) {
+			case AND -> compileOperand(expression.left()).and(compileOperand(expression.right()));
+			case OR -> compileOperand(expression.left()).or(compileOperand(expression.right()));
+			case NOT -> compileOperand(expression.left()).negate();
+			default -> compileComparison(expression);
+		};
+	}
+
+	private static Predicate<Map<String, Object>> compileComparison(Expression expression) {
+		if (!(expression.left() instanceof Filter.Key key) || !(expression.right() instanceof Filter.Value value)) {
+			throw new IllegalArgumentException(
+					"Expected a key on the left and a value on the right of expression: " + expression);
+		}
+		String identifier = key.key().trim();
+		String name = hasOuterQuotes(identifier) ? identifier.substring(1, identifier.length() - 1) : identifier;
+
+		return switch (expression.type()) {
+			case EQ -> {
+				Object expected = normalize(value.value());
+				yield metadata -> isEqual(metadata.get(name), expected);
+			}
+			case NE -> {
+				Object expected = normalize(value.value());
+				yield metadata -> !isEqual(metadata.get(name), expected);
+			}
+			case GT -> {
+				Object expected = normalize(value.value());
+				yield metadata -> compare(metadata.get(name), expected) > 0;
+			}
+			case GTE -> {
+				Object expected = normalize(value.value());
+				yield metadata -> compare(metadata.get(name), expected) >= 0;
+			}
+			case LT -> {
+				Object expected = normalize(value.value());
+				yield metadata -> compare(metadata.get(name), expected) < 0;
+			}
+			case LTE -> {
+				Object expected = normalize(value.value());
+				yield metadata -> compare(metadata.get(name), expected) <= 0;
+			}
+			case IN -> {
+				List<Object> expected = normalizeList(value.value());
+				yield metadata -> contains(expected, metadata.get(name));
+			}
+			case NIN -> {
+				List<Object> expected = normalizeList(value.value());
+				yield metadata -> !contains(expected, metadata.get(name));
+			}
+			default -> throw new IllegalArgumentException("Not supported expression type: " + expression.type());
+		};
+	}
+
+	private static boolean contains(List<Object> values, Object actual) {
+		for (Object value : values) {
+			if (isEqual(actual, value)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isEqual(Object left, Object right) {
+		if (left == right) {
+			return true;
+		}
+		if (left == null || right == null) {
+			return false;
+		}
+		if (left instanceof Number leftNumber && right instanceof Number rightNumber) {
+			return compareNumbers(leftNumber, rightNumber) == 0;
+		}
+		if (left instanceof CharSequence && right instanceof CharSequence) {
+			return left.toString().equals(right.toString());
+		}
+		return Objects.equals(left, right);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static int compare(Object left, Object right) {
+		if (left == null || right == null) {
+			return (left == null) ? ((right == null) ? 0 : -1) : 1;
+		}
+		if (left instanceof Number leftNumber && right instanceof Number rightNumber) {
+			return compareNumbers(leftNumber, rightNumber);
+		}
+		if (left instanceof CharSequence && right instanceof CharSequence) {
+			return left.toString().compareTo(right.toString());
+		}
+		if (left instanceof Comparable comparable && left.getClass().isInstance(right)) {
+			return comparable.compareTo(right);
+		}
+		throw new IllegalArgumentException(
+				"Cannot compare " + left.getClass().getName() + " with " + right.getClass().getName());
+	}
+
+	private static int compareNumbers(Number left, Number right) {
+		if (isIntegral(left) && isIntegral(right)) {
+			return Long.compare(left.longValue(), right.longValue());
+		}
+		if (left instanceof BigDecimal || right instanceof BigDecimal || left instanceof BigInteger
+				|| right instanceof BigInteger) {
+			return new BigDecimal(left.toString()).compareTo(new BigDecimal(right.toString()));
+		}
+		return Double.compare(left.doubleValue(), right.doubleValue());
+	}
+
+	private static boolean isIntegral(Number number) {
+		return number instanceof Integer || number instanceof Long || number instanceof Short
+				|| number instanceof Byte;
+	}
+
+	private static List<Object> normalizeList(Object value) {
+		if (!(value instanceof List<?> list)) {
+			throw new IllegalArgumentException("Expected a list value for IN/NIN expressions but was: " + value);
+		}
+		return list.stream().map(FilterExpressionPredicateCompiler::normalize).toList();
+	}
+
+	private static Object normalize(Object value) {
+		if (value instanceof Date date) {
+			SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'");
+			dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+			return dateFormat.format(date);
+		}
+		return value;
+	}
+
+	private static boolean hasOuterQuotes(String str) {
+		return str.length() > 1 && ((str.startsWith("\"") && str.endsWith("\""))
+				|| (str.startsWith("'") && str.endsWith("'")));
+	}
+
+}
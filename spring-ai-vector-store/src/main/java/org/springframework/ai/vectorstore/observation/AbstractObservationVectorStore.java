@@ -16,7 +16,15 @@
 
 package org.springframework.ai.vectorstore.observation;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
 
 import io.micrometer.observation.ObservationRegistry;
 
@@ -27,7 +35,9 @@ import org.springframework.ai.vectorstore.AbstractVectorStoreBuilder;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * Abstract base class for {@link VectorStore} implementations that provides observation
@@ -41,6 +51,19 @@ public abstract class AbstractObservationVectorStore implements VectorStore {
 
 	private static final VectorStoreObservationConvention DEFAULT_OBSERVATION_CONVENTION = new DefaultVectorStoreObservationConvention();
 
+	/**
+	 * The page size used to delete documents by filter through
+	 * {@link #doScan(Filter.Expression, int)}.
+	 */
+	protected static final int DEFAULT_SCAN_PAGE_SIZE = 1000;
+
+	/**
+	 * The maximum number of searches of a batch that
+	 * {@link #doBatchSimilaritySearch(List)} runs at the same time, across all batches of
+	 * the store.
+	 */
+	protected static final int DEFAULT_MAX_CONCURRENT_SEARCHES = 4;
+
 	private final ObservationRegistry observationRegistry;
 
 	@Nullable
@@ -50,6 +73,18 @@ public abstract class AbstractObservationVectorStore implements VectorStore {
 
 	protected final BatchingStrategy batchingStrategy;
 
+	/**
+	 * Runs the searches of a batch, at most {@link #DEFAULT_MAX_CONCURRENT_SEARCHES} at a
+	 * time.
+	 */
+	private final Executor searchExecutor = searchExecutor();
+
+	/**
+	 * Whether the store may override {@link #doSimilaritySearch(SearchRequest, float[])},
+	 * cleared by the first batch search that finds it does not.
+	 */
+	private volatile boolean searchesByEmbedding = true;
+
 	private AbstractObservationVectorStore(EmbeddingModel embeddingModel, ObservationRegistry observationRegistry,
 			@Nullable VectorStoreObservationConvention customObservationConvention, BatchingStrategy batchingStrategy) {
 		this.embeddingModel = embeddingModel;
@@ -129,6 +164,20 @@ public abstract class AbstractObservationVectorStore implements VectorStore {
 			});
 	}
 
+	@Override
+	public List<List<Document>> similaritySearch(List<SearchRequest> requests) {
+		Assert.notNull(requests, "Search requests must not be null");
+
+		VectorStoreObservationContext searchObservationContext = this
+			.createObservationContextBuilder(VectorStoreObservationContext.Operation.BATCH_QUERY.value())
+			.build();
+
+		return VectorStoreObservationDocumentation.AI_VECTOR_STORE
+			.observation(this.customObservationConvention, DEFAULT_OBSERVATION_CONVENTION,
+					() -> searchObservationContext, this.observationRegistry)
+			.observe(() -> requests.isEmpty() ? List.of() : this.doBatchSimilaritySearch(requests));
+	}
+
 	/**
 	 * Perform the actual add operation.
 	 * @param documents the documents to add
@@ -143,22 +192,154 @@ public abstract class AbstractObservationVectorStore implements VectorStore {
 
 	/**
 	 * Template method for concrete implementations to provide filter-based deletion
-	 * logic.
+	 * logic. Defaults to paging through the matching documents with
+	 * {@link #doScan(Filter.Expression, int)} and deleting each page by ID, for stores
+	 * that can scan but not delete by filter natively.
 	 * @param filterExpression Filter expression to identify documents to delete
 	 */
 	protected void doDelete(Filter.Expression filterExpression) {
-		// this is temporary until we implement this method in all concrete vector stores,
-		// at which point
-		// this method will become an abstract method.
+		try (Stream<List<Document>> pages = this.doScan(filterExpression, DEFAULT_SCAN_PAGE_SIZE)) {
+			pages.forEach(page -> this.doDelete(page.stream().map(Document::getId).toList()));
+		}
+	}
+
+	/**
+	 * Template method for concrete implementations to page through all documents
+	 * matching a filter expression, using their metadata only: no embedding is computed
+	 * and the number of matches is not capped. The returned documents need not carry
+	 * their embeddings. Callers must close the stream, which may hold a server-side
+	 * cursor.
+	 * @param filterExpression Filter expression to identify the documents
+	 * @param pageSize the maximum number of documents per page
+	 * @return the pages of matching documents
+	 */
+	protected Stream<List<Document>> doScan(Filter.Expression filterExpression, int pageSize) {
+		// this is temporary until we implement this method in all concrete vector stores
 		throw new UnsupportedOperationException();
 	}
 
 	/**
-	 * Perform the actual similarity search operation.
+	 * Perform the actual similarity search operation. Stores implement either this
+	 * method or {@link #doSimilaritySearch(SearchRequest, float[])}: the default
+	 * implementation embeds the request query with {@link #embedQuery(SearchRequest)}
+	 * and delegates to the latter.
+	 * @param request the search request
+	 * @return the list of documents that match the query request conditions
+	 */
+	public List<Document> doSimilaritySearch(SearchRequest request) {
+		return this.doSimilaritySearch(request, this.embedQuery(request));
+	}
+
+	/**
+	 * Perform the actual similarity search operation with the query already embedded.
+	 * Stores should override this method, so that the queries of a batch search are
+	 * embedded in a single call; the default implementation throws an
+	 * {@link UnsupportedOperationException}, and batch searches then fall back to
+	 * {@link #doSimilaritySearch(SearchRequest)}.
 	 * @param request the search request
+	 * @param queryEmbedding the embedding of the request query
 	 * @return the list of documents that match the query request conditions
 	 */
-	public abstract List<Document> doSimilaritySearch(SearchRequest request);
+	protected List<Document> doSimilaritySearch(SearchRequest request, float[] queryEmbedding) {
+		throw new EmbeddedQuerySearchNotSupportedException(getClass());
+	}
+
+	/**
+	 * Perform the actual batch similarity search operation. The default implementation
+	 * embeds the queries of all requests in a single call, then runs the searches
+	 * concurrently, at most {@link #DEFAULT_MAX_CONCURRENT_SEARCHES} at a time. If the
+	 * store does not override {@link #doSimilaritySearch(SearchRequest, float[])}, each
+	 * search embeds its own query with {@link #doSimilaritySearch(SearchRequest)}
+	 * instead. Stores whose backend supports multi-query search override it.
+	 * @param requests the search requests, not empty
+	 * @return the documents matching each request, in the order of the requests
+	 */
+	protected List<List<Document>> doBatchSimilaritySearch(List<SearchRequest> requests) {
+		if (this.searchesByEmbedding) {
+			List<float[]> queryEmbeddings = this.embedQueries(requests);
+			try {
+				return searchConcurrently(requests,
+						i -> this.doSimilaritySearch(requests.get(i), queryEmbeddings.get(i)));
+			}
+			catch (EmbeddedQuerySearchNotSupportedException ex) {
+				this.searchesByEmbedding = false;
+			}
+		}
+		return searchConcurrently(requests, i -> this.doSimilaritySearch(requests.get(i)));
+	}
+
+	private List<List<Document>> searchConcurrently(List<SearchRequest> requests,
+			IntFunction<List<Document>> search) {
+		List<CompletableFuture<List<Document>>> searches = new ArrayList<>(requests.size());
+		for (int i = 0; i < requests.size(); i++) {
+			int index = i;
+			searches.add(CompletableFuture.supplyAsync(() -> search.apply(index), this.searchExecutor));
+		}
+		List<List<Document>> results = new ArrayList<>(searches.size());
+		for (CompletableFuture<List<Document>> search : searches) {
+			try {
+				results.add(search.join());
+			}
+			catch (CompletionException ex) {
+				searches.forEach(pending -> pending.cancel(false));
+				if (ex.getCause() instanceof RuntimeException cause) {
+					throw cause;
+				}
+				throw ex;
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Returns the embedding of the request query: the
+	 * {@link SearchRequest#getQueryEmbedding() query embedding} of the request if it has
+	 * one, the embedding of the query text otherwise.
+	 * @param request the search request
+	 * @return the embedding of the request query
+	 */
+	protected float[] embedQuery(SearchRequest request) {
+		float[] queryEmbedding = request.getQueryEmbedding();
+		return (queryEmbedding != null) ? queryEmbedding : this.embeddingModel.embed(request.getQuery());
+	}
+
+	/**
+	 * Embeds the queries of the requests in a single call, embedding each distinct query
+	 * once. Requests that carry a {@link SearchRequest#getQueryEmbedding() query
+	 * embedding} use it and are not embedded again.
+	 * @param requests the search requests
+	 * @return the embedding of the query of each request, in the order of the requests
+	 */
+	protected List<float[]> embedQueries(List<SearchRequest> requests) {
+		List<String> queries = requests.stream()
+			.filter(request -> !request.hasQueryEmbedding())
+			.map(SearchRequest::getQuery)
+			.distinct()
+			.toList();
+		Map<String, float[]> embeddingsByQuery = new HashMap<>();
+		if (!queries.isEmpty()) {
+			List<float[]> embeddings = this.embeddingModel.embed(queries);
+			for (int i = 0; i < queries.size(); i++) {
+				embeddingsByQuery.put(queries.get(i), embeddings.get(i));
+			}
+		}
+		return requests.stream()
+			.map(request -> request.hasQueryEmbedding() ? request.getQueryEmbedding()
+					: embeddingsByQuery.get(request.getQuery()))
+			.toList();
+	}
+
+	private static Executor searchExecutor() {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("vector-store-search-");
+		try {
+			executor.setVirtualThreads(true);
+		}
+		catch (UnsupportedOperationException ex) {
+			executor.setDaemon(true);
+		}
+		executor.setConcurrencyLimit(DEFAULT_MAX_CONCURRENT_SEARCHES);
+		return executor;
+	}
 
 	/**
 	 * Create a new {@link VectorStoreObservationContext.Builder} instance.
@@ -167,4 +348,17 @@ public abstract class AbstractObservationVectorStore implements VectorStore {
 	 */
 	public abstract VectorStoreObservationContext.Builder createObservationContextBuilder(String operationName);
 
+	/**
+	 * Thrown by the default {@link #doSimilaritySearch(SearchRequest, float[])}, so that
+	 * batch searches can tell a store that does not override it from a failed search.
+	 */
+	private static final class EmbeddedQuerySearchNotSupportedException extends UnsupportedOperationException {
+
+		EmbeddedQuerySearchNotSupportedException(Class<?> storeType) {
+			super(storeType.getName() + " must override doSimilaritySearch(SearchRequest) or "
+					+ "doSimilaritySearch(SearchRequest, float[])");
+		}
+
+	}
+
 }
@@ -163,7 +163,11 @@ public class VectorStoreObservationContext extends Observation.Context {
 		/**
 		 * VectorStore similarity search operation.
 		 */
-		QUERY("query");
+		QUERY("query"),
+		/**
+		 * VectorStore batch similarity search operation.
+		 */
+		BATCH_QUERY("batch_query");
 
 		public final String value;
 
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SimpleVectorStoreHnswIndexTests {
+
+	private static final int DIMENSIONS = 32;
+
+	private final Random random = new Random(42);
+
+	@Test
+	void shouldFindNearestNeighboursWithHighRecall() {
+		SimpleVectorStoreHnswIndex index = new SimpleVectorStoreHnswIndex(16, 100);
+		Map<String, float[]> vectors = randomVectors(2000);
+		vectors.forEach(index::add);
+
+		int hits = 0;
+		int queries = 50;
+		for (int q = 0; q < queries; q++) {
+			float[] query = randomVector();
+			List<String> expected = exactNearest(vectors, query, 10);
+			List<String> actual = index.search(query, 10, 64, id -> true);
+			assertThat(actual).hasSize(10);
+			hits += (int) actual.stream().filter(expected::contains).count();
+		}
+
+		assertThat(hits / (double) (queries * 10)).isGreaterThan(0.9);
+	}
+
+	@Test
+	void shouldNotReturnRemovedVectors() {
+		SimpleVectorStoreHnswIndex index = new SimpleVectorStoreHnswIndex(8, 50);
+		Map<String, float[]> vectors = randomVectors(500);
+		vectors.forEach(index::add);
+
+		List<String> removed = IntStream.range(0, 400).mapToObj(String::valueOf).toList();
+		removed.forEach(index::remove);
+
+		assertThat(index.size()).isEqualTo(100);
+		for (int q = 0; q < 10; q++) {
+			assertThat(index.search(randomVector(), 20, 50, id -> true)).hasSize(20)
+				.doesNotContainAnyElementsOf(removed);
+		}
+	}
+
+	@Test
+	void shouldReplaceVectorWithSameId() {
+		SimpleVectorStoreHnswIndex index = new SimpleVectorStoreHnswIndex(4, 10);
+		index.add("1", new float[] { 1f, 0f });
+		index.add("2", new float[] { 0f, 1f });
+		index.add("1", new float[] { -1f, 0f });
+
+		assertThat(index.size()).isEqualTo(2);
+		assertThat(index.search(new float[] { -1f, 0f }, 2, 10, id -> true)).containsExactly("1", "2");
+	}
+
+	@Test
+	void shouldOnlyReturnFilteredIds() {
+		SimpleVectorStoreHnswIndex index = new SimpleVectorStoreHnswIndex(8, 50);
+		randomVectors(300).forEach(index::add);
+
+		List<String> results = index.search(randomVector(), 10, 50, id -> Integer.parseInt(id) % 3 == 0);
+
+		assertThat(results).hasSize(10).allSatisfy(id -> assertThat(Integer.parseInt(id) % 3).isZero());
+	}
+
+	@Test
+	void shouldSearchThroughVectorStore() {
+		EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+		when(embeddingModel.dimensions()).thenReturn(3);
+		when(embeddingModel.embed(any(Document.class)))
+			.thenAnswer(invocation -> ((Document) invocation.getArgument(0)).getId().equals("1")
+					? new float[] { 1f, 0f, 0f } : new float[] { 0f, 1f, 0f });
+		when(embeddingModel.embed(anyList(), any(), any())).thenAnswer(
+				invocation -> invocation.<List<Document>>getArgument(0).stream().map(embeddingModel::embed).toList());
+		when(embeddingModel.embed(any(String.class))).thenReturn(new float[] { 0.9f, 0.1f, 0f });
+
+		SimpleVectorStore vectorStore = SimpleVectorStore.builder(embeddingModel)
+			.indexType(SimpleVectorStore.IndexType.HNSW)
+			.hnswM(4)
+			.build();
+
+		vectorStore.add(List.of(Document.builder().id("1").text("first").metadata(Map.of("type", "a")).build(),
+				Document.builder().id("2").text("second").metadata(Map.of("type", "b")).build()));
+
+		assertThat(vectorStore.similaritySearch("query")).extracting(Document::getId).containsExactly("1", "2");
+		SearchRequest filtered = SearchRequest.builder().query("query").filterExpression("type == 'b'").build();
+		assertThat(vectorStore.similaritySearch(filtered)).extracting(Document::getId)
+			.containsExactly("2");
+
+		vectorStore.delete(List.of("1"));
+		assertThat(vectorStore.similaritySearch("query")).extracting(Document::getId).containsExactly("2");
+	}
+
+	private Map<String, float[]> randomVectors(int count) {
+		Map<String, float[]> vectors = new HashMap<>();
+		for (int i = 0; i < count; i++) {
+			vectors.put(String.valueOf(i), randomVector());
+		}
+		return vectors;
+	}
+
+	private float[] randomVector() {
+		float[] vector = new float[DIMENSIONS];
+		for (int i = 0; i < DIMENSIONS; i++) {
+			vector[i] = (float) this.random.nextGaussian();
+		}
+		return vector;
+	}
+
+	private static List<String> exactNearest(Map<String, float[]> vectors, float[] query, int k) {
+		List<Map.Entry<String, float[]>> entries = new ArrayList<>(vectors.entrySet());
+		entries.sort(Comparator.comparingDouble(
+				(Map.Entry<String, float[]> entry) -> SimpleVectorStore.EmbeddingMath.cosineSimilarity(query,
+						entry.getValue()))
+			.reversed());
+		return entries.stream().limit(k).map(Map.Entry::getKey).toList();
+	}
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.vectorstore.filter.FilterExpressionTextParser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SimpleVectorStoreMetadataIndexTests {
+
+	private final FilterExpressionTextParser parser = new FilterExpressionTextParser();
+
+	private SimpleVectorStoreMetadataIndex index;
+
+	@BeforeEach
+	void setUp() {
+		this.index = new SimpleVectorStoreMetadataIndex(List.of("tenant", "year"));
+		this.index.add(content("1", Map.of("tenant", "acme", "year", 2020, "type", "pdf")));
+		this.index.add(content("2", Map.of("tenant", "acme", "year", 2021L, "type", "txt")));
+		this.index.add(content("3", Map.of("tenant", "globex", "year", 2020, "type", "pdf")));
+	}
+
+	@Test
+	void shouldResolveEqualityAndIn() {
+		assertThat(candidates("tenant == 'acme'")).containsExactlyInAnyOrder("1", "2");
+		assertThat(candidates("tenant in ['globex', 'initech']")).containsExactly("3");
+		assertThat(candidates("tenant == 'initech'")).isEmpty();
+	}
+
+	@Test
+	void shouldCompareNumbersByValue() {
+		assertThat(candidates("year == 2021")).containsExactly("2");
+		assertThat(candidates("year == 2020.0")).containsExactlyInAnyOrder("1", "3");
+	}
+
+	@Test
+	void shouldCombineClauses() {
+		assertThat(candidates("tenant == 'acme' && year == 2020")).containsExactly("1");
+		assertThat(candidates("tenant == 'acme' && type == 'pdf'")).containsExactlyInAnyOrder("1", "2");
+		assertThat(candidates("(tenant == 'globex' || year == 2021)")).containsExactlyInAnyOrder("2", "3");
+	}
+
+	@Test
+	void shouldNotNarrowUnindexedOrNegatedClauses() {
+		assertThat(candidates("type == 'pdf'")).isNull();
+		assertThat(candidates("tenant == 'acme' || type == 'pdf'")).isNull();
+		assertThat(candidates("tenant != 'acme'")).isNull();
+		assertThat(candidates("year > 2020")).isNull();
+	}
+
+	@Test
+	void shouldRemoveContent() {
+		this.index.remove(content("1", Map.of("tenant", "acme", "year", 2020, "type", "pdf")));
+
+		assertThat(candidates("tenant == 'acme'")).containsExactly("2");
+		assertThat(candidates("year == 2020")).containsExactly("3");
+	}
+
+	@Test
+	void shouldSearchIndexedStore() {
+		EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+		when(embeddingModel.dimensions()).thenReturn(3);
+		when(embeddingModel.embed(any(String.class))).thenReturn(new float[] { 0.1f, 0.2f, 0.3f });
+		when(embeddingModel.embed(any(Document.class))).thenReturn(new float[] { 0.1f, 0.2f, 0.3f });
+		when(embeddingModel.embed(anyList(), any(), any())).thenAnswer(
+				invocation -> invocation.<List<Document>>getArgument(0).stream().map(embeddingModel::embed).toList());
+		SimpleVectorStore vectorStore = SimpleVectorStore.builder(embeddingModel).indexedMetadataKeys("tenant").build();
+
+		vectorStore.add(List.of(Document.builder().id("1").text("one").metadata(Map.of("tenant", "acme")).build(),
+				Document.builder().id("2").text("two").metadata(Map.of("tenant", "globex")).build()));
+		vectorStore.add(List.of(Document.builder().id("2").text("two").metadata(Map.of("tenant", "acme")).build()));
+
+		SearchRequest request = SearchRequest.builder().query("query").filterExpression("tenant == 'acme'").build();
+		assertThat(vectorStore.similaritySearch(request)).extracting(Document::getId)
+			.containsExactlyInAnyOrder("1", "2");
+
+		vectorStore.delete(List.of("1"));
+		assertThat(vectorStore.similaritySearch(request)).extracting(Document::getId).containsExactly("2");
+		request = SearchRequest.builder().query("query").filterExpression("tenant == 'globex'").build();
+		assertThat(vectorStore.similaritySearch(request)).isEmpty();
+	}
+
+	private Set<String> candidates(String expression) {
+		return this.index.candidates(this.parser.parse(expression));
+	}
+
+	private static SimpleVectorStoreContent content(String id, Map<String, Object> metadata) {
+		return new SimpleVectorStoreContent(id, "text " + id, metadata, new float[] { 1f });
+	}
+
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SimpleVectorStoreQuantizedIndexTests {
+
+	private static final int DIMENSIONS = 32;
+
+	private final Random random = new Random(42);
+
+	@Test
+	void shouldApproximateCosineSimilarity() {
+		for (int i = 0; i < 100; i++) {
+			float[] vector = randomVector();
+			float[] query = randomVector();
+			byte[] codes = new byte[DIMENSIONS];
+
+			float scale = SimpleVectorStoreQuantizedIndex.quantize(vector,
+					SimpleVectorStore.EmbeddingMath.magnitude(vector), codes, 0);
+			double approximate = scale * SimpleVectorStoreQuantizedIndex
+				.dot(SimpleVectorStore.EmbeddingMath.normalize(query), codes, 0);
+
+			assertThat(approximate).isCloseTo(SimpleVectorStore.EmbeddingMath.cosineSimilarity(query, vector),
+					within(0.02));
+		}
+	}
+
+	@Test
+	void shouldFindNearestNeighboursWithHighRecall() {
+		SimpleVectorStoreQuantizedIndex index = new SimpleVectorStoreQuantizedIndex();
+		List<SimpleVectorStoreContent> contents = randomContents(10_000);
+		contents.forEach(index::add);
+
+		int hits = 0;
+		int queries = 50;
+		for (int q = 0; q < queries; q++) {
+			float[] query = randomVector();
+			List<SimpleVectorStoreContent> expected = exactNearest(contents, query, 10);
+			List<SimpleVectorStoreContent> candidates = index.search(query, 40, content -> true,
+					(q % 2 == 0) ? ForkJoinPool.commonPool() : null);
+			assertThat(candidates).hasSize(40);
+			hits += (int) exactNearest(candidates, query, 10).stream().filter(expected::contains).count();
+		}
+
+		assertThat(hits / (double) (queries * 10)).isGreaterThan(0.95);
+	}
+
+	@Test
+	void shouldNotReturnRemovedOrFilteredContents() {
+		SimpleVectorStoreQuantizedIndex index = new SimpleVectorStoreQuantizedIndex();
+		List<SimpleVectorStoreContent> contents = randomContents(500);
+		contents.forEach(index::add);
+
+		List<String> removed = IntStream.range(0, 400).mapToObj(String::valueOf).toList();
+		removed.forEach(index::remove);
+
+		assertThat(index.size()).isEqualTo(100);
+		assertThat(index.search(randomVector(), 200, content -> true, null)).hasSize(100)
+			.extracting(SimpleVectorStoreContent::getId)
+			.doesNotContainAnyElementsOf(removed);
+		assertThat(index.search(randomVector(), 10, content -> Integer.parseInt(content.getId()) % 3 == 0, null))
+			.hasSize(10)
+			.allSatisfy(content -> assertThat(Integer.parseInt(content.getId()) % 3).isZero());
+	}
+
+	@Test
+	void shouldReplaceContentWithSameId() {
+		SimpleVectorStoreQuantizedIndex index = new SimpleVectorStoreQuantizedIndex();
+		index.add(content("1", new float[] { 1f, 0f }));
+		index.add(content("2", new float[] { 0f, 1f }));
+		index.add(content("1", new float[] { -1f, 0f }));
+
+		assertThat(index.size()).isEqualTo(2);
+		assertThat(index.search(new float[] { -1f, 0f }, 1, content -> true, null))
+			.extracting(SimpleVectorStoreContent::getId)
+			.containsExactly("1");
+		assertThatThrownBy(() -> index.add(content("3", new float[] { 1f, 0f, 0f })))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void shouldRerankCandidatesWithExactEmbeddings() {
+		SimpleVectorStoreQuantizedIndex index = new SimpleVectorStoreQuantizedIndex();
+		List<SimpleVectorStoreContent> contents = randomContents(1000);
+		contents.forEach(index::add);
+		float[] query = randomVector();
+
+		List<Document> results = index.search(query, 1000, 5, 0.0, content -> true, null).toDocuments();
+
+		double queryMagnitude = SimpleVectorStore.EmbeddingMath.magnitude(query);
+		assertThat(results).isEqualTo(exactNearest(contents, query, 5).stream()
+			.map(content -> content.toDocument(content.cosineSimilarity(query, queryMagnitude)))
+			.toList());
+	}
+
+	@Test
+	void shouldKeepEmbeddingsOfIndexedContentsOffHeap() {
+		SimpleVectorStoreQuantizedIndex index = new SimpleVectorStoreQuantizedIndex();
+		SimpleVectorStoreContent added = content("1", new float[] { 1f, 2f });
+		index.add(content("2", new float[] { 3f, 4f }));
+
+		SimpleVectorStoreContent indexed = index.add(added);
+		assertThat(indexed.holdsEmbedding()).isFalse();
+		assertThat(indexed).isEqualTo(added);
+
+		index.add(content("1", new float[] { 5f, 6f }));
+		index.remove("2");
+		assertThat(indexed.getEmbedding()).containsExactly(1f, 2f);
+		assertThat(index.search(new float[] { 5f, 6f }, 1, content -> true, null)).singleElement()
+			.satisfies(content -> assertThat(content.getEmbedding()).containsExactly(5f, 6f));
+	}
+
+	@Test
+	void shouldSearchThroughVectorStore() {
+		List<SimpleVectorStoreContent> contents = randomContents(2000);
+		Map<String, float[]> embeddings = new HashMap<>();
+		contents.forEach(content -> embeddings.put(content.getText(), content.getEmbedding()));
+		float[] query = randomVector();
+		EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+		when(embeddingModel.dimensions()).thenReturn(DIMENSIONS);
+		when(embeddingModel.embed(any(Document.class)))
+			.thenAnswer(invocation -> embeddings.get(((Document) invocation.getArgument(0)).getText()));
+		when(embeddingModel.embed(anyList(), any(), any())).thenAnswer(
+				invocation -> invocation.<List<Document>>getArgument(0).stream().map(embeddingModel::embed).toList());
+		when(embeddingModel.embed(any(String.class))).thenReturn(query);
+
+		SimpleVectorStore exactStore = SimpleVectorStore.builder(embeddingModel).build();
+		SimpleVectorStore quantizedStore = SimpleVectorStore.builder(embeddingModel)
+			.quantizationType(SimpleVectorStore.QuantizationType.INT8)
+			.rerankFactor(20)
+			.build();
+		List<Document> documents = contents.stream()
+			.map(content -> Document.builder()
+				.id(content.getId())
+				.text(content.getText())
+				.metadata(Map.of("even", Integer.parseInt(content.getId()) % 2 == 0))
+				.build())
+			.toList();
+		exactStore.add(documents);
+		quantizedStore.add(documents);
+
+		SearchRequest request = SearchRequest.builder().query("query").topK(5).build();
+		assertThat(quantizedStore.similaritySearch(request)).isEqualTo(exactStore.similaritySearch(request));
+
+		request = SearchRequest.builder().query("query").topK(5).filterExpression("even == true").build();
+		assertThat(quantizedStore.similaritySearch(request)).isEqualTo(exactStore.similaritySearch(request));
+
+		quantizedStore.delete(List.of("0", "1", "2"));
+		assertThat(quantizedStore.similaritySearch(SearchRequest.builder().query("query").topK(2000).build()))
+			.hasSize(1997);
+	}
+
+	private List<SimpleVectorStoreContent> randomContents(int count) {
+		List<SimpleVectorStoreContent> contents = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			contents.add(content(String.valueOf(i), randomVector()));
+		}
+		return contents;
+	}
+
+	private static SimpleVectorStoreContent content(String id, float[] embedding) {
+		return new SimpleVectorStoreContent(id, "text " + id, Map.of(), embedding);
+	}
+
+	private float[] randomVector() {
+		float[] vector = new float[DIMENSIONS];
+		for (int i = 0; i < DIMENSIONS; i++) {
+			vector[i] = (float) this.random.nextGaussian();
+		}
+		return vector;
+	}
+
+	private static List<SimpleVectorStoreContent> exactNearest(List<SimpleVectorStoreContent> contents, float[] query,
+			int k) {
+		return contents.stream()
+			.sorted(Comparator.comparingDouble(
+					(SimpleVectorStoreContent content) -> -SimpleVectorStore.EmbeddingMath.cosineSimilarity(query,
+							content.embedding())))
+			.limit(k)
+			.toList();
+	}
+
+}
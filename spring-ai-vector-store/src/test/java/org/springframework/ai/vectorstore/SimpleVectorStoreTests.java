@@ -25,7 +25,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -38,9 +41,14 @@ import org.springframework.core.io.Resource;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class SimpleVectorStoreTests {
@@ -58,6 +66,11 @@ class SimpleVectorStoreTests {
 		when(this.mockEmbeddingModel.dimensions()).thenReturn(3);
 		when(this.mockEmbeddingModel.embed(any(String.class))).thenReturn(new float[] { 0.1f, 0.2f, 0.3f });
 		when(this.mockEmbeddingModel.embed(any(Document.class))).thenReturn(new float[] { 0.1f, 0.2f, 0.3f });
+		when(this.mockEmbeddingModel.embed(anyList(), any(), any()))
+			.thenAnswer(invocation -> invocation.<List<Document>>getArgument(0)
+				.stream()
+				.map(this.mockEmbeddingModel::embed)
+				.toList());
 		this.vectorStore = new SimpleVectorStore(SimpleVectorStore.builder(this.mockEmbeddingModel));
 	}
 
@@ -86,6 +99,43 @@ class SimpleVectorStoreTests {
 		assertThat(results).hasSize(2).extracting(Document::getId).containsExactlyInAnyOrder("1", "2");
 	}
 
+	@Test
+	void shouldEmbedBatchesConcurrently() {
+		when(this.mockEmbeddingModel.embed(any(Document.class))).thenAnswer(invocation -> {
+			Document document = invocation.getArgument(0);
+			if (document.getId().equals("fail")) {
+				throw new IllegalStateException("Embedding failed");
+			}
+			return new float[] { Float.parseFloat(document.getId()), 1f, 1f };
+		});
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			SimpleVectorStore concurrentStore = SimpleVectorStore.builder(this.mockEmbeddingModel)
+				.batchingStrategy(batch -> batch.stream().map(List::of).toList())
+				.embeddingExecutor(executor)
+				.build();
+			List<Document> documents = IntStream.rangeClosed(1, 20)
+				.mapToObj(i -> Document.builder().id(String.valueOf(i)).text("text " + i).build())
+				.toList();
+
+			concurrentStore.add(documents);
+
+			assertThat(concurrentStore.store).hasSize(20);
+			documents.forEach(document -> assertThat(concurrentStore.store.get(document.getId()).getEmbedding()[0])
+				.isEqualTo(Float.parseFloat(document.getId())));
+			verify(this.mockEmbeddingModel, times(20)).embed(anyList(), any(), any());
+
+			assertThatThrownBy(() -> concurrentStore.add(List.of(Document.builder().id("21").text("ok").build(),
+					Document.builder().id("fail").text("fail").build())))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage("Embedding failed");
+			assertThat(concurrentStore.store).doesNotContainKey("21");
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
 	@Test
 	void shouldHandleEmptyDocumentList() {
 		assertThatThrownBy(() -> this.vectorStore.add(Collections.emptyList()))
@@ -132,6 +182,23 @@ class SimpleVectorStoreTests {
 		assertThat(results).isEmpty();
 	}
 
+	@Test
+	void shouldSearchByQueryEmbeddingWithoutEmbeddingQuery() {
+		this.vectorStore.add(List.of(Document.builder().id("1").text("test content").build()));
+		SearchRequest opposite = SearchRequest.builder()
+			.query("test content")
+			.similarityThreshold(0.5)
+			.queryEmbedding(new float[] { -0.1f, -0.2f, -0.3f })
+			.build();
+		SearchRequest aligned = SearchRequest.from(opposite).queryEmbedding(new float[] { 1f, 2f, 3f }).build();
+
+		assertThat(this.vectorStore.similaritySearch(opposite)).isEmpty();
+		assertThat(this.vectorStore.similaritySearch(List.of(aligned))).singleElement()
+			.satisfies(results -> assertThat(results).extracting(Document::getId).containsExactly("1"));
+		verify(this.mockEmbeddingModel, never()).embed(any(String.class));
+		verify(this.mockEmbeddingModel, never()).embed(anyList());
+	}
+
 	@Test
 	void shouldSaveAndLoadVectorStore() throws IOException {
 		Document doc = Document.builder()
@@ -156,6 +223,69 @@ class SimpleVectorStoreTests {
 		});
 	}
 
+	@Test
+	void shouldSaveAndLoadVectorStoreInBinaryFormat() {
+		this.vectorStore.add(List.of(
+				Document.builder()
+					.id("1")
+					.text("test content")
+					.metadata(new HashMap<>(Map.of("key", "value", "year", 2020)))
+					.build(),
+				Document.builder().id("2").text("other content \u00e9\u4e2d").build()));
+
+		File saveFile = this.tempDir.resolve("vector-store.bin").toFile();
+		this.vectorStore.saveBinary(saveFile);
+
+		SimpleVectorStore loadedStore = SimpleVectorStore.builder(this.mockEmbeddingModel).build();
+		loadedStore.loadBinary(saveFile);
+
+		List<Document> results = loadedStore
+			.similaritySearch(SearchRequest.builder().query("test content").filterExpression("year == 2020").build());
+		assertThat(results).hasSize(1).first().satisfies(result -> {
+			assertThat(result.getId()).isEqualTo("1");
+			assertThat(result.getText()).isEqualTo("test content");
+			assertThat(result.getMetadata()).containsEntry("key", "value");
+			assertThat(result.getMetadata()).containsEntry("distance", 2.220446049250313E-16);
+		});
+		assertThat(loadedStore.store.get("2").getText()).isEqualTo("other content \u00e9\u4e2d");
+		assertThat(loadedStore.store.get("2").getEmbedding()).containsExactly(0.1f, 0.2f, 0.3f);
+	}
+
+	@Test
+	void shouldSaveBinaryStoreToTheFileItWasLoadedFrom() {
+		this.vectorStore.add(List.of(
+				Document.builder().id("1").text("test content").metadata(Map.of("key", "value")).build(),
+				Document.builder().id("2").text("other content").build()));
+		File saveFile = this.tempDir.resolve("vector-store.bin").toFile();
+		this.vectorStore.saveBinary(saveFile);
+
+		SimpleVectorStore loadedStore = SimpleVectorStore.builder(this.mockEmbeddingModel).build();
+		loadedStore.loadBinary(saveFile);
+		loadedStore.add(List.of(Document.builder().id("3").text("new content").build()));
+		loadedStore.saveBinary(saveFile);
+
+		assertThat(loadedStore.store.get("1").getMetadata()).containsEntry("key", "value");
+		SimpleVectorStore reloadedStore = SimpleVectorStore.builder(this.mockEmbeddingModel).build();
+		reloadedStore.loadBinary(saveFile);
+		assertThat(reloadedStore.store).containsOnlyKeys("1", "2", "3");
+		assertThat(reloadedStore.store.get("1").getText()).isEqualTo("test content");
+		assertThat(reloadedStore.store.get("1").getMetadata()).containsEntry("key", "value");
+		assertThat(reloadedStore.store.get("3").getEmbedding()).containsExactly(0.1f, 0.2f, 0.3f);
+		assertThat(reloadedStore.similaritySearch(SearchRequest.builder().query("test content").topK(3).build()))
+			.hasSize(3);
+	}
+
+	@Test
+	void shouldRejectLoadingJsonFileInBinaryFormat() {
+		this.vectorStore.add(List.of(Document.builder().id("1").text("test content").build()));
+		File saveFile = this.tempDir.resolve("vector-store.json").toFile();
+		this.vectorStore.save(saveFile);
+
+		assertThatThrownBy(() -> this.vectorStore.loadBinary(saveFile)).isInstanceOf(RuntimeException.class)
+			.hasCauseInstanceOf(IOException.class)
+			.hasMessageContaining("Not a binary vector store file");
+	}
+
 	@Test
 	void shouldHandleLoadFromInvalidResource() throws IOException {
 		Resource mockResource = mock(Resource.class);
@@ -259,4 +389,56 @@ class SimpleVectorStoreTests {
 			.hasMessage("Vectors must not be null");
 	}
 
+	@Test
+	void shouldComputeCosineSimilarityWithPrecomputedMagnitudes() {
+		float[] vectorX = new float[] { 0.3f, -1.2f, 2.5f, 0.7f, 1.1f, -0.4f, 0.9f };
+		float[] vectorY = new float[] { 1.4f, 0.2f, -0.6f, 2.2f, 0.1f, 0.8f, -1.5f };
+
+		double expected = SimpleVectorStore.EmbeddingMath.cosineSimilarity(vectorX, vectorY);
+		double actual = SimpleVectorStore.EmbeddingMath.cosineSimilarity(vectorX,
+				SimpleVectorStore.EmbeddingMath.magnitude(vectorX), vectorY,
+				SimpleVectorStore.EmbeddingMath.magnitude(vectorY));
+
+		assertThat(actual).isEqualTo(expected);
+	}
+
+	@Test
+	void shouldMatchSequentialDotProductUpToRounding() {
+		float[] vectorX = new float[1537];
+		float[] vectorY = new float[vectorX.length];
+		for (int i = 0; i < vectorX.length; i++) {
+			vectorX[i] = (float) Math.sin(i);
+			vectorY[i] = (float) Math.cos(i * 0.7);
+		}
+		float sequential = 0;
+		for (int i = 0; i < vectorX.length; i++) {
+			sequential += vectorX[i] * vectorY[i];
+		}
+
+		// The unrolled kernel reorders the float additions, so only the last ulps differ.
+		assertThat(SimpleVectorStore.EmbeddingMath.dotProduct(vectorX, vectorY)).isCloseTo(sequential,
+				within(1e-5f));
+	}
+
+	@Test
+	void shouldComputeBatchedDotProducts() {
+		float[] vector = new float[] { 1f, 2f, 3f, 4f, 5f };
+		float[] matrix = new float[] { 1f, 0f, 0f, 0f, 0f, 0f, 1f, 1f, 0f, 0f, 2f, 2f, 2f, 2f, 2f };
+		float[] result = new float[3];
+
+		SimpleVectorStore.EmbeddingMath.dotProducts(vector, matrix, result);
+
+		assertThat(result).containsExactly(1f, 5f, 30f);
+		assertThatThrownBy(() -> SimpleVectorStore.EmbeddingMath.dotProducts(vector, matrix, new float[2]))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void shouldNormalizeVectors() {
+		float[] normalized = SimpleVectorStore.EmbeddingMath.normalize(new float[] { 3f, 4f });
+
+		assertThat(normalized).containsExactly(0.6f, 0.8f);
+		assertThat(SimpleVectorStore.EmbeddingMath.normalize(new float[] { 0f, 0f })).containsExactly(0f, 0f);
+	}
+
 }
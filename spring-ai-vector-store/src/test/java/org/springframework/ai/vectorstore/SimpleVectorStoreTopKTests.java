@@ -0,0 +1,145 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SimpleVectorStoreTopKTests {
+
+	@Test
+	void shouldKeepBestScoresInDescendingOrder() {
+		SimpleVectorStoreTopK topK = new SimpleVectorStoreTopK(3, 0.0);
+		double[] scores = { 0.2, 0.9, 0.1, 0.5, 0.7, 0.3 };
+		for (int i = 0; i < scores.length; i++) {
+			topK.offer(content(String.valueOf(i)), scores[i]);
+		}
+
+		List<Document> documents = topK.toDocuments();
+
+		assertThat(documents).extracting(Document::getId).containsExactly("1", "4", "3");
+		assertThat(documents).extracting(Document::getScore).containsExactly(0.9, 0.7, 0.5);
+	}
+
+	@Test
+	void shouldSkipScoresBelowThreshold() {
+		SimpleVectorStoreTopK topK = new SimpleVectorStoreTopK(5, 0.6);
+		topK.offer(content("1"), 0.5);
+		topK.offer(content("2"), 0.6);
+		topK.offer(content("3"), 0.8);
+
+		assertThat(topK.toDocuments()).extracting(Document::getId).containsExactly("3", "2");
+	}
+
+	@Test
+	void shouldMergeHeaps() {
+		SimpleVectorStoreTopK first = new SimpleVectorStoreTopK(2, 0.0);
+		first.offer(content("1"), 0.1);
+		first.offer(content("2"), 0.4);
+		SimpleVectorStoreTopK second = new SimpleVectorStoreTopK(2, 0.0);
+		second.offer(content("3"), 0.3);
+		second.offer(content("4"), 0.2);
+
+		assertThat(first.merge(second).toDocuments()).extracting(Document::getId).containsExactly("2", "3");
+	}
+
+	@Test
+	void shouldReturnNothingForZeroK() {
+		SimpleVectorStoreTopK topK = new SimpleVectorStoreTopK(0, 0.0);
+		topK.offer(content("1"), 1.0);
+
+		assertThat(topK.toDocuments()).isEmpty();
+	}
+
+	@Test
+	void shouldGrowHeapOnDemandForLargeK() {
+		SimpleVectorStoreTopK topK = new SimpleVectorStoreTopK(Integer.MAX_VALUE, 0.0);
+		for (int i = 0; i < 100; i++) {
+			topK.offer(content(String.valueOf(i)), i / 100.0);
+		}
+
+		List<Document> documents = topK.toDocuments();
+
+		assertThat(documents).hasSize(100);
+		assertThat(documents.get(0).getId()).isEqualTo("99");
+		assertThat(documents.get(99).getId()).isEqualTo("0");
+	}
+
+	@Test
+	void parallelSearchShouldMatchSequentialSearch() {
+		EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+		when(embeddingModel.dimensions()).thenReturn(2);
+		when(embeddingModel.embed(any(Document.class))).thenAnswer(invocation -> {
+			int id = Integer.parseInt(((Document) invocation.getArgument(0)).getId());
+			return new float[] { 1f, id / 10_000f };
+		});
+		when(embeddingModel.embed(anyList(), any(), any())).thenAnswer(
+				invocation -> invocation.<List<Document>>getArgument(0).stream().map(embeddingModel::embed).toList());
+		when(embeddingModel.embed(any(String.class))).thenReturn(new float[] { 0f, 1f });
+
+		List<Document> documents = IntStream.range(0, 10_000)
+			.mapToObj(i -> Document.builder().id(String.valueOf(i)).text("text " + i).build())
+			.toList();
+		SimpleVectorStore sequential = SimpleVectorStore.builder(embeddingModel).build();
+		sequential.add(documents);
+		SimpleVectorStore parallel = SimpleVectorStore.builder(embeddingModel)
+			.parallelSearch(true)
+			.forkJoinPool(new ForkJoinPool(4))
+			.build();
+		parallel.add(documents);
+
+		SearchRequest request = SearchRequest.builder().query("query").topK(5).build();
+
+		assertThat(parallel.similaritySearch(request)).extracting(Document::getId)
+			.containsExactly("9999", "9998", "9997", "9996", "9995")
+			.isEqualTo(sequential.similaritySearch(request).stream().map(Document::getId).toList());
+	}
+
+	@Test
+	void shouldSearchWithUnboundedTopK() {
+		EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+		when(embeddingModel.dimensions()).thenReturn(2);
+		when(embeddingModel.embed(any(Document.class))).thenReturn(new float[] { 1f, 0f });
+		when(embeddingModel.embed(anyList(), any(), any())).thenAnswer(
+				invocation -> invocation.<List<Document>>getArgument(0).stream().map(embeddingModel::embed).toList());
+		when(embeddingModel.embed(any(String.class))).thenReturn(new float[] { 1f, 0f });
+		SimpleVectorStore vectorStore = SimpleVectorStore.builder(embeddingModel).build();
+		vectorStore.add(List.of(new Document("1", "first", Map.of()), new Document("2", "second", Map.of())));
+
+		SearchRequest request = SearchRequest.builder().query("query").topK(Integer.MAX_VALUE).build();
+
+		assertThat(vectorStore.similaritySearch(request)).hasSize(2);
+	}
+
+	private static SimpleVectorStoreContent content(String id) {
+		return new SimpleVectorStoreContent(id, "text " + id, Map.of(), new float[] { 1f });
+	}
+
+}
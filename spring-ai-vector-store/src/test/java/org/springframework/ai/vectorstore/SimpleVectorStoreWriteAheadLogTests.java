@@ -0,0 +1,175 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SimpleVectorStoreWriteAheadLogTests {
+
+	@TempDir
+	Path tempDir;
+
+	private EmbeddingModel embeddingModel;
+
+	@BeforeEach
+	void setUp() {
+		this.embeddingModel = mock(EmbeddingModel.class);
+		when(this.embeddingModel.dimensions()).thenReturn(3);
+		when(this.embeddingModel.embed(any(String.class))).thenReturn(new float[] { 0.1f, 0.2f, 0.3f });
+		when(this.embeddingModel.embed(any(Document.class))).thenReturn(new float[] { 0.1f, 0.2f, 0.3f });
+		when(this.embeddingModel.embed(anyList(), any(), any()))
+			.thenAnswer(invocation -> invocation.<List<Document>>getArgument(0)
+				.stream()
+				.map(this.embeddingModel::embed)
+				.toList());
+	}
+
+	@Test
+	void shouldRecoverLoggedOperations() {
+		SimpleVectorStore vectorStore = newVectorStore(100);
+		vectorStore.add(List.of(document("1", "acme"), document("2", "acme")));
+		vectorStore.add(List.of(document("2", "globex")));
+		vectorStore.delete(List.of("1"));
+
+		SimpleVectorStore recovered = newVectorStore(100);
+
+		assertThat(recovered.store).containsOnlyKeys("2");
+		assertThat(recovered.store.get("2").getMetadata()).containsEntry("tenant", "globex");
+		assertThat(this.tempDir.resolve(SimpleVectorStoreWriteAheadLog.SNAPSHOT_FILE_NAME)).doesNotExist();
+	}
+
+	@Test
+	void shouldCompactLogIntoSnapshot() throws IOException {
+		SimpleVectorStore vectorStore = newVectorStore(2);
+		vectorStore.add(List.of(document("1", "acme")));
+		vectorStore.add(List.of(document("2", "acme")));
+		vectorStore.add(List.of(document("3", "acme")));
+
+		assertThat(this.tempDir.resolve(SimpleVectorStoreWriteAheadLog.SNAPSHOT_FILE_NAME)).exists();
+		assertThat(this.tempDir.resolve(SimpleVectorStoreWriteAheadLog.ROTATED_LOG_FILE_NAME)).doesNotExist();
+		assertThat(Files.readAllLines(this.tempDir.resolve(SimpleVectorStoreWriteAheadLog.LOG_FILE_NAME)))
+			.hasSize(1);
+
+		SimpleVectorStore recovered = newVectorStore(2);
+		assertThat(recovered.store).containsOnlyKeys("1", "2", "3");
+
+		File snapshot = this.tempDir.resolve(SimpleVectorStoreWriteAheadLog.SNAPSHOT_FILE_NAME).toFile();
+		SimpleVectorStore loaded = SimpleVectorStore.builder(this.embeddingModel).build();
+		loaded.load(snapshot);
+		assertThat(loaded.store).containsOnlyKeys("1", "2");
+	}
+
+	@Test
+	void shouldReplayRotatedLogOfInterruptedCompaction() throws IOException {
+		SimpleVectorStore vectorStore = newVectorStore(100);
+		vectorStore.add(List.of(document("1", "acme")));
+		Files.move(this.tempDir.resolve(SimpleVectorStoreWriteAheadLog.LOG_FILE_NAME),
+				this.tempDir.resolve(SimpleVectorStoreWriteAheadLog.ROTATED_LOG_FILE_NAME));
+
+		SimpleVectorStore recovered = newVectorStore(100);
+		recovered.add(List.of(document("2", "acme")));
+		assertThat(recovered.store).containsOnlyKeys("1", "2");
+
+		recovered.compact();
+		assertThat(this.tempDir.resolve(SimpleVectorStoreWriteAheadLog.ROTATED_LOG_FILE_NAME)).doesNotExist();
+		assertThat(newVectorStore(100).store).containsOnlyKeys("1", "2");
+	}
+
+	@Test
+	void shouldDiscardIncompleteLastEntry() throws IOException {
+		SimpleVectorStore vectorStore = newVectorStore(100);
+		vectorStore.add(List.of(document("1", "acme")));
+		Files.writeString(this.tempDir.resolve(SimpleVectorStoreWriteAheadLog.LOG_FILE_NAME), "{\"op\":\"add\",\"con",
+				StandardOpenOption.APPEND);
+
+		SimpleVectorStore recovered = newVectorStore(100);
+		recovered.add(List.of(document("2", "acme")));
+
+		assertThat(newVectorStore(100).store).containsOnlyKeys("1", "2");
+	}
+
+	@Test
+	void shouldNotLogRejectedMutation() {
+		SimpleVectorStore vectorStore = SimpleVectorStore.builder(this.embeddingModel)
+			.writeAheadLog(this.tempDir)
+			.quantizationType(SimpleVectorStore.QuantizationType.INT8)
+			.build();
+		vectorStore.add(List.of(document("1", "acme")));
+		Document mismatched = document("2", "acme");
+		when(this.embeddingModel.embed(mismatched)).thenReturn(new float[] { 0.1f, 0.2f });
+
+		assertThatThrownBy(() -> vectorStore.add(List.of(document("3", "acme"), mismatched)))
+			.isInstanceOf(IllegalArgumentException.class);
+
+		assertThat(vectorStore.store).containsOnlyKeys("1");
+		assertThat(newVectorStore(100).store).containsOnlyKeys("1");
+	}
+
+	@Test
+	void shouldPersistLoadedContent() {
+		SimpleVectorStore source = SimpleVectorStore.builder(this.embeddingModel).build();
+		source.add(List.of(document("1", "acme")));
+		File file = this.tempDir.resolve("source.json").toFile();
+		source.save(file);
+
+		SimpleVectorStore vectorStore = newVectorStore(100);
+		vectorStore.add(List.of(document("2", "acme")));
+		vectorStore.load(file);
+
+		assertThat(newVectorStore(100).store).containsOnlyKeys("1");
+	}
+
+	@Test
+	void shouldRejectCompactionWithoutLog() {
+		SimpleVectorStore vectorStore = SimpleVectorStore.builder(this.embeddingModel).build();
+
+		assertThatThrownBy(vectorStore::compact).isInstanceOf(IllegalStateException.class)
+			.hasMessage("No write-ahead log is configured");
+	}
+
+	private SimpleVectorStore newVectorStore(int compactionThreshold) {
+		return SimpleVectorStore.builder(this.embeddingModel)
+			.writeAheadLog(this.tempDir)
+			.compactionThreshold(compactionThreshold)
+			.build();
+	}
+
+	private static Document document(String id, String tenant) {
+		return Document.builder().id(id).text("text " + id).metadata(Map.of("tenant", tenant)).build();
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.filter;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.EQ;
+import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.GTE;
+import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.NOT;
+
+class FilterExpressionPredicateCompilerTests {
+
+	private static final Map<String, Object> METADATA = Map.of("country", "BG", "year", 2020, "price", 15.5,
+			"isActive", true, "activationDate", "1970-01-01T00:00:02Z");
+
+	private final FilterExpressionTextParser parser = new FilterExpressionTextParser();
+
+	@Test
+	void testComparisons() {
+		assertThat(compile("country == 'BG'")).accepts(METADATA);
+		assertThat(compile("country != 'BG'")).rejects(METADATA);
+		assertThat(compile("year > 2019")).accepts(METADATA);
+		assertThat(compile("year >= 2021")).rejects(METADATA);
+		assertThat(compile("price < 20")).accepts(METADATA);
+		assertThat(compile("price <= 15.4")).rejects(METADATA);
+		assertThat(compile("isActive == true")).accepts(METADATA);
+	}
+
+	@Test
+	void testNumbersAreComparedByValue() {
+		assertThat(compile("year == 2020.0")).accepts(METADATA);
+		assertThat(compile("year == 2020")).accepts(Map.of("year", 2020L));
+	}
+
+	@Test
+	void testInAndNin() {
+		assertThat(compile("country in ['BG', 'NL']")).accepts(METADATA);
+		assertThat(compile("country in ['KR', 'NL']")).rejects(METADATA);
+		assertThat(compile("country nin ['KR', 'NL']")).accepts(METADATA);
+		assertThat(compile("year in [2019, 2020]")).accepts(METADATA);
+	}
+
+	@Test
+	void testBooleanOperators() {
+		assertThat(compile("country == 'BG' && year == 2020")).accepts(METADATA);
+		assertThat(compile("country == 'BG' && year == 2024")).rejects(METADATA);
+		assertThat(compile("country == 'KR' || (year >= 2020 && price < 16)")).accepts(METADATA);
+		assertThat(compile("NOT(country == 'KR')")).accepts(METADATA);
+
+		Predicate<Map<String, Object>> notExpression = FilterExpressionPredicateCompiler.compile(new Filter.Expression(
+				NOT, new Filter.Expression(EQ, new Filter.Key("country"), new Filter.Value("BG")), null));
+		assertThat(notExpression).rejects(METADATA);
+	}
+
+	@Test
+	void testDateValues() {
+		assertThat(FilterExpressionPredicateCompiler
+			.compile(new Filter.Expression(EQ, new Filter.Key("activationDate"), new Filter.Value(new Date(2000)))))
+			.accepts(METADATA);
+		assertThat(FilterExpressionPredicateCompiler
+			.compile(new Filter.Expression(GTE, new Filter.Key("activationDate"), new Filter.Value(new Date(3000)))))
+			.rejects(METADATA);
+	}
+
+	@Test
+	void testMissingKey() {
+		assertThat(compile("city == 'Sofia'")).rejects(METADATA);
+		assertThat(compile("city != 'Sofia'")).accepts(METADATA);
+		assertThat(compile("city nin ['Sofia']")).accepts(METADATA);
+	}
+
+	@Test
+	void testQuotedKey() {
+		assertThat(compile("'country' == 'BG'")).accepts(METADATA);
+	}
+
+	private Predicate<Map<String, Object>> compile(String expression) {
+		return FilterExpressionPredicateCompiler.compile(this.parser.parse(expression));
+	}
+
+}
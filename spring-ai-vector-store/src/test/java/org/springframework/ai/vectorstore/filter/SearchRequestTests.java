@@ -138,10 +138,35 @@ public class SearchRequestTests {
 
 	}
 
+	@Test
+	public void queryEmbedding() {
+		float[] queryEmbedding = new float[] { 0.1f, 0.2f };
+		var request = SearchRequest.builder().query("Test").queryEmbedding(queryEmbedding).build();
+		assertThat(request.getQueryEmbedding()).containsExactly(0.1f, 0.2f);
+		assertThat(request.hasQueryEmbedding()).isTrue();
+
+		queryEmbedding[0] = 0.5f;
+		request.getQueryEmbedding()[1] = 0.5f;
+		assertThat(request.getQueryEmbedding()).containsExactly(0.1f, 0.2f);
+
+		var request1 = SearchRequest.from(request).queryEmbedding(request.getQueryEmbedding()).build();
+		assertThat(request1.getQueryEmbedding()).containsExactly(0.1f, 0.2f);
+		assertThat(request1).isEqualTo(request).hasSameHashCodeAs(request);
+
+		var request2 = SearchRequest.from(request).query("New Query").build();
+		assertThat(request2.hasQueryEmbedding()).isFalse();
+		assertThat(request2).isNotEqualTo(request);
+
+		assertThatThrownBy(() -> SearchRequest.from(request).queryEmbedding(new float[0]))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("Query embedding must not be empty.");
+	}
+
 	private void checkDefaults(SearchRequest request) {
 		assertThat(request.getFilterExpression()).isNull();
 		assertThat(request.getSimilarityThreshold()).isEqualTo(SearchRequest.SIMILARITY_THRESHOLD_ACCEPT_ALL);
 		assertThat(request.getTopK()).isEqualTo(SearchRequest.DEFAULT_TOP_K);
+		assertThat(request.hasQueryEmbedding()).isFalse();
 	}
 
 }
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.observation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.vectorstore.AbstractVectorStoreBuilder;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.ai.vectorstore.filter.FilterExpressionBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+class AbstractObservationVectorStoreTests {
+
+	private final EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+
+	@Test
+	void shouldDeleteByFilterThroughScanPages() {
+		ScanningVectorStore vectorStore = new ScanningVectorStore(new Builder(this.embeddingModel), 2500);
+		Filter.Expression filter = new FilterExpressionBuilder().eq("tenant", "acme").build();
+
+		vectorStore.delete(filter);
+
+		assertThat(vectorStore.scannedFilter).isEqualTo(filter);
+		assertThat(vectorStore.deletedPages).extracting(List::size).containsExactly(1000, 1000, 500);
+		assertThat(vectorStore.deletedPages.get(2)).endsWith("2499");
+		assertThat(vectorStore.scanClosed).isTrue();
+		verifyNoInteractions(this.embeddingModel);
+	}
+
+	@Test
+	void shouldEmbedBatchQueriesInSingleCallAndObserveOnce() {
+		TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+		given(this.embeddingModel.embed(List.of("a", "b"))).willReturn(List.of(new float[] { 1 }, new float[] { 2 }));
+		EmbeddingVectorStore vectorStore = new EmbeddingVectorStore(
+				new Builder(this.embeddingModel).observationRegistry(observationRegistry));
+
+		List<List<Document>> results = vectorStore
+			.similaritySearch(List.of(SearchRequest.builder().query("a").build(),
+					SearchRequest.builder().query("b").build(), SearchRequest.builder().query("a").build()));
+
+		assertThat(results).extracting(documents -> documents.get(0).getText())
+			.containsExactly("a 1.0", "b 2.0", "a 1.0");
+		verify(this.embeddingModel).embed(List.of("a", "b"));
+		verifyNoMoreInteractions(this.embeddingModel);
+		TestObservationRegistryAssert.assertThat(observationRegistry)
+			.hasNumberOfObservationsEqualTo(1)
+			.hasObservationWithNameEqualTo(DefaultVectorStoreObservationConvention.DEFAULT_NAME)
+			.that()
+			.hasLowCardinalityKeyValue(
+					VectorStoreObservationDocumentation.LowCardinalityKeyNames.DB_OPERATION_NAME.asString(),
+					"batch_query");
+	}
+
+	@Test
+	void shouldBoundConcurrentBatchSearches() {
+		given(this.embeddingModel.embed(List.of("q"))).willReturn(List.of(new float[] { 1 }));
+		EmbeddingVectorStore vectorStore = new EmbeddingVectorStore(new Builder(this.embeddingModel));
+		List<SearchRequest> requests = IntStream.range(0, 20)
+			.mapToObj(i -> SearchRequest.builder().query("q").build())
+			.toList();
+
+		List<List<Document>> results = vectorStore.similaritySearch(requests);
+
+		assertThat(results).hasSize(20).allSatisfy(documents -> assertThat(documents).hasSize(1));
+		assertThat(vectorStore.maxRunningSearches.get())
+			.isLessThanOrEqualTo(AbstractObservationVectorStore.DEFAULT_MAX_CONCURRENT_SEARCHES);
+		assertThat(vectorStore.searchThreads).noneMatch(ForkJoinWorkerThread.class::isInstance);
+	}
+
+	@Test
+	void shouldFallBackToPerRequestSearchesWhenEmbeddedQuerySearchIsNotOverridden() {
+		given(this.embeddingModel.embed(List.of("a", "b"))).willReturn(List.of(new float[] { 1 }, new float[] { 2 }));
+		QueryVectorStore vectorStore = new QueryVectorStore(new Builder(this.embeddingModel));
+		List<SearchRequest> requests = List.of(SearchRequest.builder().query("a").build(),
+				SearchRequest.builder().query("b").build());
+
+		List<List<Document>> results = vectorStore.similaritySearch(requests);
+		List<List<Document>> nextResults = vectorStore.similaritySearch(requests);
+
+		assertThat(results).extracting(documents -> documents.get(0).getText()).containsExactly("a", "b");
+		assertThat(nextResults).isEqualTo(results);
+		verify(this.embeddingModel).embed(List.of("a", "b"));
+		verifyNoMoreInteractions(this.embeddingModel);
+	}
+
+	private static final class Builder extends AbstractVectorStoreBuilder<Builder> {
+
+		Builder(EmbeddingModel embeddingModel) {
+			super(embeddingModel);
+		}
+
+	}
+
+	/**
+	 * Scans a fixed number of documents, whatever the filter.
+	 */
+	private static final class ScanningVectorStore extends AbstractObservationVectorStore {
+
+		private final int documentCount;
+
+		private final List<List<String>> deletedPages = new ArrayList<>();
+
+		private Filter.Expression scannedFilter;
+
+		private boolean scanClosed;
+
+		ScanningVectorStore(Builder builder, int documentCount) {
+			super(builder);
+			this.documentCount = documentCount;
+		}
+
+		@Override
+		protected Stream<List<Document>> doScan(Filter.Expression filterExpression, int pageSize) {
+			this.scannedFilter = filterExpression;
+			return IntStream.iterate(0, start -> start < this.documentCount, start -> start + pageSize)
+				.mapToObj(start -> IntStream.range(start, Math.min(start + pageSize, this.documentCount))
+					.mapToObj(i -> new Document(String.valueOf(i), "text", Map.of()))
+					.toList())
+				.onClose(() -> this.scanClosed = true);
+		}
+
+		@Override
+		public void doAdd(List<Document> documents) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void doDelete(List<String> idList) {
+			this.deletedPages.add(idList);
+		}
+
+		@Override
+		protected List<Document> doSimilaritySearch(SearchRequest request, float[] queryEmbedding) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public VectorStoreObservationContext.Builder createObservationContextBuilder(String operationName) {
+			return VectorStoreObservationContext.builder("test", operationName);
+		}
+
+	}
+
+	/**
+	 * Returns a single document describing the query and its embedding.
+	 */
+	private static final class EmbeddingVectorStore extends AbstractObservationVectorStore {
+
+		private final AtomicInteger runningSearches = new AtomicInteger();
+
+		private final AtomicInteger maxRunningSearches = new AtomicInteger();
+
+		private final Set<Thread> searchThreads = ConcurrentHashMap.newKeySet();
+
+		EmbeddingVectorStore(Builder builder) {
+			super(builder);
+		}
+
+		@Override
+		public void doAdd(List<Document> documents) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void doDelete(List<String> idList) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		protected List<Document> doSimilaritySearch(SearchRequest request, float[] queryEmbedding) {
+			int running = this.runningSearches.incrementAndGet();
+			this.maxRunningSearches.accumulateAndGet(running, Math::max);
+			this.searchThreads.add(Thread.currentThread());
+			try {
+				Thread.sleep(10);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			finally {
+				this.runningSearches.decrementAndGet();
+			}
+			return List.of(new Document(request.getQuery() + " " + queryEmbedding[0]));
+		}
+
+		@Override
+		public VectorStoreObservationContext.Builder createObservationContextBuilder(String operationName) {
+			return VectorStoreObservationContext.builder("test", operationName);
+		}
+
+	}
+
+	/**
+	 * Only overrides the search hook taking the request, as stores written before the
+	 * embedded-query hook did.
+	 */
+	private static final class QueryVectorStore extends AbstractObservationVectorStore {
+
+		QueryVectorStore(Builder builder) {
+			super(builder);
+		}
+
+		@Override
+		public void doAdd(List<Document> documents) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void doDelete(List<String> idList) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public List<Document> doSimilaritySearch(SearchRequest request) {
+			return List.of(new Document(request.getQuery()));
+		}
+
+		@Override
+		public VectorStoreObservationContext.Builder createObservationContextBuilder(String operationName) {
+			return VectorStoreObservationContext.builder("test", operationName);
+		}
+
+	}
+
+}
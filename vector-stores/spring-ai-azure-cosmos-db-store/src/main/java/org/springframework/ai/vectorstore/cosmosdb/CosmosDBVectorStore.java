@@ -57,6 +57,7 @@ import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
 
 import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingDimensionsResolver;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
@@ -221,12 +222,15 @@ public class CosmosDBVectorStore extends AbstractObservationVectorStore implemen
 
 		// Create a list to hold both the CosmosItemOperation and the corresponding
 		// document ID
-		List<ImmutablePair<String, CosmosItemOperation>> itemOperationsWithIds = documents.stream().map(doc -> {
-			CosmosItemOperation operation = CosmosBulkOperations.getCreateItemOperation(
-					mapCosmosDocument(doc, embeddings.get(documents.indexOf(doc))), new PartitionKey(doc.getId()));
-			return new ImmutablePair<>(doc.getId(), operation); // Pair the document ID
-			// with the operation
-		}).toList();
+		List<ImmutablePair<String, CosmosItemOperation>> itemOperationsWithIds = IntStream.range(0, documents.size())
+			.mapToObj(i -> {
+				Document doc = documents.get(i);
+				CosmosItemOperation operation = CosmosBulkOperations.getCreateItemOperation(
+						mapCosmosDocument(doc, embeddings.get(i)), new PartitionKey(doc.getId()));
+				return new ImmutablePair<>(doc.getId(), operation); // Pair the document ID
+				// with the operation
+			})
+			.toList();
 
 		try {
 			// Extract just the CosmosItemOperations from the pairs
@@ -295,15 +299,12 @@ public class CosmosDBVectorStore extends AbstractObservationVectorStore implemen
 	}
 
 	@Override
-	public List<Document> doSimilaritySearch(SearchRequest request) {
+	protected List<Document> doSimilaritySearch(SearchRequest request, float[] embedding) {
 		// Ensure topK is within acceptable limits
 		if (request.getTopK() > 1000) {
 			throw new IllegalArgumentException("Top K must be 1000 or less.");
 		}
 
-		// Convert query into vector embedding
-		float[] embedding = this.embeddingModel.embed(request.getQuery());
-
 		logger.info("similarity threshold: {}", request.getSimilarityThreshold());
 
 		List<Float> embeddingList = IntStream.range(0, embedding.length)
@@ -364,7 +365,7 @@ public class CosmosDBVectorStore extends AbstractObservationVectorStore implemen
 	public VectorStoreObservationContext.Builder createObservationContextBuilder(String operationName) {
 		return VectorStoreObservationContext.builder(VectorStoreProvider.COSMOSDB.value(), operationName)
 			.collectionName(this.container.getId())
-			.dimensions(this.embeddingModel.dimensions())
+			.dimensions(EmbeddingDimensionsResolver.resolve(this.embeddingModel))
 			.namespace(this.container.getDatabase().getId())
 			.similarityMetric("cosine");
 	}
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.alibaba.fastjson2.JSONObject;
 import com.alibaba.fastjson2.TypeReference;
@@ -47,6 +48,7 @@ import org.slf4j.LoggerFactory;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
+import org.springframework.ai.embedding.EmbeddingDimensionsResolver;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.model.EmbeddingUtils;
@@ -161,10 +163,11 @@ public class AzureVectorStore extends AbstractObservationVectorStore implements
 		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
 				this.batchingStrategy);
 
-		final var searchDocuments = documents.stream().map(document -> {
+		final var searchDocuments = IntStream.range(0, documents.size()).mapToObj(i -> {
+			Document document = documents.get(i);
 			SearchDocument searchDocument = new SearchDocument();
 			searchDocument.put(ID_FIELD_NAME, document.getId());
-			searchDocument.put(EMBEDDING_FIELD_NAME, embeddings.get(documents.indexOf(document)));
+			searchDocument.put(EMBEDDING_FIELD_NAME, embeddings.get(i));
 			searchDocument.put(CONTENT_FIELD_NAME, document.getText());
 			searchDocument.put(METADATA_FIELD_NAME, new JSONObject(document.getMetadata()).toJSONString());
 
@@ -211,12 +214,10 @@ public class AzureVectorStore extends AbstractObservationVectorStore implements
 	}
 
 	@Override
-	public List<Document> doSimilaritySearch(SearchRequest request) {
+	protected List<Document> doSimilaritySearch(SearchRequest request, float[] searchEmbedding) {
 
 		Assert.notNull(request, "The search request must not be null.");
 
-		var searchEmbedding = this.embeddingModel.embed(request.getQuery());
-
 		final var vectorQuery = new VectorizedQuery(EmbeddingUtils.toList(searchEmbedding))
 			.setKNearestNeighborsCount(request.getTopK())
 			// Set the fields to compare the vector against. This is a comma-delimited
@@ -314,7 +315,7 @@ public class AzureVectorStore extends AbstractObservationVectorStore implements
 
 		return VectorStoreObservationContext.builder(VectorStoreProvider.AZURE.value(), operationName)
 			.collectionName(this.indexName)
-			.dimensions(this.embeddingModel.dimensions())
+			.dimensions(EmbeddingDimensionsResolver.resolve(this.embeddingModel))
 			.similarityMetric(this.initializeSchema ? VectorStoreSimilarityMetric.COSINE.value() : null);
 	}
 
@@ -16,7 +16,9 @@
 
 package org.springframework.ai.vectorstore.cassandra;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
@@ -32,6 +34,7 @@ import org.springframework.ai.vectorstore.filter.Filter.ExpressionType;
 import org.springframework.ai.vectorstore.filter.Filter.Key;
 import org.springframework.ai.vectorstore.filter.Filter.Value;
 import org.springframework.ai.vectorstore.filter.converter.AbstractFilterExpressionConverter;
+import org.springframework.lang.Nullable;
 
 /**
  * Converts {@link org.springframework.ai.vectorstore.filter.Filter.Expression} into CQL
@@ -44,10 +47,33 @@ class CassandraFilterExpressionConverter extends AbstractFilterExpressionConvert
 
 	private final Map<String, ColumnMetadata> columnsByName;
 
+	/**
+	 * Collects the values of the expression being converted, replaced by bind markers in
+	 * the where clause, or {@code null} to inline them as literals.
+	 */
+	@Nullable
+	private final List<Object> boundValues;
+
 	CassandraFilterExpressionConverter(Collection<ColumnMetadata> columns) {
+		this(columns.stream().collect(Collectors.toMap(c -> c.getName().asInternal(), Function.identity())), null);
+	}
+
+	private CassandraFilterExpressionConverter(Map<String, ColumnMetadata> columnsByName,
+			@Nullable List<Object> boundValues) {
+		this.columnsByName = columnsByName;
+		this.boundValues = boundValues;
+	}
 
-		this.columnsByName = columns.stream()
-			.collect(Collectors.toMap(c -> c.getName().asInternal(), Function.identity()));
+	/**
+	 * Converts the expression into a where clause with a bind marker in place of each
+	 * value, so that expressions of the same shape share a prepared statement.
+	 * @param expression the expression to convert
+	 * @return the where clause and the values to bind, in order
+	 */
+	BoundExpression convertToBoundExpression(Filter.Expression expression) {
+		List<Object> values = new ArrayList<>();
+		String cql = new CassandraFilterExpressionConverter(this.columnsByName, values).convertExpression(expression);
+		return new BoundExpression(cql, values);
 	}
 
 	private static void doOperand(ExpressionType type, StringBuilder context) {
@@ -121,6 +147,11 @@ class CassandraFilterExpressionConverter extends AbstractFilterExpressionConvert
 		if (DataTypes.SMALLINT.equals(column.getType())) {
 			v = ((Number) v).shortValue();
 		}
+		if (this.boundValues != null) {
+			this.boundValues.add(v);
+			context.append('?');
+			return;
+		}
 		context.append(CodecRegistry.DEFAULT.codecFor(column.getType()).format(v));
 	}
 
@@ -138,4 +169,14 @@ class CassandraFilterExpressionConverter extends AbstractFilterExpressionConvert
 		return column;
 	}
 
+	/**
+	 * A CQL where clause with bind markers and the values to bind to them.
+	 *
+	 * @param cql the where clause
+	 * @param values the values of the bind markers, in order
+	 */
+	record BoundExpression(String cql, List<Object> values) {
+
+	}
+
 }
@@ -21,26 +21,31 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.CqlSessionBuilder;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.DefaultBatchType;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
 import com.datastax.oss.driver.api.core.data.CqlVector;
 import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
 import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
@@ -66,6 +71,7 @@ import org.slf4j.LoggerFactory;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
+import org.springframework.ai.embedding.EmbeddingDimensionsResolver;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.model.EmbeddingUtils;
@@ -138,7 +144,7 @@ import org.springframework.util.Assert;
  *     )
  *     .contentColumnName("text")
  *     .embeddingColumnName("vector")
- *     .fixedThreadPoolExecutorSize(32)
+ *     .maxConcurrentWrites(32)
  *     .disallowSchemaChanges(false)
  *     .batchingStrategy(new TokenCountBatchingStrategy())
  *     .build();
@@ -153,14 +159,12 @@ import org.springframework.util.Assert;
  * change the schema server-side you need a new CassandraVectorStore instance.
  *
  * When adding documents with the method {@link #add(List<Document>)} it first calls
- * embeddingModel to create the embeddings. This is slow. Configure
- * {@link Builder#fixedThreadPoolExecutorSize(int)} accordingly to improve performance so
- * embeddings are created and the documents are added concurrently. The default
- * concurrency is 16 ({@link Builder#DEFAULT_ADD_CONCURRENCY}). Remote transformers
- * probably want higher concurrency, and local transformers may need lower concurrency.
- * This concurrency limit does not need to be higher than the max parallel calls made to
- * the {@link #add(List<Document>)} method multiplied by the list size. This setting can
- * also serve as a protecting throttle against your embedding model.
+ * embeddingModel to create the embeddings, then writes the rows asynchronously. Configure
+ * {@link Builder#maxConcurrentWrites(int)} to bound the number of writes in flight across
+ * all calls to {@link #add(List<Document>)}. The default is 16
+ * ({@link #DEFAULT_ADD_CONCURRENCY}). Configure {@link Builder#unloggedBatchSize(int)}
+ * to group the rows of the same partition into {@code UNLOGGED BATCH} statements, which
+ * pays off when many documents share a partition key.
  *
  * @author Mick Semb Wever
  * @author Christian Tzolov
@@ -186,11 +190,15 @@ public class CassandraVectorStore extends AbstractObservationVectorStore impleme
 
 	public static final int DEFAULT_ADD_CONCURRENCY = 16;
 
+	public static final int DEFAULT_UNLOGGED_BATCH_SIZE = 1;
+
 	public static final String DRIVER_PROFILE_UPDATES = "spring-ai-updates";
 
 	public static final String DRIVER_PROFILE_SEARCH = "spring-ai-search";
 
-	private static final String QUERY_FORMAT = "select %s,%s,%s%s from %s.%s ? order by %s ann of ? limit ?";
+	private static final String QUERY_FORMAT = "select %s,%s,%s%s from %s.%s %s order by %s ann of ? limit ?";
+
+	private static final String SCAN_FORMAT = "select %s,%s%s from %s.%s %s";
 
 	private static final Logger logger = LoggerFactory.getLogger(CassandraVectorStore.class);
 
@@ -210,7 +218,9 @@ public class CassandraVectorStore extends AbstractObservationVectorStore impleme
 
 	private final PrimaryKeyTranslator primaryKeyTranslator;
 
-	private final Executor executor;
+	private final Semaphore writePermits;
+
+	private final int unloggedBatchSize;
 
 	private final boolean closeSessionOnClose;
 
@@ -220,6 +230,12 @@ public class CassandraVectorStore extends AbstractObservationVectorStore impleme
 
 	private final String similarityStmt;
 
+	private final ConcurrentMap<String, PreparedStatement> similarityStmts = new ConcurrentHashMap<>();
+
+	private final String scanStmt;
+
+	private final ConcurrentMap<String, PreparedStatement> scanStmts = new ConcurrentHashMap<>();
+
 	private final Similarity similarity;
 
 	protected CassandraVectorStore(Builder builder) {
@@ -232,7 +248,8 @@ public class CassandraVectorStore extends AbstractObservationVectorStore impleme
 		this.disallowSchemaChanges = builder.disallowSchemaChanges;
 		this.documentIdTranslator = builder.documentIdTranslator;
 		this.primaryKeyTranslator = builder.primaryKeyTranslator;
-		this.executor = Executors.newFixedThreadPool(builder.fixedThreadPoolExecutorSize);
+		this.writePermits = new Semaphore(builder.maxConcurrentWrites);
+		this.unloggedBatchSize = builder.unloggedBatchSize;
 		this.closeSessionOnClose = builder.closeSessionOnClose;
 
 		ensureSchemaExists(embeddingModel.dimensions());
@@ -247,6 +264,7 @@ public class CassandraVectorStore extends AbstractObservationVectorStore impleme
 
 		this.similarity = getIndexSimilarity(cassandraMetadata);
 		this.similarityStmt = similaritySearchStatement();
+		this.scanStmt = scanStatement();
 
 		this.filterExpressionConverter = builder.filterExpressionConverter != null ? builder.filterExpressionConverter
 				: new CassandraFilterExpressionConverter(cassandraMetadata.getColumns().values());
@@ -267,40 +285,83 @@ public class CassandraVectorStore extends AbstractObservationVectorStore impleme
 
 	@Override
 	public void doAdd(List<Document> documents) {
-		var futures = new CompletableFuture[documents.size()];
-
 		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
 				this.batchingStrategy);
 
-		int i = 0;
-		for (Document d : documents) {
-			futures[i++] = CompletableFuture.runAsync(() -> {
-				List<Object> primaryKeyValues = this.documentIdTranslator.apply(d.getId());
-
-				BoundStatementBuilder builder = prepareAddStatement(d.getMetadata().keySet()).boundStatementBuilder();
-				for (int k = 0; k < primaryKeyValues.size(); ++k) {
-					SchemaColumn keyColumn = this.getPrimaryKeyColumn(k);
-					builder = builder.set(keyColumn.name(), primaryKeyValues.get(k), keyColumn.javaType());
-				}
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		Map<List<Object>, List<BoundStatement>> partitions = new HashMap<>();
+		for (int i = 0; i < documents.size(); i++) {
+			Document d = documents.get(i);
+			List<Object> primaryKeyValues = this.documentIdTranslator.apply(d.getId());
+			BoundStatement s = toInsertStatement(d, primaryKeyValues, embeddings.get(i));
+			if (this.unloggedBatchSize <= 1) {
+				futures.add(executeWrite(s));
+				continue;
+			}
+			List<Object> partitionKey = primaryKeyValues.subList(0, this.schema.partitionKeys().size());
+			List<BoundStatement> partition = partitions.computeIfAbsent(partitionKey, k -> new ArrayList<>());
+			partition.add(s);
+			if (partition.size() == this.unloggedBatchSize) {
+				futures.add(executeWrite(toUnloggedBatch(partition)));
+				partitions.remove(partitionKey);
+			}
+		}
+		for (List<BoundStatement> partition : partitions.values()) {
+			futures.add(executeWrite(partition.size() == 1 ? partition.get(0) : toUnloggedBatch(partition)));
+		}
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+	}
+
+	private BoundStatement toInsertStatement(Document d, List<Object> primaryKeyValues, float[] embedding) {
+		BoundStatementBuilder builder = prepareAddStatement(d.getMetadata().keySet()).boundStatementBuilder();
+		for (int k = 0; k < primaryKeyValues.size(); ++k) {
+			SchemaColumn keyColumn = this.getPrimaryKeyColumn(k);
+			builder = builder.set(keyColumn.name(), primaryKeyValues.get(k), keyColumn.javaType());
+		}
 
-				builder = builder.setString(this.schema.content(), d.getText())
-					.setVector(this.schema.embedding(),
-							CqlVector.newInstance(EmbeddingUtils.toList(embeddings.get(documents.indexOf(d)))),
-							Float.class);
+		builder = builder.setString(this.schema.content(), d.getText())
+			.setVector(this.schema.embedding(), CqlVector.newInstance(EmbeddingUtils.toList(embedding)), Float.class);
 
-				for (var metadataColumn : this.schema.metadataColumns()
-					.stream()
-					.filter(mc -> d.getMetadata().containsKey(mc.name()))
-					.toList()) {
+		for (var metadataColumn : this.schema.metadataColumns()
+			.stream()
+			.filter(mc -> d.getMetadata().containsKey(mc.name()))
+			.toList()) {
 
-					builder = builder.set(metadataColumn.name(), d.getMetadata().get(metadataColumn.name()),
-							metadataColumn.javaType());
-				}
-				BoundStatement s = builder.build().setExecutionProfileName(DRIVER_PROFILE_UPDATES);
-				this.session.execute(s);
-			}, this.executor);
+			builder = builder.set(metadataColumn.name(), d.getMetadata().get(metadataColumn.name()),
+					metadataColumn.javaType());
+		}
+		return builder.build().setExecutionProfileName(DRIVER_PROFILE_UPDATES);
+	}
+
+	private BatchStatement toUnloggedBatch(List<BoundStatement> statements) {
+		return BatchStatement.newInstance(DefaultBatchType.UNLOGGED)
+			.addAll(statements)
+			.setExecutionProfileName(DRIVER_PROFILE_UPDATES);
+	}
+
+	/**
+	 * Executes the write asynchronously once one of the
+	 * {@link Builder#maxConcurrentWrites(int)} permits is available, so that callers are
+	 * throttled rather than the driver's request queues overrun.
+	 */
+	private CompletableFuture<?> executeWrite(Statement<?> statement) {
+		try {
+			this.writePermits.acquire();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting to write documents", e);
+		}
+		try {
+			return this.session.executeAsync(statement)
+				.toCompletableFuture()
+				.whenComplete((result, failure) -> this.writePermits.release());
+		}
+		catch (RuntimeException e) {
+			// the write was never started, so its completion will not release the permit
+			this.writePermits.release();
+			throw e;
 		}
-		CompletableFuture.allOf(futures).join();
 	}
 
 	@Override
@@ -320,26 +381,9 @@ public class CassandraVectorStore extends AbstractObservationVectorStore impleme
 		Assert.notNull(filterExpression, "Filter expression must not be null");
 
 		try {
-			// TODO - Investigate why we can't do a direct filter based delete in
-			// Cassandra
-			// This SO thread seems to indicate that this is not possible in Cassandra
-			// https://stackoverflow.com/questions/70953262/unable-to-delete-multiple-rows-getting-some-partition-key-parts-are-missing-i
-			// Needs more research into this matter.
-			SearchRequest searchRequest = SearchRequest.builder()
-				.query("") // empty query since we only want filter matches
-				.filterExpression(filterExpression)
-				.topK(1000) // large enough to get all matches
-				.similarityThresholdAll()
-				.build();
-
-			List<Document> matchingDocs = similaritySearch(searchRequest);
-
-			if (!matchingDocs.isEmpty()) {
-				// Then delete those documents by ID
-				List<String> idsToDelete = matchingDocs.stream().map(Document::getId).collect(Collectors.toList());
-				delete(idsToDelete);
-				logger.debug("Deleted {} documents matching filter expression", idsToDelete.size());
-			}
+			// Cassandra cannot delete by a filter on non primary key columns, so the
+			// matching rows are paged through and deleted by primary key
+			super.doDelete(filterExpression);
 		}
 		catch (Exception e) {
 			logger.error("Failed to delete documents by filter", e);
@@ -348,37 +392,70 @@ public class CassandraVectorStore extends AbstractObservationVectorStore impleme
 	}
 
 	@Override
-	public List<Document> doSimilaritySearch(SearchRequest request) {
+	protected Stream<List<Document>> doScan(Filter.Expression filterExpression, int pageSize) {
+		Assert.notNull(filterExpression, "Filter expression must not be null");
+		Assert.isTrue(pageSize > 0, "Page size must be greater than 0");
+
+		List<Object> values = new ArrayList<>();
+		String whereClause = toWhereClause(filterExpression, values);
+
+		Statement<?> s = toStatement(this.scanStmt, this.scanStmts, whereClause, values)
+			.setPageSize(pageSize)
+			.setExecutionProfileName(DRIVER_PROFILE_SEARCH);
+
+		// the driver fetches the next page of rows as the previous one is consumed
+		Iterator<Row> rows = this.session.execute(s).iterator();
+		Iterator<List<Document>> pages = new Iterator<>() {
+
+			@Override
+			public boolean hasNext() {
+				return rows.hasNext();
+			}
+
+			@Override
+			public List<Document> next() {
+				List<Document> page = new ArrayList<>(pageSize);
+				while (page.size() < pageSize && rows.hasNext()) {
+					Row row = rows.next();
+					page.add(Document.builder()
+						.id(getDocumentId(row))
+						.text(row.getString(CassandraVectorStore.this.schema.content()))
+						.metadata(getMetadata(row))
+						.build());
+				}
+				return page;
+			}
+
+		};
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED), false);
+	}
+
+	@Override
+	protected List<Document> doSimilaritySearch(SearchRequest request, float[] queryEmbedding) {
 		Preconditions.checkArgument(request.getTopK() <= 1000);
-		var embedding = toFloatArray(this.embeddingModel.embed(request.getQuery()));
+		var embedding = toFloatArray(queryEmbedding);
 		CqlVector<Float> cqlVector = CqlVector.newInstance(embedding);
 
 		String whereClause = "";
+		List<Object> values = new ArrayList<>();
+		values.add(cqlVector);
 		if (request.hasFilterExpression()) {
-			String expression = this.filterExpressionConverter.convertExpression(request.getFilterExpression());
-			if (!expression.isBlank()) {
-				whereClause = String.format("where %s", expression);
-			}
+			whereClause = toWhereClause(request.getFilterExpression(), values);
 		}
+		values.add(cqlVector);
+		values.add(request.getTopK());
 
-		String query = String.format(this.similarityStmt, cqlVector, whereClause, cqlVector, request.getTopK());
 		List<Document> documents = new ArrayList<>();
-		logger.trace("Executing {}", query);
-		SimpleStatement s = SimpleStatement.newInstance(query).setExecutionProfileName(DRIVER_PROFILE_SEARCH);
+		Statement<?> s = toStatement(this.similarityStmt, this.similarityStmts, whereClause, values)
+			.setExecutionProfileName(DRIVER_PROFILE_SEARCH);
 
 		for (Row row : this.session.execute(s)) {
 			float score = row.getFloat(0);
 			if (score < request.getSimilarityThreshold()) {
 				break;
 			}
-			Map<String, Object> docFields = new HashMap<>();
+			Map<String, Object> docFields = getMetadata(row);
 			docFields.put(DocumentMetadata.DISTANCE.value(), 1 - score);
-			for (var metadata : this.schema.metadataColumns()) {
-				var value = row.get(metadata.name(), metadata.javaType());
-				if (null != value) {
-					docFields.put(metadata.name(), value);
-				}
-			}
 			Document doc = Document.builder()
 				.id(getDocumentId(row))
 				.text(row.getString(this.schema.content()))
@@ -449,6 +526,58 @@ public class CassandraVectorStore extends AbstractObservationVectorStore impleme
 		});
 	}
 
+	/**
+	 * Converts the filter expression into a where clause, adding the values to bind to
+	 * its markers, if any, to the given list.
+	 */
+	private String toWhereClause(Filter.Expression filterExpression, List<Object> values) {
+		String expression;
+		if (this.filterExpressionConverter instanceof CassandraFilterExpressionConverter converter) {
+			var boundExpression = converter.convertToBoundExpression(filterExpression);
+			expression = boundExpression.cql();
+			values.addAll(boundExpression.values());
+		}
+		else {
+			expression = this.filterExpressionConverter.convertExpression(filterExpression);
+		}
+		return expression.isBlank() ? "" : String.format("where %s", expression);
+	}
+
+	private Map<String, Object> getMetadata(Row row) {
+		Map<String, Object> metadata = new HashMap<>();
+		for (var column : this.schema.metadataColumns()) {
+			var value = row.get(column.name(), column.javaType());
+			if (null != value) {
+				metadata.put(column.name(), value);
+			}
+		}
+		return metadata;
+	}
+
+	/**
+	 * Returns the statement for the given query format and where clause, binding the
+	 * given values to its markers. Where clauses of the built-in converter only hold bind
+	 * markers, so their statements are prepared once per shape of the filter expression.
+	 * A custom converter may inline the filter values as literals, so its where clauses
+	 * run as simple statements rather than filling the cache with one statement per
+	 * value.
+	 */
+	private Statement<?> toStatement(String queryFormat, ConcurrentMap<String, PreparedStatement> preparedStmts,
+			String whereClause, List<Object> values) {
+		if (!whereClause.isEmpty() && !(this.filterExpressionConverter instanceof CassandraFilterExpressionConverter)) {
+			String query = String.format(queryFormat, whereClause);
+			logger.trace("Executing {}", query);
+			return SimpleStatement.newInstance(query, values.toArray());
+		}
+		PreparedStatement statement = preparedStmts.computeIfAbsent(whereClause, clause -> {
+			String query = String.format(queryFormat, clause);
+			logger.debug("preparing {}", query);
+			return this.session.prepare(query);
+		});
+		logger.trace("Executing {}", statement.getQuery());
+		return statement.bind(values.toArray());
+	}
+
 	private String similaritySearchStatement() {
 		StringBuilder ids = new StringBuilder();
 		for (var m : this.schema.partitionKeys()) {
@@ -471,12 +600,30 @@ public class CassandraVectorStore extends AbstractObservationVectorStore impleme
 		}
 
 		// java-driver-query-builder doesn't support orderByAnnOf yet
-		String query = String.format(QUERY_FORMAT, similarityFunction, ids.toString(), this.schema.content(),
-				extraSelectFields.toString(), this.schema.keyspace(), this.schema.table(), this.schema.embedding());
+		// the where clause is left as a placeholder, filled in per filter shape
+		return String.format(QUERY_FORMAT, similarityFunction, ids.toString(), this.schema.content(),
+				extraSelectFields.toString(), this.schema.keyspace(), this.schema.table(), "%s",
+				this.schema.embedding());
+	}
+
+	private String scanStatement() {
+		StringBuilder ids = new StringBuilder();
+		for (var m : this.schema.partitionKeys()) {
+			ids.append(m.name()).append(',');
+		}
+		for (var m : this.schema.clusteringKeys()) {
+			ids.append(m.name()).append(',');
+		}
+		ids.deleteCharAt(ids.length() - 1);
+
+		StringBuilder extraSelectFields = new StringBuilder();
+		for (var m : this.schema.metadataColumns()) {
+			extraSelectFields.append(',').append(m.name());
+		}
 
-		query = query.replace("?", "%s");
-		logger.debug("preparing {}", query);
-		return query;
+		// the where clause is left as a placeholder, filled in per filter shape
+		return String.format(SCAN_FORMAT, ids.toString(), this.schema.content(), extraSelectFields.toString(),
+				this.schema.keyspace(), this.schema.table(), "%s");
 	}
 
 	private String getDocumentId(Row row) {
@@ -494,7 +641,7 @@ public class CassandraVectorStore extends AbstractObservationVectorStore impleme
 	public VectorStoreObservationContext.Builder createObservationContextBuilder(String operationName) {
 		return VectorStoreObservationContext.builder(VectorStoreProvider.CASSANDRA.value(), operationName)
 			.collectionName(this.schema.table())
-			.dimensions(this.embeddingModel.dimensions())
+			.dimensions(EmbeddingDimensionsResolver.resolve(this.embeddingModel))
 			.namespace(this.schema.keyspace())
 			.similarityMetric(getSimilarityMetric());
 	}
@@ -807,7 +954,9 @@ public class CassandraVectorStore extends AbstractObservationVectorStore impleme
 
 		private boolean disallowSchemaChanges = false;
 
-		private int fixedThreadPoolExecutorSize = DEFAULT_ADD_CONCURRENCY;
+		private int maxConcurrentWrites = DEFAULT_ADD_CONCURRENCY;
+
+		private int unloggedBatchSize = DEFAULT_UNLOGGED_BATCH_SIZE;
 
 		private FilterExpressionConverter filterExpressionConverter;
 
@@ -844,10 +993,38 @@ public class CassandraVectorStore extends AbstractObservationVectorStore impleme
 		 * embeddingModel. For remote transformers you probably want a higher value to
 		 * utilize network. For local transformers you probably want a lower value to
 		 * avoid saturation.
+		 * @deprecated since writes are now asynchronous, in favor of
+		 * {@link #maxConcurrentWrites(int)}
 		 **/
+		@Deprecated
 		public Builder fixedThreadPoolExecutorSize(int threads) {
-			Preconditions.checkArgument(0 < threads);
-			this.fixedThreadPoolExecutorSize = threads;
+			return maxConcurrentWrites(threads);
+		}
+
+		/**
+		 * Sets the maximum number of asynchronous writes in flight when adding
+		 * documents, shared by all concurrent calls to add. Defaults to
+		 * {@link CassandraVectorStore#DEFAULT_ADD_CONCURRENCY}.
+		 * @param maxConcurrentWrites the maximum number of concurrent writes
+		 * @return the builder instance
+		 */
+		public Builder maxConcurrentWrites(int maxConcurrentWrites) {
+			Preconditions.checkArgument(0 < maxConcurrentWrites);
+			this.maxConcurrentWrites = maxConcurrentWrites;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of rows of the same partition written in a single
+		 * {@code UNLOGGED BATCH}. Defaults to
+		 * {@link CassandraVectorStore#DEFAULT_UNLOGGED_BATCH_SIZE}, which writes each row
+		 * in its own statement.
+		 * @param unloggedBatchSize the maximum number of statements per batch
+		 * @return the builder instance
+		 */
+		public Builder unloggedBatchSize(int unloggedBatchSize) {
+			Preconditions.checkArgument(0 < unloggedBatchSize);
+			this.unloggedBatchSize = unloggedBatchSize;
 			return this;
 		}
 
@@ -78,6 +78,19 @@ class CassandraFilterExpressionConverterTests {
 		assertThat(vectorExpr).isEqualTo("\"country\" = 'BG'");
 	}
 
+	@Test
+	void testBoundExpression() {
+		CassandraFilterExpressionConverter filter = new CassandraFilterExpressionConverter(COLUMNS);
+
+		// genre in ["comedy", "drama"] AND year >= 2020
+		var bound = filter.convertToBoundExpression(new Expression(AND,
+				new Expression(IN, new Key("genre"), new Value(List.of("comedy", "drama"))),
+				new Expression(GTE, new Key("year"), new Value(2020))));
+
+		assertThat(bound.cql()).isEqualTo("\"genre\" IN (?,?) and \"year\" >= ?");
+		assertThat(bound.values()).containsExactly("comedy", "drama", (short) 2020);
+	}
+
 	@Test
 	void testNoSuchColumn() {
 
@@ -251,7 +251,7 @@ class CassandraRichSchemaVectorStoreIT {
 
 		this.contextRunner.run(context -> {
 
-			try (CassandraVectorStore store = storeBuilder(context, List.of()).fixedThreadPoolExecutorSize(nThreads)
+			try (CassandraVectorStore store = storeBuilder(context, List.of()).maxConcurrentWrites(nThreads)
 				.build()) {
 
 				var executor = Executors.newFixedThreadPool((int) (nThreads * 1.2));
@@ -32,6 +32,7 @@ import org.springframework.ai.chroma.vectorstore.ChromaApi.DeleteEmbeddingsReque
 import org.springframework.ai.chroma.vectorstore.ChromaApi.Embedding;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
+import org.springframework.ai.embedding.EmbeddingDimensionsResolver;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
@@ -145,11 +146,12 @@ public class ChromaVectorStore extends AbstractObservationVectorStore implements
 		List<float[]> documentEmbeddings = this.embeddingModel.embed(documents,
 				EmbeddingOptionsBuilder.builder().build(), this.batchingStrategy);
 
-		for (Document document : documents) {
+		for (int i = 0; i < documents.size(); i++) {
+			Document document = documents.get(i);
 			ids.add(document.getId());
 			metadatas.add(document.getMetadata());
 			contents.add(document.getText());
-			embeddings.add(documentEmbeddings.get(documents.indexOf(document)));
+			embeddings.add(documentEmbeddings.get(i));
 		}
 
 		this.chromaApi.upsertEmbeddings(this.collectionId,
@@ -185,13 +187,11 @@ public class ChromaVectorStore extends AbstractObservationVectorStore implements
 
 	@Override
 	@NonNull
-	public List<Document> doSimilaritySearch(@NonNull SearchRequest request) {
+	protected List<Document> doSimilaritySearch(@NonNull SearchRequest request, float[] embedding) {
 
 		String query = request.getQuery();
 		Assert.notNull(query, "Query string must not be null");
 
-		float[] embedding = this.embeddingModel.embed(query);
-
 		Map<String, Object> where = (request.getFilterExpression() != null)
 				? jsonToMap(this.filterExpressionConverter.convertExpression(request.getFilterExpression())) : null;
 
@@ -238,7 +238,7 @@ public class ChromaVectorStore extends AbstractObservationVectorStore implements
 	@Override
 	public VectorStoreObservationContext.Builder createObservationContextBuilder(String operationName) {
 		return VectorStoreObservationContext.builder(VectorStoreProvider.CHROMA.value(), operationName)
-			.dimensions(this.embeddingModel.dimensions())
+			.dimensions(EmbeddingDimensionsResolver.resolve(this.embeddingModel))
 			.collectionName(this.collectionName + ":" + this.collectionId);
 	}
 
@@ -38,6 +38,7 @@ import com.tangosol.util.Filter;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
+import org.springframework.ai.embedding.EmbeddingDimensionsResolver;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
 import org.springframework.ai.vectorstore.AbstractVectorStoreBuilder;
@@ -190,9 +191,8 @@ public class CoherenceVectorStore extends AbstractObservationVectorStore impleme
 	}
 
 	@Override
-	public List<Document> doSimilaritySearch(SearchRequest request) {
-		// From the provided query, generate a vector using the embedding model
-		final Float32Vector vector = toFloat32Vector(this.embeddingModel.embed(request.getQuery()));
+	protected List<Document> doSimilaritySearch(SearchRequest request, float[] queryEmbedding) {
+		final Float32Vector vector = toFloat32Vector(queryEmbedding);
 
 		Expression expression = request.getFilterExpression();
 		final Filter<?> filter = expression == null ? null : FILTER_EXPRESSION_CONVERTER.convert(expression);
@@ -266,7 +266,7 @@ public class CoherenceVectorStore extends AbstractObservationVectorStore impleme
 
 		return VectorStoreObservationContext.builder(VectorStoreProvider.NEO4J.value(), operationName)
 			.collectionName(this.mapName)
-			.dimensions(this.embeddingModel.dimensions());
+			.dimensions(EmbeddingDimensionsResolver.resolve(this.embeddingModel));
 	}
 
 	@Override
@@ -30,6 +30,7 @@ import com.couchbase.client.java.query.QueryResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingDimensionsResolver;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
@@ -133,9 +134,10 @@ public class CouchbaseSearchVectorStore extends AbstractObservationVectorStore
 		logger.info(this.scopeName);
 		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
 				this.batchingStrategy);
-		for (Document document : documents) {
+		for (int i = 0; i < documents.size(); i++) {
+			Document document = documents.get(i);
 			CouchbaseDocument cbDoc = new CouchbaseDocument(document.getId(), document.getText(),
-					document.getMetadata(), embeddings.get(documents.indexOf(document)));
+					document.getMetadata(), embeddings.get(i));
 			collection.upsert(document.getId(), cbDoc);
 		}
 	}
@@ -162,8 +164,8 @@ public class CouchbaseSearchVectorStore extends AbstractObservationVectorStore
 	}
 
 	@Override
-	public List<Document> doSimilaritySearch(org.springframework.ai.vectorstore.SearchRequest springAiRequest) {
-		float[] embeddings = this.embeddingModel.embed(springAiRequest.getQuery());
+	protected List<Document> doSimilaritySearch(org.springframework.ai.vectorstore.SearchRequest springAiRequest,
+			float[] embeddings) {
 		int topK = springAiRequest.getTopK();
 
 		double similarityThreshold = springAiRequest.getSimilarityThreshold();
@@ -196,7 +198,7 @@ public class CouchbaseSearchVectorStore extends AbstractObservationVectorStore
 
 		return VectorStoreObservationContext.builder(VectorStoreProvider.COUCHBASE.value(), operationName)
 			.collectionName(this.collection.name())
-			.dimensions(this.embeddingModel.dimensions());
+			.dimensions(EmbeddingDimensionsResolver.resolve(this.embeddingModel));
 	}
 
 	public static Builder builder(Cluster cluster, EmbeddingModel embeddingModel) {
@@ -17,6 +17,7 @@
 package org.springframework.ai.vectorstore.elasticsearch;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -24,10 +25,13 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.KnnSearch;
 import co.elastic.clients.elasticsearch.core.BulkRequest;
 import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.MsearchResponse;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.msearch.MultiSearchResponseItem;
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 import co.elastic.clients.transport.Version;
@@ -40,6 +44,7 @@ import org.slf4j.LoggerFactory;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
+import org.springframework.ai.embedding.EmbeddingDimensionsResolver;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.model.EmbeddingUtils;
@@ -257,25 +262,12 @@ public class ElasticsearchVectorStore extends AbstractObservationVectorStore imp
 	}
 
 	@Override
-	public List<Document> doSimilaritySearch(SearchRequest searchRequest) {
+	protected List<Document> doSimilaritySearch(SearchRequest searchRequest, float[] vectors) {
 		Assert.notNull(searchRequest, "The search request must not be null.");
-		try {
-			float threshold = (float) searchRequest.getSimilarityThreshold();
-			// reverting l2_norm distance to its original value
-			if (this.options.getSimilarity().equals(SimilarityFunction.l2_norm)) {
-				threshold = 1 - threshold;
-			}
-			final float finalThreshold = threshold;
-			float[] vectors = this.embeddingModel.embed(searchRequest.getQuery());
 
+		try {
 			SearchResponse<Document> res = this.elasticsearchClient.search(sr -> sr.index(this.options.getIndexName())
-				.knn(knn -> knn.queryVector(EmbeddingUtils.toList(vectors))
-					.similarity(finalThreshold)
-					.k(searchRequest.getTopK())
-					.field(this.options.getEmbeddingFieldName())
-					.numCandidates((int) (1.5 * searchRequest.getTopK()))
-					.filter(fl -> fl
-						.queryString(qs -> qs.query(getElasticsearchQueryString(searchRequest.getFilterExpression())))))
+				.knn(toKnnSearch(searchRequest, vectors))
 				.size(searchRequest.getTopK()), Document.class);
 
 			return res.hits().hits().stream().map(this::toDocument).collect(Collectors.toList());
@@ -285,6 +277,58 @@ public class ElasticsearchVectorStore extends AbstractObservationVectorStore imp
 		}
 	}
 
+	/**
+	 * Runs the similarity searches of all requests in a single multi search request.
+	 * @param requests the search requests
+	 * @return the documents matching each request, in the order of the requests
+	 */
+	@Override
+	protected List<List<Document>> doBatchSimilaritySearch(List<SearchRequest> requests) {
+		List<float[]> queryEmbeddings = embedQueries(requests);
+		try {
+			MsearchResponse<Document> res = this.elasticsearchClient.msearch(ms -> {
+				for (int i = 0; i < requests.size(); i++) {
+					SearchRequest searchRequest = requests.get(i);
+					float[] vectors = queryEmbeddings.get(i);
+					ms.searches(item -> item.header(header -> header.index(this.options.getIndexName()))
+						.body(body -> body.knn(toKnnSearch(searchRequest, vectors)).size(searchRequest.getTopK())));
+				}
+				return ms;
+			}, Document.class);
+
+			List<List<Document>> results = new ArrayList<>(requests.size());
+			for (MultiSearchResponseItem<Document> item : res.responses()) {
+				if (item.isFailure()) {
+					throw new IllegalStateException("Similarity search failed: " + item.failure().error().reason());
+				}
+				results.add(item.result().hits().hits().stream().map(this::toDocument).toList());
+			}
+			return results;
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private KnnSearch toKnnSearch(SearchRequest searchRequest, float[] vectors) {
+		return KnnSearch.of(knn -> knn.queryVector(EmbeddingUtils.toList(vectors))
+			.similarity(getKnnSimilarity(searchRequest))
+			.k(searchRequest.getTopK())
+			.field(this.options.getEmbeddingFieldName())
+			.numCandidates((int) (1.5 * searchRequest.getTopK()))
+			.filter(fl -> fl
+				.queryString(qs -> qs.query(getElasticsearchQueryString(searchRequest.getFilterExpression())))));
+	}
+
+	private float getKnnSimilarity(SearchRequest searchRequest) {
+		float threshold = (float) searchRequest.getSimilarityThreshold();
+		// reverting l2_norm distance to its original value
+		if (this.options.getSimilarity().equals(SimilarityFunction.l2_norm)) {
+			threshold = 1 - threshold;
+		}
+		return threshold;
+	}
+
 	private String getElasticsearchQueryString(Filter.Expression filterExpression) {
 		return Objects.isNull(filterExpression) ? "*"
 				: this.filterExpressionConverter.convertExpression(filterExpression);
@@ -353,7 +397,7 @@ public class ElasticsearchVectorStore extends AbstractObservationVectorStore imp
 	public VectorStoreObservationContext.Builder createObservationContextBuilder(String operationName) {
 		return VectorStoreObservationContext.builder(VectorStoreProvider.ELASTICSEARCH.value(), operationName)
 			.collectionName(this.options.getIndexName())
-			.dimensions(this.embeddingModel.dimensions())
+			.dimensions(EmbeddingDimensionsResolver.resolve(this.embeddingModel))
 			.similarityMetric(getSimilarityMetric());
 	}
 
@@ -19,6 +19,7 @@ package org.springframework.ai.vectorstore.gemfire;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -31,6 +32,7 @@ import org.slf4j.LoggerFactory;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
+import org.springframework.ai.embedding.EmbeddingDimensionsResolver;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
@@ -203,10 +205,11 @@ public class GemFireVectorStore extends AbstractObservationVectorStore implement
 	public void doAdd(List<Document> documents) {
 		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
 				this.batchingStrategy);
-		UploadRequest upload = new UploadRequest(documents.stream()
-			.map(document -> new UploadRequest.Embedding(document.getId(), embeddings.get(documents.indexOf(document)),
-					DOCUMENT_FIELD, document.getText(), document.getMetadata()))
-			.toList());
+		UploadRequest upload = new UploadRequest(IntStream.range(0, documents.size()).mapToObj(i -> {
+			Document document = documents.get(i);
+			return new UploadRequest.Embedding(document.getId(), embeddings.get(i), DOCUMENT_FIELD, document.getText(),
+					document.getMetadata());
+		}).toList());
 
 		String embeddingsJson = null;
 		try {
@@ -244,11 +247,10 @@ public class GemFireVectorStore extends AbstractObservationVectorStore implement
 
 	@Override
 	@Nullable
-	public List<Document> doSimilaritySearch(SearchRequest request) {
+	protected List<Document> doSimilaritySearch(SearchRequest request, float[] floatVector) {
 		if (request.hasFilterExpression()) {
 			throw new UnsupportedOperationException("GemFire currently does not support metadata filter expressions.");
 		}
-		float[] floatVector = this.embeddingModel.embed(request.getQuery());
 		return this.client.post()
 			.uri("/" + this.indexName + QUERY)
 			.contentType(MediaType.APPLICATION_JSON)
@@ -333,7 +335,7 @@ public class GemFireVectorStore extends AbstractObservationVectorStore implement
 	public VectorStoreObservationContext.Builder createObservationContextBuilder(String operationName) {
 		return VectorStoreObservationContext.builder(VectorStoreProvider.GEMFIRE.value(), operationName)
 			.collectionName(this.indexName)
-			.dimensions(this.embeddingModel.dimensions())
+			.dimensions(EmbeddingDimensionsResolver.resolve(this.embeddingModel))
 			.fieldName(EMBEDDINGS);
 	}
 
@@ -27,6 +27,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingDimensionsResolver;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.model.EmbeddingUtils;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
@@ -142,13 +143,13 @@ public class HanaCloudVectorStore extends AbstractObservationVectorStore {
 	}
 
 	@Override
-	public List<Document> doSimilaritySearch(SearchRequest request) {
+	protected List<Document> doSimilaritySearch(SearchRequest request, float[] embedding) {
 		if (request.hasFilterExpression()) {
 			throw new UnsupportedOperationException(
 					"SAPHanaVectorEngine does not support metadata filter expressions yet.");
 		}
 
-		String queryEmbedding = getEmbedding(request);
+		String queryEmbedding = toVectorString(embedding);
 		List<? extends HanaVectorEntity> searchResult = this.repository.cosineSimilaritySearch(this.tableName,
 				request.getTopK(), queryEmbedding);
 		logger.info("Hana cosine-similarity for query={}, with topK={} returned {} results", request.getQuery(),
@@ -164,25 +165,22 @@ public class HanaCloudVectorStore extends AbstractObservationVectorStore {
 		}).collect(Collectors.toList());
 	}
 
-	private String getEmbedding(SearchRequest searchRequest) {
-		return "[" + EmbeddingUtils.toList(this.embeddingModel.embed(searchRequest.getQuery()))
+	private String toVectorString(float[] embedding) {
+		return "[" + EmbeddingUtils.toList(embedding)
 			.stream()
 			.map(String::valueOf)
 			.collect(Collectors.joining(", ")) + "]";
 	}
 
 	private String getEmbedding(Document document) {
-		return "[" + EmbeddingUtils.toList(this.embeddingModel.embed(document))
-			.stream()
-			.map(String::valueOf)
-			.collect(Collectors.joining(", ")) + "]";
+		return toVectorString(this.embeddingModel.embed(document));
 	}
 
 	@Override
 	public VectorStoreObservationContext.Builder createObservationContextBuilder(String operationName) {
 
 		return VectorStoreObservationContext.builder(VectorStoreProvider.HANA.value(), operationName)
-			.dimensions(this.embeddingModel.dimensions())
+			.dimensions(EmbeddingDimensionsResolver.resolve(this.embeddingModel))
 			.collectionName(this.tableName)
 			.similarityMetric(VectorStoreSimilarityMetric.COSINE.value());
 	}
@@ -32,6 +32,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingDimensionsResolver;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
@@ -262,9 +263,10 @@ public class MariaDBVectorStore extends AbstractObservationVectorStore implement
 		List<List<MariaDBDocument>> batches = new ArrayList<>();
 		List<MariaDBDocument> mariaDBDocuments = new ArrayList<>(documents.size());
 		if (embeddings.size() == documents.size()) {
-			for (Document document : documents) {
+			for (int i = 0; i < documents.size(); i++) {
+				Document document = documents.get(i);
 				mariaDBDocuments.add(new MariaDBDocument(document.getId(), document.getText(), document.getMetadata(),
-						embeddings.get(documents.indexOf(document))));
+						embeddings.get(i)));
 			}
 		}
 		else {
@@ -345,11 +347,10 @@ public class MariaDBVectorStore extends AbstractObservationVectorStore implement
 	}
 
 	@Override
-	public List<Document> doSimilaritySearch(SearchRequest request) {
+	protected List<Document> doSimilaritySearch(SearchRequest request, float[] embedding) {
 
 		String nativeFilterExpression = (request.getFilterExpression() != null)
 				? this.filterExpressionConverter.convertExpression(request.getFilterExpression()) : "";
-		float[] embedding = this.embeddingModel.embed(request.getQuery());
 		String jsonPathFilter = "";
 
 		if (StringUtils.hasText(nativeFilterExpression)) {
@@ -428,7 +429,7 @@ public class MariaDBVectorStore extends AbstractObservationVectorStore implement
 		}
 
 		try {
-			int embeddingDimensions = this.embeddingModel.dimensions();
+			int embeddingDimensions = EmbeddingDimensionsResolver.resolve(this.embeddingModel);
 			if (embeddingDimensions > 0) {
 				return embeddingDimensions;
 			}
@@ -130,6 +130,14 @@ public final class MilvusSearchRequest extends SearchRequest {
 			return this;
 		}
 
+		/**
+		 * {@link Builder#queryEmbedding(float[])}
+		 */
+		public MilvusBuilder queryEmbedding(float[] queryEmbedding) {
+			this.baseBuilder.queryEmbedding(queryEmbedding);
+			return this;
+		}
+
 		/**
 		 * Sets the native Milvus filter expression.
 		 * @param nativeExpression The native Milvus expression string.
@@ -18,6 +18,8 @@ package org.springframework.ai.vectorstore.milvus;
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -57,6 +59,7 @@ import org.slf4j.LoggerFactory;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
+import org.springframework.ai.embedding.EmbeddingDimensionsResolver;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.model.EmbeddingUtils;
@@ -70,6 +73,7 @@ import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
 import org.springframework.ai.vectorstore.observation.AbstractObservationVectorStore;
 import org.springframework.ai.vectorstore.observation.VectorStoreObservationContext;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -244,7 +248,8 @@ public class MilvusVectorStore extends AbstractObservationVectorStore implements
 		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
 				this.batchingStrategy);
 
-		for (Document document : documents) {
+		for (int i = 0; i < documents.size(); i++) {
+			Document document = documents.get(i);
 			docIdArray.add(document.getId());
 			// Use a (future) DocumentTextLayoutFormatter instance to extract
 			// the content used to compute the embeddings
@@ -252,7 +257,7 @@ public class MilvusVectorStore extends AbstractObservationVectorStore implements
 			Gson gson = new Gson();
 			String jsonString = gson.toJson(document.getMetadata());
 			metadataArray.add(gson.fromJson(jsonString, JsonObject.class));
-			embeddingArray.add(EmbeddingUtils.toList(embeddings.get(documents.indexOf(document))));
+			embeddingArray.add(EmbeddingUtils.toList(embeddings.get(i)));
 		}
 
 		List<InsertParam.Field> fields = new ArrayList<>();
@@ -322,26 +327,57 @@ public class MilvusVectorStore extends AbstractObservationVectorStore implements
 	}
 
 	@Override
-	public List<Document> doSimilaritySearch(SearchRequest request) {
-		String nativeFilterExpressions = "";
-		String searchParamsJson = null;
+	protected List<Document> doSimilaritySearch(SearchRequest request, float[] embedding) {
+		Assert.notNull(request.getQuery(), "Query string must not be null");
+
+		SearchResultsWrapper wrapperSearch = search(getSearchOptions(request), List.of(embedding));
+		return toDocuments(wrapperSearch.getRowRecords(0), request.getSimilarityThreshold());
+	}
+
+	/**
+	 * Runs the requests that share the same filter expression, search parameters and top
+	 * K as a single multi-vector search.
+	 * @param requests the search requests
+	 * @return the documents matching each request, in the order of the requests
+	 */
+	@Override
+	protected List<List<Document>> doBatchSimilaritySearch(List<SearchRequest> requests) {
+		List<float[]> embeddings = embedQueries(requests);
+		Map<SearchOptions, List<Integer>> requestIndexesByOptions = new LinkedHashMap<>();
+		for (int i = 0; i < requests.size(); i++) {
+			requestIndexesByOptions.computeIfAbsent(getSearchOptions(requests.get(i)), options -> new ArrayList<>())
+				.add(i);
+		}
+
+		List<List<Document>> results = new ArrayList<>(Collections.nCopies(requests.size(), null));
+		requestIndexesByOptions.forEach((options, requestIndexes) -> {
+			SearchResultsWrapper wrapperSearch = search(options, requestIndexes.stream().map(embeddings::get).toList());
+			for (int i = 0; i < requestIndexes.size(); i++) {
+				int requestIndex = requestIndexes.get(i);
+				results.set(requestIndex, toDocuments(wrapperSearch.getRowRecords(i),
+						requests.get(requestIndex).getSimilarityThreshold()));
+			}
+		});
+		return results;
+	}
+
+	private SearchOptions getSearchOptions(SearchRequest request) {
 		if (request instanceof MilvusSearchRequest milvusReq) {
-			nativeFilterExpressions = StringUtils.hasText(milvusReq.getNativeExpression())
+			String nativeFilterExpressions = StringUtils.hasText(milvusReq.getNativeExpression())
 					? milvusReq.getNativeExpression() : getConvertedFilterExpression(request);
 
-			searchParamsJson = StringUtils.hasText(milvusReq.getSearchParamsJson()) ? milvusReq.getSearchParamsJson()
-					: null;
-		}
-		else {
-			nativeFilterExpressions = getConvertedFilterExpression(request);
+			String searchParamsJson = StringUtils.hasText(milvusReq.getSearchParamsJson())
+					? milvusReq.getSearchParamsJson() : null;
+			return new SearchOptions(nativeFilterExpressions, searchParamsJson, request.getTopK());
 		}
+		return new SearchOptions(getConvertedFilterExpression(request), null, request.getTopK());
+	}
 
-		Assert.notNull(request.getQuery(), "Query string must not be null");
+	private SearchResultsWrapper search(SearchOptions options, List<float[]> embeddings) {
 		List<String> outFieldNames = new ArrayList<>();
 		outFieldNames.add(this.idFieldName);
 		outFieldNames.add(this.contentFieldName);
 		outFieldNames.add(this.metadataFieldName);
-		float[] embedding = this.embeddingModel.embed(request.getQuery());
 
 		var searchParamBuilder = SearchParam.newBuilder()
 			.withDatabaseName(this.databaseName)
@@ -349,16 +385,16 @@ public class MilvusVectorStore extends AbstractObservationVectorStore implements
 			.withConsistencyLevel(ConsistencyLevelEnum.STRONG)
 			.withMetricType(this.metricType)
 			.withOutFields(outFieldNames)
-			.withTopK(request.getTopK())
-			.withVectors(List.of(EmbeddingUtils.toList(embedding)))
+			.withTopK(options.topK())
+			.withVectors(embeddings.stream().map(EmbeddingUtils::toList).toList())
 			.withVectorFieldName(this.embeddingFieldName);
 
-		if (StringUtils.hasText(nativeFilterExpressions)) {
-			searchParamBuilder.withExpr(nativeFilterExpressions);
+		if (StringUtils.hasText(options.nativeFilterExpressions())) {
+			searchParamBuilder.withExpr(options.nativeFilterExpressions());
 		}
 
-		if (StringUtils.hasText(searchParamsJson)) {
-			searchParamBuilder.withParams(searchParamsJson);
+		if (StringUtils.hasText(options.searchParamsJson())) {
+			searchParamBuilder.withParams(options.searchParamsJson());
 		}
 
 		R<SearchResults> respSearch = this.milvusClient.search(searchParamBuilder.build());
@@ -367,11 +403,12 @@ public class MilvusVectorStore extends AbstractObservationVectorStore implements
 			throw new RuntimeException("Search failed!", respSearch.getException());
 		}
 
-		SearchResultsWrapper wrapperSearch = new SearchResultsWrapper(respSearch.getData().getResults());
+		return new SearchResultsWrapper(respSearch.getData().getResults());
+	}
 
-		return wrapperSearch.getRowRecords(0)
-			.stream()
-			.filter(rowRecord -> getResultSimilarity(rowRecord) >= request.getSimilarityThreshold())
+	private List<Document> toDocuments(List<RowRecord> rowRecords, double similarityThreshold) {
+		return rowRecords.stream()
+			.filter(rowRecord -> getResultSimilarity(rowRecord) >= similarityThreshold)
 			.map(rowRecord -> {
 				String docId = String.valueOf(rowRecord.get(this.idFieldName));
 				String content = (String) rowRecord.get(this.contentFieldName);
@@ -408,6 +445,13 @@ public class MilvusVectorStore extends AbstractObservationVectorStore implements
 		return (this.metricType == MetricType.IP || this.metricType == MetricType.COSINE) ? score : (1 - score);
 	}
 
+	/**
+	 * The search settings that requests must share to be run in the same search.
+	 */
+	private record SearchOptions(String nativeFilterExpressions, @Nullable String searchParamsJson, int topK) {
+
+	}
+
 	// ---------------------------------------------------------------------------------
 	// Initialization
 	// ---------------------------------------------------------------------------------
@@ -525,7 +569,7 @@ public class MilvusVectorStore extends AbstractObservationVectorStore implements
 			return this.embeddingDimension;
 		}
 		try {
-			int embeddingDimensions = this.embeddingModel.dimensions();
+			int embeddingDimensions = EmbeddingDimensionsResolver.resolve(this.embeddingModel);
 			if (embeddingDimensions > 0) {
 				return embeddingDimensions;
 			}
@@ -570,7 +614,7 @@ public class MilvusVectorStore extends AbstractObservationVectorStore implements
 
 		return VectorStoreObservationContext.builder(VectorStoreProvider.MILVUS.value(), operationName)
 			.collectionName(this.collectionName)
-			.dimensions(this.embeddingModel.dimensions())
+			.dimensions(EmbeddingDimensionsResolver.resolve(this.embeddingModel))
 			.similarityMetric(getSimilarityMetric())
 			.namespace(this.databaseName);
 	}
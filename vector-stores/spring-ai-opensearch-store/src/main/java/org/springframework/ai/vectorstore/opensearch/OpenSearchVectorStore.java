@@ -43,6 +43,7 @@ import org.slf4j.LoggerFactory;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
+import org.springframework.ai.embedding.EmbeddingDimensionsResolver;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
@@ -207,9 +208,10 @@ public class OpenSearchVectorStore extends AbstractObservationVectorStore implem
 		List<float[]> embedding = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
 				this.batchingStrategy);
 		BulkRequest.Builder bulkRequestBuilder = new BulkRequest.Builder();
-		for (Document document : documents) {
+		for (int i = 0; i < documents.size(); i++) {
+			Document document = documents.get(i);
 			OpenSearchDocument openSearchDocument = new OpenSearchDocument(document.getId(), document.getText(),
-					document.getMetadata(), embedding.get(documents.indexOf(document)));
+					document.getMetadata(), embedding.get(i));
 			bulkRequestBuilder.operations(op -> op
 				.index(idx -> idx.index(this.index).id(openSearchDocument.id()).document(openSearchDocument)));
 		}
@@ -262,10 +264,11 @@ public class OpenSearchVectorStore extends AbstractObservationVectorStore implem
 	}
 
 	@Override
-	public List<Document> doSimilaritySearch(SearchRequest searchRequest) {
+	protected List<Document> doSimilaritySearch(SearchRequest searchRequest, float[] embedding) {
 		Assert.notNull(searchRequest, "The search request must not be null.");
-		return similaritySearch(this.embeddingModel.embed(searchRequest.getQuery()), searchRequest.getTopK(),
-				searchRequest.getSimilarityThreshold(), searchRequest.getFilterExpression());
+
+		return similaritySearch(embedding, searchRequest.getTopK(), searchRequest.getSimilarityThreshold(),
+				searchRequest.getFilterExpression());
 	}
 
 	public List<Document> similaritySearch(float[] embedding, int topK, double similarityThreshold,
@@ -367,7 +370,7 @@ public class OpenSearchVectorStore extends AbstractObservationVectorStore implem
 	public VectorStoreObservationContext.Builder createObservationContextBuilder(String operationName) {
 		return VectorStoreObservationContext.builder(VectorStoreProvider.OPENSEARCH.value(), operationName)
 			.collectionName(this.index)
-			.dimensions(this.embeddingModel.dimensions())
+			.dimensions(EmbeddingDimensionsResolver.resolve(this.embeddingModel))
 			.similarityMetric(getSimilarityFunction());
 	}
 
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.pgvector;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Encodes the rows of a {@link PgVectorStore} staging table in the PostgreSQL binary
+ * {@code COPY} format: a signature and header, then for each row the field count
+ * followed by each field as its length and its binary representation, and a trailer.
+ *
+ * Rows have the fields {@code (seq bigint, id, content text, metadata text, embedding
+ * vector)}, where the id is encoded according to its Java type and the embedding in the
+ * binary format of the pgvector {@code vector} type.
+ *
+ * @since 1.0.0
+ */
+final class PgVectorCopyWriter implements Closeable {
+
+	private static final byte[] SIGNATURE = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0 };
+
+	private static final int FIELD_COUNT = 5;
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private final DataOutputStream out;
+
+	PgVectorCopyWriter(OutputStream out) throws IOException {
+		this.out = new DataOutputStream(new BufferedOutputStream(out, BUFFER_SIZE));
+		this.out.write(SIGNATURE);
+		// Flags and header extension length.
+		this.out.writeInt(0);
+		this.out.writeInt(0);
+	}
+
+	void writeRow(long seq, Object id, @Nullable String content, String metadata, float[] embedding)
+			throws IOException {
+		this.out.writeShort(FIELD_COUNT);
+		this.out.writeInt(Long.BYTES);
+		this.out.writeLong(seq);
+		writeId(id);
+		writeText(content);
+		writeText(metadata);
+		this.out.writeInt(2 * Short.BYTES + embedding.length * Float.BYTES);
+		this.out.writeShort(embedding.length);
+		this.out.writeShort(0);
+		for (float component : embedding) {
+			this.out.writeFloat(component);
+		}
+	}
+
+	/**
+	 * Writes the trailer and flushes the rows to the underlying stream.
+	 */
+	void finish() throws IOException {
+		this.out.writeShort(-1);
+		this.out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.out.close();
+	}
+
+	private void writeId(Object id) throws IOException {
+		if (id instanceof UUID uuid) {
+			this.out.writeInt(16);
+			this.out.writeLong(uuid.getMostSignificantBits());
+			this.out.writeLong(uuid.getLeastSignificantBits());
+		}
+		else if (id instanceof Integer value) {
+			this.out.writeInt(Integer.BYTES);
+			this.out.writeInt(value);
+		}
+		else if (id instanceof Long value) {
+			this.out.writeInt(Long.BYTES);
+			this.out.writeLong(value);
+		}
+		else {
+			writeText(id.toString());
+		}
+	}
+
+	private void writeText(@Nullable String text) throws IOException {
+		if (text == null) {
+			this.out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+		this.out.writeInt(bytes.length);
+		this.out.write(bytes);
+	}
+
+}
@@ -16,23 +16,148 @@
 
 package org.springframework.ai.vectorstore.pgvector;
 
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.ai.vectorstore.filter.Filter;
 import org.springframework.ai.vectorstore.filter.Filter.Expression;
 import org.springframework.ai.vectorstore.filter.Filter.Group;
 import org.springframework.ai.vectorstore.filter.Filter.Key;
+import org.springframework.ai.vectorstore.filter.Filter.Operand;
 import org.springframework.ai.vectorstore.filter.converter.AbstractFilterExpressionConverter;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.MetadataField;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.MetadataFieldType;
 
 /**
  * Converts {@link Expression} into PgVector metadata filter expression format.
  * (https://www.postgresql.org/docs/current/functions-json.html)
  *
+ * {@link #convertToSqlPredicate(Expression)} converts it into a SQL predicate instead,
+ * where the comparisons of the {@link MetadataField metadata fields} are evaluated on
+ * their indexed columns. The predicate matches the same documents as the jsonpath
+ * expression when a key is missing: a comparison of a missing key, {@code NE} included,
+ * is false, so negations ({@code NOT} and {@code NIN}) match the documents without the
+ * key. A comparison with a value of another type than the column, such as a number with
+ * a {@link PgVectorStore.MetadataFieldType#TEXT TEXT} field, would not be valid SQL, and
+ * is evaluated as a jsonpath predicate instead.
+ *
  * @author Muthukumaran Navaneethakrishnan
  * @author Christian Tzolov
  */
 public class PgVectorFilterExpressionConverter extends AbstractFilterExpressionConverter {
 
+	private final Map<String, MetadataField> metadataFields;
+
+	public PgVectorFilterExpressionConverter() {
+		this(List.of());
+	}
+
+	public PgVectorFilterExpressionConverter(List<MetadataField> metadataFields) {
+		this.metadataFields = metadataFields.stream()
+			.collect(Collectors.toUnmodifiableMap(MetadataField::name, Function.identity()));
+	}
+
+	/**
+	 * Converts the expression into a SQL predicate on the vector table. The comparisons
+	 * of metadata fields become predicates on their columns, and the sub-expressions
+	 * comparing no metadata field become jsonpath predicates on the metadata column.
+	 * @param expression the filter expression
+	 * @return the SQL predicate
+	 */
+	public String convertToSqlPredicate(Expression expression) {
+		return toSqlPredicate(expression);
+	}
+
+	private String toSqlPredicate(Operand operand) {
+		if (!referencesColumn(operand)) {
+			return "metadata::jsonb @@ '" + convertOperand(operand) + "'::jsonpath";
+		}
+		if (operand instanceof Group group) {
+			return toSqlPredicate(group.content());
+		}
+		Expression expression = (Expression) operand;
+		return switch (expression.type()) {
+			case AND -> "(" + toSqlPredicate(expression.left()) + " AND " + toSqlPredicate(expression.right()) + ")";
+			case OR -> "(" + toSqlPredicate(expression.left()) + " OR " + toSqlPredicate(expression.right()) + ")";
+			// A NULL column, i.e. a missing key, is a false comparison as in jsonpath.
+			case NOT -> "NOT COALESCE(" + toSqlPredicate(expression.left()) + ", FALSE)";
+			default -> toColumnPredicate(expression);
+		};
+	}
+
+	private String toColumnPredicate(Expression expression) {
+		MetadataField field = this.metadataFields.get(keyName((Key) expression.left()));
+		Object value = ((Filter.Value) expression.right()).value();
+		if (!isComparable(field.type(), value)) {
+			return "metadata::jsonb @@ '" + convertOperand(expression) + "'::jsonpath";
+		}
+		String column = field.columnName();
+		return switch (expression.type()) {
+			case EQ -> column + " = " + toSqlLiteral(value);
+			case NE -> column + " <> " + toSqlLiteral(value);
+			case LT -> column + " < " + toSqlLiteral(value);
+			case LTE -> column + " <= " + toSqlLiteral(value);
+			case GT -> column + " > " + toSqlLiteral(value);
+			case GTE -> column + " >= " + toSqlLiteral(value);
+			case IN -> column + " IN (" + toSqlLiterals(value) + ")";
+			case NIN -> "(" + column + " IS NULL OR " + column + " NOT IN (" + toSqlLiterals(value) + "))";
+			default -> throw new RuntimeException("Not supported expression type: " + expression.type());
+		};
+	}
+
+	/**
+	 * Returns whether the value, or all the values of a list, can be compared with a
+	 * column of the given type.
+	 */
+	private static boolean isComparable(MetadataFieldType type, Object value) {
+		if (value instanceof List<?> values) {
+			return values.stream().allMatch(element -> isComparable(type, element));
+		}
+		return switch (type) {
+			case TEXT -> value instanceof String || value instanceof Date;
+			case BIGINT, DOUBLE_PRECISION -> value instanceof Number;
+			case BOOLEAN -> value instanceof Boolean;
+		};
+	}
+
+	private boolean referencesColumn(Operand operand) {
+		if (operand instanceof Key key) {
+			return this.metadataFields.containsKey(keyName(key));
+		}
+		if (operand instanceof Group group) {
+			return referencesColumn(group.content());
+		}
+		if (operand instanceof Expression expression) {
+			return referencesColumn(expression.left())
+					|| (expression.right() != null && referencesColumn(expression.right()));
+		}
+		return false;
+	}
+
+	private String keyName(Key key) {
+		return hasOuterQuotes(key.key()) ? removeOuterQuotes(key.key().trim()) : key.key();
+	}
+
+	private String toSqlLiterals(Object value) {
+		if (!(value instanceof List<?> values)) {
+			throw new IllegalArgumentException("Expected a List, but got: " + value.getClass().getSimpleName());
+		}
+		return values.stream().map(this::toSqlLiteral).collect(Collectors.joining(", "));
+	}
+
+	private String toSqlLiteral(Object value) {
+		if (value instanceof Number || value instanceof Boolean) {
+			return value.toString();
+		}
+		if (value instanceof Date date) {
+			return "'" + date.toInstant() + "'";
+		}
+		return "'" + value.toString().replace("'", "''") + "'";
+	}
+
 	@Override
 	protected void doExpression(Expression expression, StringBuilder context) {
 		if (expression.type() == Filter.ExpressionType.IN) {
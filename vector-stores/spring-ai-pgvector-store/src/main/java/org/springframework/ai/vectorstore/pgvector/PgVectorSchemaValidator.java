@@ -18,6 +18,7 @@ package org.springframework.ai.vectorstore.pgvector;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 import org.slf4j.Logger;
@@ -76,6 +77,28 @@ public class PgVectorSchemaValidator {
 		}
 	}
 
+	/**
+	 * Validates that the table has the given columns.
+	 * @param schemaName the schema of the table
+	 * @param tableName the name of the table
+	 * @param columnNames the names of the columns the table must have
+	 * @throws IllegalStateException if any of the columns is missing
+	 */
+	void validateColumns(String schemaName, String tableName, List<String> columnNames) {
+		List<String> availableColumns = this.jdbcTemplate.queryForList(
+				"SELECT column_name FROM information_schema.columns WHERE table_schema = ? AND table_name = ?",
+				String.class, schemaName, tableName);
+		// Unquoted identifiers are folded to lower case by PostgreSQL.
+		List<String> missingColumns = columnNames.stream()
+			.filter(columnName -> !availableColumns.contains(columnName.toLowerCase(Locale.ROOT)))
+			.toList();
+		if (!missingColumns.isEmpty()) {
+			throw new IllegalStateException("Table " + schemaName + "." + tableName
+					+ " is missing the metadata field columns " + missingColumns
+					+ ", enable the schema initialization or create them");
+		}
+	}
+
 	void validateTableSchema(String schemaName, String tableName) {
 
 		if (!isValidNameForDatabaseObject(schemaName)) {
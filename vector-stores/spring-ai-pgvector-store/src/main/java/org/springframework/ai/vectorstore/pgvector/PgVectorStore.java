@@ -16,25 +16,35 @@
 
 package org.springframework.ai.vectorstore.pgvector;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.pgvector.PGvector;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
 import org.postgresql.util.PGobject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
+import org.springframework.ai.embedding.EmbeddingDimensionsResolver;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
@@ -44,17 +54,19 @@ import org.springframework.ai.vectorstore.AbstractVectorStoreBuilder;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.ai.vectorstore.filter.Filter;
-import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
 import org.springframework.ai.vectorstore.observation.AbstractObservationVectorStore;
 import org.springframework.ai.vectorstore.observation.VectorStoreObservationContext;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
 import org.springframework.jdbc.core.SqlTypeValue;
 import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
-import org.springframework.util.StringUtils;
 
 /**
  * PostgreSQL-based vector store implementation using the pgvector extension.
@@ -75,6 +87,7 @@ import org.springframework.util.StringUtils;
  * <li>Metadata filtering using JSON path expressions</li>
  * <li>Configurable similarity thresholds for search results</li>
  * <li>Batch processing support with configurable batch sizes</li>
+ * <li>Optional bulk ingestion with the binary COPY protocol</li>
  * </ul>
  *
  * <p>
@@ -113,6 +126,12 @@ import org.springframework.util.StringUtils;
  *     .removeExistingVectorStoreTable(true)
  *     .initializeSchema(true)
  *     .maxDocumentBatchSize(1000)
+ *     .ingestMode(PgIngestMode.COPY)
+ *     .indexType(PgIndexType.HNSW)
+ *     .hnswM(32)
+ *     .hnswEfSearch(100)
+ *     .iterativeScan(PgIterativeScan.RELAXED_ORDER)
+ *     .metadataFields(MetadataField.text("tenant"))
  *     .build();
  * }</pre>
  *
@@ -173,14 +192,27 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 
 	public static final int MAX_DOCUMENT_BATCH_SIZE = 10_000;
 
+	public static final PgIngestMode DEFAULT_INGEST_MODE = PgIngestMode.INSERT;
+
+	/**
+	 * Metadata key of the embeddings returned by the similarity search when
+	 * {@link PgVectorStoreBuilder#returnEmbeddings(boolean)} is enabled.
+	 */
+	public static final String EMBEDDING_METADATA_KEY = "embedding";
+
 	private static final Logger logger = LoggerFactory.getLogger(PgVectorStore.class);
 
+	/**
+	 * Maximum length in bytes of a PostgreSQL identifier, longer ones are truncated.
+	 */
+	private static final int MAX_IDENTIFIER_LENGTH = 63;
+
 	private static Map<PgDistanceType, VectorStoreSimilarityMetric> SIMILARITY_TYPE_MAPPING = Map.of(
 			PgDistanceType.COSINE_DISTANCE, VectorStoreSimilarityMetric.COSINE, PgDistanceType.EUCLIDEAN_DISTANCE,
 			VectorStoreSimilarityMetric.EUCLIDEAN, PgDistanceType.NEGATIVE_INNER_PRODUCT,
 			VectorStoreSimilarityMetric.DOT);
 
-	public final FilterExpressionConverter filterExpressionConverter = new PgVectorFilterExpressionConverter();
+	public final PgVectorFilterExpressionConverter filterExpressionConverter;
 
 	private final String vectorTableName;
 
@@ -210,6 +242,26 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 
 	private final int maxDocumentBatchSize;
 
+	private final PgIngestMode ingestMode;
+
+	private final List<MetadataField> metadataFields;
+
+	private final boolean returnEmbeddings;
+
+	@Nullable
+	private final Integer hnswM;
+
+	@Nullable
+	private final Integer hnswEfConstruction;
+
+	@Nullable
+	private final Integer ivfflatLists;
+
+	/**
+	 * {@code SET LOCAL} statements run in the transaction of each similarity search.
+	 */
+	private final List<String> searchSettings;
+
 	/**
 	 * @param builder {@link VectorStore.Builder} for pg vector store
 	 */
@@ -240,6 +292,42 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 		this.initializeSchema = builder.initializeSchema;
 		this.schemaValidator = new PgVectorSchemaValidator(this.jdbcTemplate);
 		this.maxDocumentBatchSize = builder.maxDocumentBatchSize;
+		this.ingestMode = builder.ingestMode;
+		this.returnEmbeddings = builder.returnEmbeddings;
+		this.hnswM = builder.hnswM;
+		this.hnswEfConstruction = builder.hnswEfConstruction;
+		this.ivfflatLists = builder.ivfflatLists;
+		this.searchSettings = searchSettings(builder);
+		this.metadataFields = List.copyOf(builder.metadataFields);
+		this.filterExpressionConverter = new PgVectorFilterExpressionConverter(this.metadataFields);
+	}
+
+	/**
+	 * Builds the settings applied to each search. They are applied whatever the index
+	 * type, since the index may be managed outside of this store. Only the iterative
+	 * scan mode, which both index types support, is restricted to the configured index
+	 * type, or set for both when none is configured.
+	 */
+	private static List<String> searchSettings(PgVectorStoreBuilder builder) {
+		List<String> settings = new ArrayList<>();
+		if (builder.hnswEfSearch != null) {
+			settings.add("SET LOCAL hnsw.ef_search = " + builder.hnswEfSearch);
+		}
+		if (builder.ivfflatProbes != null) {
+			settings.add("SET LOCAL ivfflat.probes = " + builder.ivfflatProbes);
+		}
+		if (builder.iterativeScan != null) {
+			Assert.isTrue(builder.indexType != PgIndexType.IVFFLAT
+					|| builder.iterativeScan != PgIterativeScan.STRICT_ORDER,
+					"IVFFlat indexes only support relaxed order iterative scans");
+			if (builder.indexType != PgIndexType.IVFFLAT) {
+				settings.add("SET LOCAL hnsw.iterative_scan = " + builder.iterativeScan.value);
+			}
+			if (builder.indexType != PgIndexType.HNSW && builder.iterativeScan != PgIterativeScan.STRICT_ORDER) {
+				settings.add("SET LOCAL ivfflat.iterative_scan = " + builder.iterativeScan.value);
+			}
+		}
+		return List.copyOf(settings);
 	}
 
 	public PgDistanceType getDistanceType() {
@@ -255,19 +343,20 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
 				this.batchingStrategy);
 
-		List<List<Document>> batchedDocuments = batchDocuments(documents);
-		batchedDocuments.forEach(batchDocument -> insertOrUpdateBatch(batchDocument, documents, embeddings));
-	}
+		if (this.ingestMode == PgIngestMode.COPY) {
+			copyAndMerge(documents, embeddings);
+			return;
+		}
 
-	private List<List<Document>> batchDocuments(List<Document> documents) {
-		List<List<Document>> batches = new ArrayList<>();
+		// Documents and their embeddings are sliced at the same offsets, so that each
+		// row is matched with its embedding by position.
 		for (int i = 0; i < documents.size(); i += this.maxDocumentBatchSize) {
-			batches.add(documents.subList(i, Math.min(i + this.maxDocumentBatchSize, documents.size())));
+			int end = Math.min(i + this.maxDocumentBatchSize, documents.size());
+			insertOrUpdateBatch(documents.subList(i, end), embeddings.subList(i, end));
 		}
-		return batches;
 	}
 
-	private void insertOrUpdateBatch(List<Document> batch, List<Document> documents, List<float[]> embeddings) {
+	private void insertOrUpdateBatch(List<Document> batch, List<float[]> batchEmbeddings) {
 		String sql = "INSERT INTO " + getFullyQualifiedTableName()
 				+ " (id, content, metadata, embedding) VALUES (?, ?, ?::jsonb, ?) " + "ON CONFLICT (id) DO "
 				+ "UPDATE SET content = ? , metadata = ?::jsonb , embedding = ? ";
@@ -281,7 +370,7 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 				var id = convertIdToPgType(document.getId());
 				var content = document.getText();
 				var json = toJson(document.getMetadata());
-				var embedding = embeddings.get(documents.indexOf(document));
+				var embedding = batchEmbeddings.get(i);
 				var pGvector = new PGvector(embedding);
 
 				StatementCreatorUtils.setParameterValue(ps, 1, SqlTypeValue.TYPE_UNKNOWN, id);
@@ -300,6 +389,70 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 		});
 	}
 
+	private void copyAndMerge(List<Document> documents, List<float[]> embeddings) {
+		// Temporary tables are private to the session, so the staging table and the
+		// statements using it must share the same connection.
+		String stagingTableName = "spring_ai_staging_" + UUID.randomUUID().toString().replace("-", "");
+		this.jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute(String.format(
+						"CREATE TEMPORARY TABLE %s (seq bigint, id %s, content text, metadata text, embedding vector)",
+						stagingTableName, getStagingIdTypeName()));
+				try {
+					copyRows(connection.unwrap(PGConnection.class), stagingTableName, documents, embeddings);
+					// Only the last occurrence of an id is merged, as with successive
+					// inserts.
+					statement.executeUpdate(String.format("""
+							INSERT INTO %s (id, content, metadata, embedding)
+							SELECT DISTINCT ON (id) id, content, metadata::jsonb, embedding FROM %s
+							ORDER BY id, seq DESC
+							ON CONFLICT (id) DO UPDATE SET content = EXCLUDED.content,
+								metadata = EXCLUDED.metadata, embedding = EXCLUDED.embedding
+							""", getFullyQualifiedTableName(), stagingTableName));
+				}
+				finally {
+					dropStagingTable(statement, stagingTableName);
+				}
+			}
+			return null;
+		});
+	}
+
+	private void copyRows(PGConnection connection, String stagingTableName, List<Document> documents,
+			List<float[]> embeddings) throws SQLException {
+		String sql = "COPY " + stagingTableName + " (seq, id, content, metadata, embedding) FROM STDIN (FORMAT BINARY)";
+		try (PgVectorCopyWriter writer = new PgVectorCopyWriter(new PGCopyOutputStream(connection, sql))) {
+			for (int i = 0; i < documents.size(); i++) {
+				Document document = documents.get(i);
+				writer.writeRow(i, convertIdToPgType(document.getId()), document.getText(),
+						toJson(document.getMetadata()), embeddings.get(i));
+			}
+			writer.finish();
+		}
+		catch (IOException e) {
+			throw new SQLException("Failed to copy documents into " + stagingTableName, e);
+		}
+	}
+
+	private void dropStagingTable(Statement statement, String stagingTableName) {
+		try {
+			statement.execute("DROP TABLE IF EXISTS " + stagingTableName);
+		}
+		catch (SQLException e) {
+			// The table is dropped with the rollback of a failed transaction anyway.
+			logger.debug("Failed to drop staging table {}", stagingTableName, e);
+		}
+	}
+
+	private String getStagingIdTypeName() {
+		return switch (getIdType()) {
+			case UUID -> "uuid";
+			case TEXT -> "text";
+			case INTEGER, SERIAL -> "integer";
+			case BIGSERIAL -> "bigint";
+		};
+	}
+
 	private String toJson(Map<String, Object> map) {
 		try {
 			return this.objectMapper.writeValueAsString(map);
@@ -339,10 +492,8 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 
 	@Override
 	protected void doDelete(Filter.Expression filterExpression) {
-		String nativeFilterExpression = this.filterExpressionConverter.convertExpression(filterExpression);
-
-		String sql = "DELETE FROM " + getFullyQualifiedTableName() + " WHERE metadata::jsonb @@ '"
-				+ nativeFilterExpression + "'::jsonpath";
+		String sql = "DELETE FROM " + getFullyQualifiedTableName() + " WHERE "
+				+ this.filterExpressionConverter.convertToSqlPredicate(filterExpression);
 
 		// Execute the delete
 		try {
@@ -354,25 +505,89 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 	}
 
 	@Override
-	public List<Document> doSimilaritySearch(SearchRequest request) {
+	protected List<Document> doSimilaritySearch(SearchRequest request, float[] queryEmbedding) {
 
-		String nativeFilterExpression = (request.getFilterExpression() != null)
-				? this.filterExpressionConverter.convertExpression(request.getFilterExpression()) : "";
+		String filter = (request.getFilterExpression() != null)
+				? " WHERE " + this.filterExpressionConverter.convertToSqlPredicate(request.getFilterExpression()) : "";
 
-		String jsonPathFilter = "";
+		double distance = 1 - request.getSimilarityThreshold();
 
-		if (StringUtils.hasText(nativeFilterExpression)) {
-			jsonPathFilter = " AND metadata::jsonb @@ '" + nativeFilterExpression + "'::jsonpath ";
-		}
+		PGvector queryVector = new PGvector(queryEmbedding);
 
-		double distance = 1 - request.getSimilarityThreshold();
+		// The embedding column is only fetched on demand, as it is by far the largest.
+		String embeddingColumn = this.returnEmbeddings ? ", " + DocumentRowMapper.COLUMN_EMBEDDING : "";
 
-		PGvector queryEmbedding = getQueryEmbedding(request.getQuery());
+		String sql = String.format(this.getDistanceType().projectedSearchSqlTemplate, embeddingColumn,
+				getFullyQualifiedTableName(), filter);
+		RowMapper<Document> rowMapper = new DocumentRowMapper(this.objectMapper, this.returnEmbeddings);
+		Object[] args = { queryVector, request.getTopK(), distance };
 
-		return this.jdbcTemplate.query(
-				String.format(this.getDistanceType().similaritySearchSqlTemplate, getFullyQualifiedTableName(),
-						jsonPathFilter),
-				new DocumentRowMapper(this.objectMapper), queryEmbedding, queryEmbedding, distance, request.getTopK());
+		if (this.searchSettings.isEmpty()) {
+			return this.jdbcTemplate.query(sql, rowMapper, args);
+		}
+		return this.jdbcTemplate.execute((ConnectionCallback<List<Document>>) connection -> {
+			// SET LOCAL only lasts until the end of the current transaction, so a
+			// transaction is started for the search unless one is already in progress.
+			if (!connection.getAutoCommit()) {
+				return queryInSavepoint(connection, sql, rowMapper, args);
+			}
+			connection.setAutoCommit(false);
+			try {
+				List<Document> documents = queryWithSearchSettings(connection, sql, rowMapper, args);
+				connection.commit();
+				return documents;
+			}
+			catch (SQLException | RuntimeException e) {
+				connection.rollback();
+				throw e;
+			}
+			finally {
+				connection.setAutoCommit(true);
+			}
+		});
+	}
+
+	/**
+	 * Runs the search in a savepoint of the transaction in progress and rolls back to it
+	 * afterwards, which reverts the {@code SET LOCAL} settings so that they do not apply
+	 * to the rest of the caller's transaction. The search itself does not modify any
+	 * data.
+	 */
+	private List<Document> queryInSavepoint(Connection connection, String sql, RowMapper<Document> rowMapper,
+			Object[] args) throws SQLException {
+		Savepoint savepoint = connection.setSavepoint();
+		List<Document> documents;
+		try {
+			documents = queryWithSearchSettings(connection, sql, rowMapper, args);
+		}
+		catch (SQLException | RuntimeException ex) {
+			try {
+				connection.rollback(savepoint);
+				connection.releaseSavepoint(savepoint);
+			}
+			catch (SQLException rollbackEx) {
+				ex.addSuppressed(rollbackEx);
+			}
+			throw ex;
+		}
+		connection.rollback(savepoint);
+		connection.releaseSavepoint(savepoint);
+		return documents;
+	}
+
+	private List<Document> queryWithSearchSettings(Connection connection, String sql,
+			RowMapper<Document> rowMapper, Object[] args) throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			for (String setting : this.searchSettings) {
+				statement.execute(setting);
+			}
+		}
+		try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+			new ArgumentPreparedStatementSetter(args).setValues(preparedStatement);
+			try (ResultSet resultSet = preparedStatement.executeQuery()) {
+				return new RowMapperResultSetExtractor<>(rowMapper).extractData(resultSet);
+			}
+		}
 	}
 
 	public List<Double> embeddingDistance(String query) {
@@ -414,6 +629,11 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 
 		if (!this.initializeSchema) {
 			logger.debug("Skipping the schema initialization for the table: {}", this.getFullyQualifiedTableName());
+			if (!this.metadataFields.isEmpty()) {
+				// Filters on metadata fields are converted into predicates on their columns.
+				this.schemaValidator.validateColumns(this.getSchemaName(), this.getVectorTableName(),
+						this.metadataFields.stream().map(MetadataField::columnName).toList());
+			}
 			return;
 		}
 
@@ -443,10 +663,63 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 
 		if (this.createIndexMethod != PgIndexType.NONE) {
 			this.jdbcTemplate.execute(String.format("""
-					CREATE INDEX IF NOT EXISTS %s ON %s USING %s (embedding %s)
+					CREATE INDEX IF NOT EXISTS %s ON %s USING %s (embedding %s)%s
 					""", this.getVectorIndexName(), this.getFullyQualifiedTableName(), this.createIndexMethod,
-					this.getDistanceType().index));
+					this.getDistanceType().index, this.getIndexParameters()));
+		}
+
+		for (MetadataField field : this.metadataFields) {
+			this.jdbcTemplate.execute(String.format("""
+					ALTER TABLE %s ADD COLUMN IF NOT EXISTS %s %s
+					GENERATED ALWAYS AS ((metadata ->> '%s')::%s) STORED
+					""", this.getFullyQualifiedTableName(), field.columnName(), field.type().sqlType, field.name(),
+					field.type().sqlType));
+			this.jdbcTemplate.execute(String.format("CREATE INDEX IF NOT EXISTS %s ON %s (%s)",
+					metadataIndexName(this.getVectorTableName(), field), this.getFullyQualifiedTableName(),
+					field.columnName()));
+		}
+	}
+
+	/**
+	 * Returns the name of the index of a metadata field column. PostgreSQL silently
+	 * truncates identifiers longer than {@value #MAX_IDENTIFIER_LENGTH} bytes, which
+	 * could give the indexes of two fields the same name, so longer names are truncated
+	 * here and suffixed with a hash of the full name.
+	 */
+	static String metadataIndexName(String tableName, MetadataField field) {
+		String name = tableName + "_" + field.columnName() + "_idx";
+		if (name.getBytes(StandardCharsets.UTF_8).length <= MAX_IDENTIFIER_LENGTH) {
+			return name;
+		}
+		String suffix = String.format("_%08x_idx", name.hashCode());
+		StringBuilder prefix = new StringBuilder();
+		int length = suffix.length();
+		for (int i = 0; i < name.length();) {
+			int codePoint = name.codePointAt(i);
+			length += new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8).length;
+			if (length > MAX_IDENTIFIER_LENGTH) {
+				break;
+			}
+			prefix.appendCodePoint(codePoint);
+			i += Character.charCount(codePoint);
+		}
+		return prefix + suffix;
+	}
+
+	private String getIndexParameters() {
+		List<String> parameters = new ArrayList<>();
+		if (this.createIndexMethod == PgIndexType.HNSW) {
+			if (this.hnswM != null) {
+				parameters.add("m = " + this.hnswM);
+			}
+			if (this.hnswEfConstruction != null) {
+				parameters.add("ef_construction = " + this.hnswEfConstruction);
+			}
 		}
+		else if (this.createIndexMethod == PgIndexType.IVFFLAT && this.ivfflatLists != null) {
+			parameters.add("lists = " + this.ivfflatLists);
+		}
+		return parameters.isEmpty() ? "" : " WITH (" + String.join(", ", parameters) + ")";
 	}
 
 	private String getFullyQualifiedTableName() {
@@ -486,7 +759,7 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 		}
 
 		try {
-			int embeddingDimensions = this.embeddingModel.dimensions();
+			int embeddingDimensions = EmbeddingDimensionsResolver.resolve(this.embeddingModel);
 			if (embeddingDimensions > 0) {
 				return embeddingDimensions;
 			}
@@ -560,6 +833,114 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 
 	}
 
+	/**
+	 * Metadata key materialized as a typed column of the vector table, generated from the
+	 * metadata and indexed with a B-tree. The filter expressions comparing that key are
+	 * converted into predicates on the column, so that they can use its index instead of
+	 * evaluating a jsonpath on the metadata of every row.
+	 *
+	 * @param name the metadata key, which must be a valid identifier
+	 * @param type the type of the column
+	 */
+	public record MetadataField(String name, MetadataFieldType type) {
+
+		private static final Pattern NAME_PATTERN = Pattern.compile("[a-zA-Z_][a-zA-Z0-9_]{0,53}");
+
+		public MetadataField {
+			Assert.isTrue(name != null && NAME_PATTERN.matcher(name).matches(),
+					() -> "Metadata field name must be a valid identifier: " + name);
+			Assert.notNull(type, "Metadata field type must not be null");
+		}
+
+		public static MetadataField text(String name) {
+			return new MetadataField(name, MetadataFieldType.TEXT);
+		}
+
+		public static MetadataField integer(String name) {
+			return new MetadataField(name, MetadataFieldType.BIGINT);
+		}
+
+		public static MetadataField number(String name) {
+			return new MetadataField(name, MetadataFieldType.DOUBLE_PRECISION);
+		}
+
+		public static MetadataField bool(String name) {
+			return new MetadataField(name, MetadataFieldType.BOOLEAN);
+		}
+
+		/**
+		 * Returns the name of the generated column holding the metadata value.
+		 * @return the column name
+		 */
+		public String columnName() {
+			return "metadata_" + this.name;
+		}
+
+	}
+
+	/**
+	 * Type of a {@link MetadataField} column. The metadata values must be convertible to
+	 * it, or the documents are rejected when added.
+	 */
+	public enum MetadataFieldType {
+
+		TEXT("text"), BIGINT("bigint"), DOUBLE_PRECISION("double precision"), BOOLEAN("boolean");
+
+		private final String sqlType;
+
+		MetadataFieldType(String sqlType) {
+			this.sqlType = sqlType;
+		}
+
+	}
+
+	/**
+	 * Iterative index scans of pgvector 0.8+, which keep scanning the index when the
+	 * metadata filter discards too many of the nearest neighbours to return top K
+	 * documents.
+	 */
+	public enum PgIterativeScan {
+
+		/**
+		 * Disables iterative scans, the index is scanned once.
+		 */
+		OFF("off"),
+		/**
+		 * Returns the documents in exact distance order. Only supported by HNSW indexes.
+		 */
+		STRICT_ORDER("strict_order"),
+		/**
+		 * Allows slightly out of order results, for a better recall.
+		 */
+		RELAXED_ORDER("relaxed_order");
+
+		private final String value;
+
+		PgIterativeScan(String value) {
+			this.value = value;
+		}
+
+	}
+
+	/**
+	 * How {@link #add(List)} writes the documents to the vector table.
+	 */
+	public enum PgIngestMode {
+
+		/**
+		 * Upserts the documents with batched {@code INSERT ... ON CONFLICT} statements
+		 * of at most {@code maxDocumentBatchSize} rows.
+		 */
+		INSERT,
+		/**
+		 * Streams all the documents into a temporary staging table with a binary
+		 * {@code COPY}, then upserts them into the vector table with a single statement.
+		 * Much faster for large loads, but all the rows are merged in one statement.
+		 */
+		COPY
+
+	}
+
 	/**
 	 * Defaults to CosineDistance. But if vectors are normalized to length 1 (like OpenAI
 	 * embeddings), use inner product (NegativeInnerProduct) for best performance.
@@ -571,28 +952,56 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 		// The Sentence transformers are NOT normalized:
 		// https://github.com/UKPLab/sentence-transformers/issues/233
 		EUCLIDEAN_DISTANCE("<->", "vector_l2_ops",
-				"SELECT *, embedding <-> ? AS distance FROM %s WHERE embedding <-> ? < ? %s ORDER BY distance LIMIT ? "),
+				"SELECT *, embedding <-> ? AS distance FROM %s WHERE embedding <-> ? < ? %s ORDER BY distance LIMIT ? ",
+				"SELECT id, content, metadata%1$s, distance FROM (SELECT id, content, metadata%1$s, "
+						+ "embedding <-> ? AS distance FROM %2$s%3$s ORDER BY distance LIMIT ?) AS nearest "
+						+ "WHERE distance < ? ORDER BY distance"),
 
 		// NOTE: works only if vectors are normalized to length 1 (like OpenAI
 		// embeddings), use inner product for best performance.
 		// The Sentence transformers are NOT normalized:
 		// https://github.com/UKPLab/sentence-transformers/issues/233
 		NEGATIVE_INNER_PRODUCT("<#>", "vector_ip_ops",
-				"SELECT *, (1 + (embedding <#> ?)) AS distance FROM %s WHERE (1 + (embedding <#> ?)) < ? %s ORDER BY distance LIMIT ? "),
+				"SELECT *, (1 + (embedding <#> ?)) AS distance FROM %s WHERE (1 + (embedding <#> ?)) < ? %s ORDER BY distance LIMIT ? ",
+				"SELECT id, content, metadata%1$s, 1 + distance AS distance FROM (SELECT id, content, metadata%1$s, "
+						+ "embedding <#> ? AS distance FROM %2$s%3$s ORDER BY distance LIMIT ?) AS nearest "
+						+ "WHERE 1 + distance < ? ORDER BY distance"),
 
 		COSINE_DISTANCE("<=>", "vector_cosine_ops",
-				"SELECT *, embedding <=> ? AS distance FROM %s WHERE embedding <=> ? < ? %s ORDER BY distance LIMIT ? ");
+				"SELECT *, embedding <=> ? AS distance FROM %s WHERE embedding <=> ? < ? %s ORDER BY distance LIMIT ? ",
+				"SELECT id, content, metadata%1$s, distance FROM (SELECT id, content, metadata%1$s, "
+						+ "embedding <=> ? AS distance FROM %2$s%3$s ORDER BY distance LIMIT ?) AS nearest "
+						+ "WHERE distance < ? ORDER BY distance");
 
 		public final String operator;
 
 		public final String index;
 
+		/**
+		 * Similarity search query, formatted with the table name and an optional
+		 * {@code AND} filter clause, and bound to the query embedding twice, the
+		 * distance threshold and the number of results.
+		 * @deprecated no longer used by {@link PgVectorStore}, which only fetches the
+		 * columns it maps and computes the distance once per row
+		 */
+		@Deprecated
 		public final String similaritySearchSqlTemplate;
 
-		PgDistanceType(String operator, String index, String sqlTemplate) {
+		/**
+		 * Similarity search query, formatted with the optional embedding column, the
+		 * table name and the optional {@code WHERE} filter clause, and bound to the query
+		 * embedding, the number of results and the distance threshold. The distance to
+		 * the query embedding is computed once per row, ordered on by the nearest
+		 * neighbour scan of the vector index, and the similarity threshold is applied to
+		 * the top K rows only.
+		 */
+		private final String projectedSearchSqlTemplate;
+
+		PgDistanceType(String operator, String index, String sqlTemplate, String projectedSearchSqlTemplate) {
 			this.operator = operator;
 			this.index = index;
 			this.similaritySearchSqlTemplate = sqlTemplate;
+			this.projectedSearchSqlTemplate = projectedSearchSqlTemplate;
 		}
 
 	}
@@ -611,8 +1020,11 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 
 		private final ObjectMapper objectMapper;
 
-		DocumentRowMapper(ObjectMapper objectMapper) {
+		private final boolean mapEmbedding;
+
+		DocumentRowMapper(ObjectMapper objectMapper, boolean mapEmbedding) {
 			this.objectMapper = objectMapper;
+			this.mapEmbedding = mapEmbedding;
 		}
 
 		@Override
@@ -624,6 +1036,9 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 
 			Map<String, Object> metadata = toMap(pgMetadata);
 			metadata.put(DocumentMetadata.DISTANCE.value(), distance);
+			if (this.mapEmbedding) {
+				metadata.put(EMBEDDING_METADATA_KEY, new PGvector(rs.getString(COLUMN_EMBEDDING)).toArray());
+			}
 
 			// @formatter:off
 			return Document.builder()
@@ -671,6 +1086,30 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 
 		private int maxDocumentBatchSize = MAX_DOCUMENT_BATCH_SIZE;
 
+		private PgIngestMode ingestMode = PgVectorStore.DEFAULT_INGEST_MODE;
+
+		private boolean returnEmbeddings = false;
+
+		@Nullable
+		private Integer hnswM;
+
+		@Nullable
+		private Integer hnswEfConstruction;
+
+		@Nullable
+		private Integer hnswEfSearch;
+
+		@Nullable
+		private Integer ivfflatLists;
+
+		@Nullable
+		private Integer ivfflatProbes;
+
+		@Nullable
+		private PgIterativeScan iterativeScan;
+
+		private List<MetadataField> metadataFields = new ArrayList<>();
+
 		private PgVectorStoreBuilder(JdbcTemplate jdbcTemplate, EmbeddingModel embeddingModel) {
 			super(embeddingModel);
 			Assert.notNull(jdbcTemplate, "JdbcTemplate must not be null");
@@ -727,6 +1166,124 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 			return this;
 		}
 
+		public PgVectorStoreBuilder ingestMode(PgIngestMode ingestMode) {
+			Assert.notNull(ingestMode, "Ingest mode must not be null");
+			this.ingestMode = ingestMode;
+			return this;
+		}
+
+		/**
+		 * Whether the similarity search returns the embeddings of the documents, under
+		 * the {@link PgVectorStore#EMBEDDING_METADATA_KEY} metadata key. Disabled by
+		 * default, as fetching the vector column dominates the size of the results.
+		 * @param returnEmbeddings true to return the embeddings
+		 * @return the builder instance
+		 */
+		public PgVectorStoreBuilder returnEmbeddings(boolean returnEmbeddings) {
+			this.returnEmbeddings = returnEmbeddings;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of connections per layer of the HNSW index created by
+		 * the schema initialization. Defaults to the pgvector default of 16.
+		 * @param m the maximum number of connections per layer
+		 * @return the builder instance
+		 */
+		public PgVectorStoreBuilder hnswM(int m) {
+			Assert.isTrue(m >= 2, "HNSW m must be at least 2");
+			this.hnswM = m;
+			return this;
+		}
+
+		/**
+		 * Sets the size of the candidate list used to build the HNSW index created by
+		 * the schema initialization. Defaults to the pgvector default of 64.
+		 * @param efConstruction the size of the candidate list
+		 * @return the builder instance
+		 */
+		public PgVectorStoreBuilder hnswEfConstruction(int efConstruction) {
+			Assert.isTrue(efConstruction > 0, "HNSW ef_construction must be positive");
+			this.hnswEfConstruction = efConstruction;
+			return this;
+		}
+
+		/**
+		 * Sets the size of the candidate list of the HNSW index scans, applied to each
+		 * similarity search. Higher values improve recall at the cost of latency, and
+		 * should be at least the top K of the searches. Defaults to the server setting.
+		 * @param efSearch the size of the candidate list
+		 * @return the builder instance
+		 */
+		public PgVectorStoreBuilder hnswEfSearch(int efSearch) {
+			Assert.isTrue(efSearch > 0, "HNSW ef_search must be positive");
+			this.hnswEfSearch = efSearch;
+			return this;
+		}
+
+		/**
+		 * Sets the number of inverted lists of the IVFFlat index created by the schema
+		 * initialization. Defaults to the pgvector default of 100.
+		 * @param lists the number of inverted lists
+		 * @return the builder instance
+		 */
+		public PgVectorStoreBuilder ivfflatLists(int lists) {
+			Assert.isTrue(lists > 0, "IVFFlat lists must be positive");
+			this.ivfflatLists = lists;
+			return this;
+		}
+
+		/**
+		 * Sets the number of inverted lists probed by the IVFFlat index scans, applied to
+		 * each similarity search. Higher values improve recall at the cost of latency.
+		 * Defaults to the server setting.
+		 * @param probes the number of probed lists
+		 * @return the builder instance
+		 */
+		public PgVectorStoreBuilder ivfflatProbes(int probes) {
+			Assert.isTrue(probes > 0, "IVFFlat probes must be positive");
+			this.ivfflatProbes = probes;
+			return this;
+		}
+
+		/**
+		 * Sets the iterative scan mode of the index, applied to each similarity search,
+		 * so that filtered searches still return top K documents. Requires pgvector 0.8
+		 * or later. Defaults to the server setting.
+		 * @param iterativeScan the iterative scan mode
+		 * @return the builder instance
+		 */
+		public PgVectorStoreBuilder iterativeScan(PgIterativeScan iterativeScan) {
+			Assert.notNull(iterativeScan, "Iterative scan must not be null");
+			this.iterativeScan = iterativeScan;
+			return this;
+		}
+
+		/**
+		 * Sets the metadata keys materialized as indexed columns by the schema
+		 * initialization, typically those of the tenant or document type filters. Without
+		 * schema initialization, the columns must already exist.
+		 * @param fields the metadata fields
+		 * @return the builder instance
+		 */
+		public PgVectorStoreBuilder metadataFields(MetadataField... fields) {
+			return metadataFields(Arrays.asList(fields));
+		}
+
+		/**
+		 * Sets the metadata keys materialized as indexed columns by the schema
+		 * initialization, typically those of the tenant or document type filters. Without
+		 * schema initialization, the columns must already exist.
+		 * @param fields the metadata fields
+		 * @return the builder instance
+		 */
+		public PgVectorStoreBuilder metadataFields(List<MetadataField> fields) {
+			Assert.notNull(fields, "Metadata fields must not be null");
+			Assert.noNullElements(fields, "Metadata fields must not contain null elements");
+			this.metadataFields = new ArrayList<>(fields);
+			return this;
+		}
+
 		public PgVectorStore build() {
 			return new PgVectorStore(this);
 		}
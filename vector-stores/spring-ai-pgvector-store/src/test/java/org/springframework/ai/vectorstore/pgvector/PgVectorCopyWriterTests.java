@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.pgvector;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PgVectorCopyWriterTests {
+
+	@Test
+	void shouldWriteRowsInBinaryCopyFormat() throws IOException {
+		UUID id = UUID.randomUUID();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (PgVectorCopyWriter writer = new PgVectorCopyWriter(bytes)) {
+			writer.writeRow(7L, id, null, "{}", new float[] { 1f, -2.5f });
+			writer.finish();
+		}
+
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		assertThat(in.readNBytes(11)).containsExactly('P', 'G', 'C', 'O', 'P', 'Y', '\n', 0xFF, '\r', '\n', 0);
+		assertThat(in.readInt()).isZero();
+		assertThat(in.readInt()).isZero();
+
+		assertThat(in.readShort()).isEqualTo((short) 5);
+		assertThat(in.readInt()).isEqualTo(8);
+		assertThat(in.readLong()).isEqualTo(7L);
+		assertThat(in.readInt()).isEqualTo(16);
+		assertThat(new UUID(in.readLong(), in.readLong())).isEqualTo(id);
+		assertThat(in.readInt()).isEqualTo(-1);
+		assertThat(in.readInt()).isEqualTo(2);
+		assertThat(new String(in.readNBytes(2), StandardCharsets.UTF_8)).isEqualTo("{}");
+		assertThat(in.readInt()).isEqualTo(12);
+		assertThat(in.readShort()).isEqualTo((short) 2);
+		assertThat(in.readShort()).isZero();
+		assertThat(in.readFloat()).isEqualTo(1f);
+		assertThat(in.readFloat()).isEqualTo(-2.5f);
+
+		assertThat(in.readShort()).isEqualTo((short) -1);
+		assertThat(in.available()).isZero();
+	}
+
+	@Test
+	void shouldEncodeIdsByType() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (PgVectorCopyWriter writer = new PgVectorCopyWriter(bytes)) {
+			writer.writeRow(0L, 42, "a", "{}", new float[0]);
+			writer.writeRow(1L, "doc-1", "b", "{}", new float[0]);
+			writer.finish();
+		}
+
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		in.skipNBytes(19 + 2 + 12);
+		assertThat(in.readInt()).isEqualTo(4);
+		assertThat(in.readInt()).isEqualTo(42);
+		in.skipNBytes(4 + 1 + 4 + 2 + 8 + 2 + 12);
+		assertThat(in.readInt()).isEqualTo(5);
+		assertThat(new String(in.readNBytes(5), StandardCharsets.UTF_8)).isEqualTo("doc-1");
+	}
+
+}
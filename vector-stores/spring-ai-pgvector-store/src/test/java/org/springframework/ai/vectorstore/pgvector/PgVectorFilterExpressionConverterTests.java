@@ -16,6 +16,7 @@
 
 package org.springframework.ai.vectorstore.pgvector;
 
+import java.util.Date;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -25,6 +26,7 @@ import org.springframework.ai.vectorstore.filter.Filter.Group;
 import org.springframework.ai.vectorstore.filter.Filter.Key;
 import org.springframework.ai.vectorstore.filter.Filter.Value;
 import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.MetadataField;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.AND;
@@ -34,6 +36,7 @@ import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.IN
 import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.LTE;
 import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.NE;
 import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.NIN;
+import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.NOT;
 import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.OR;
 
 /**
@@ -119,4 +122,69 @@ public class PgVectorFilterExpressionConverterTests {
 		assertThat(vectorExpr).isEqualTo("$.\"country 1 2 3\" == \"BG\"");
 	}
 
+	@Test
+	public void testSqlPredicateOfMetadataFields() {
+		var fieldConverter = new PgVectorFilterExpressionConverter(
+				List.of(MetadataField.text("tenant"), MetadataField.integer("year")));
+
+		// tenant == "acme" AND (year >= 2020 OR genre == "drama")
+		String predicate = fieldConverter.convertToSqlPredicate(new Expression(AND,
+				new Expression(EQ, new Key("tenant"), new Value("acme")),
+				new Group(new Expression(OR, new Expression(GTE, new Key("year"), new Value(2020)),
+						new Expression(EQ, new Key("genre"), new Value("drama"))))));
+		assertThat(predicate).isEqualTo("(metadata_tenant = 'acme' AND (metadata_year >= 2020 OR "
+				+ "metadata::jsonb @@ '$.genre == \"drama\"'::jsonpath))");
+
+		// tenant not in ["o'neil", "b"] AND NOT(year == 2020)
+		predicate = fieldConverter.convertToSqlPredicate(new Expression(AND,
+				new Expression(NIN, new Key("tenant"), new Value(List.of("o'neil", "b"))),
+				new Expression(NOT, new Group(new Expression(EQ, new Key("year"), new Value(2020))))));
+		assertThat(predicate).isEqualTo("((metadata_tenant IS NULL OR metadata_tenant NOT IN ('o''neil', 'b')) "
+				+ "AND NOT COALESCE(metadata_year = 2020, FALSE))");
+	}
+
+	@Test
+	public void testSqlPredicateOfDate() {
+		var fieldConverter = new PgVectorFilterExpressionConverter(List.of(MetadataField.text("published")));
+
+		String predicate = fieldConverter.convertToSqlPredicate(
+				new Expression(GTE, new Key("published"), new Value(new Date(1_700_000_000_000L))));
+		assertThat(predicate).isEqualTo("metadata_published >= '2023-11-14T22:13:20Z'");
+	}
+
+	@Test
+	public void testSqlPredicateOfValuesOfAnotherTypeThanTheColumn() {
+		var fieldConverter = new PgVectorFilterExpressionConverter(List.of(MetadataField.text("tenant"),
+				MetadataField.integer("year"), MetadataField.bool("active")));
+
+		// tenant == 5 AND year == "abc"
+		String predicate = fieldConverter.convertToSqlPredicate(
+				new Expression(AND, new Expression(EQ, new Key("tenant"), new Value(5)),
+						new Expression(EQ, new Key("year"), new Value("abc"))));
+		assertThat(predicate).isEqualTo("(metadata::jsonb @@ '$.tenant == 5'::jsonpath AND "
+				+ "metadata::jsonb @@ '$.year == \"abc\"'::jsonpath)");
+
+		// year in [2020, "2021"] AND active == true AND year >= 2019.5
+		predicate = fieldConverter.convertToSqlPredicate(new Expression(AND,
+				new Expression(AND, new Expression(IN, new Key("year"), new Value(List.of(2020, "2021"))),
+						new Expression(EQ, new Key("active"), new Value(true))),
+				new Expression(GTE, new Key("year"), new Value(2019.5))));
+		assertThat(predicate)
+			.isEqualTo("((metadata::jsonb @@ '($.year == 2020 || $.year == \"2021\")'::jsonpath AND "
+					+ "metadata_active = true) AND metadata_year >= 2019.5)");
+
+		// NOT(active == "yes")
+		predicate = fieldConverter.convertToSqlPredicate(
+				new Expression(NOT, new Group(new Expression(EQ, new Key("active"), new Value("yes")))));
+		assertThat(predicate)
+			.isEqualTo("NOT COALESCE(metadata::jsonb @@ '$.active == \"yes\"'::jsonpath, FALSE)");
+	}
+
+	@Test
+	public void testSqlPredicateWithoutMetadataFields() {
+		String predicate = new PgVectorFilterExpressionConverter()
+			.convertToSqlPredicate(new Expression(EQ, new Key("tenant"), new Value("acme")));
+		assertThat(predicate).isEqualTo("metadata::jsonb @@ '$.tenant == \"acme\"'::jsonpath");
+	}
+
 }
@@ -16,26 +16,49 @@
 
 package org.springframework.ai.vectorstore.pgvector;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
 import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
 
+import com.pgvector.PGvector;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.MetadataField;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgIndexType;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgIterativeScan;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.only;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * @author Muthukumaran Navaneethakrishnan
@@ -83,6 +106,8 @@ public class PgVectorStoreTests {
 
 		// Testing with 9989 documents
 		var documents = Collections.nCopies(9989, new Document("foo"));
+		when(embeddingModel.embed(eq(documents), any(), any()))
+			.thenReturn(Collections.nCopies(9989, new float[] { 1f, 2f, 3f }));
 
 		// When
 		pgVectorStore.doAdd(documents);
@@ -104,4 +129,289 @@ public class PgVectorStoreTests {
 			});
 	}
 
+	@Test
+	void shouldMatchDocumentsWithEmbeddingsByPosition() throws SQLException {
+		var jdbcTemplate = mock(JdbcTemplate.class);
+		var embeddingModel = mock(EmbeddingModel.class);
+		var pgVectorStore = PgVectorStore.builder(jdbcTemplate, embeddingModel).maxDocumentBatchSize(2).build();
+
+		// Equal documents must still get their own embedding.
+		var documents = Collections.nCopies(3, Document.builder().id(UUID.randomUUID().toString()).text("foo").build());
+		when(embeddingModel.embed(eq(documents), any(), any()))
+			.thenReturn(List.of(new float[] { 1f }, new float[] { 2f }, new float[] { 3f }));
+
+		pgVectorStore.doAdd(documents);
+
+		var batchUpdateCaptor = ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+		verify(jdbcTemplate, times(2)).batchUpdate(anyString(), batchUpdateCaptor.capture());
+		var preparedStatement = mock(PreparedStatement.class);
+		for (BatchPreparedStatementSetter setter : batchUpdateCaptor.getAllValues()) {
+			for (int i = 0; i < setter.getBatchSize(); i++) {
+				setter.setValues(preparedStatement, i);
+			}
+		}
+
+		var vectorCaptor = ArgumentCaptor.forClass(Object.class);
+		verify(preparedStatement, times(3)).setObject(eq(4), vectorCaptor.capture());
+		assertThat(vectorCaptor.getAllValues()).extracting(vector -> ((PGvector) vector).toArray())
+			.containsExactly(new float[] { 1f }, new float[] { 2f }, new float[] { 3f });
+	}
+
+	@ParameterizedTest(name = "returnEmbeddings: {0}")
+	@CsvSource({ "false", "true" })
+	void shouldOnlyFetchEmbeddingsWhenRequested(boolean returnEmbeddings) {
+		var jdbcTemplate = mock(JdbcTemplate.class);
+		var embeddingModel = mock(EmbeddingModel.class);
+		when(embeddingModel.embed(anyString())).thenReturn(new float[] { 1f, 2f, 3f });
+		var pgVectorStore = PgVectorStore.builder(jdbcTemplate, embeddingModel)
+			.returnEmbeddings(returnEmbeddings)
+			.build();
+
+		pgVectorStore.doSimilaritySearch(SearchRequest.builder().query("foo").topK(3).build());
+
+		var sqlCaptor = ArgumentCaptor.forClass(String.class);
+		verify(jdbcTemplate).query(sqlCaptor.capture(), any(RowMapper.class), any(), eq(3), any());
+		String sql = sqlCaptor.getValue();
+		assertThat(sql).doesNotContain("*");
+		assertThat(sql.split("embedding <=> \\?", -1)).as("Distance should be computed once").hasSize(2);
+		if (returnEmbeddings) {
+			assertThat(sql).contains("metadata, embedding, distance");
+		}
+		else {
+			assertThat(sql).contains("metadata, distance").doesNotContain("metadata, embedding");
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldApplySearchSettingsInTransaction() throws SQLException {
+		var jdbcTemplate = mock(JdbcTemplate.class);
+		var embeddingModel = mock(EmbeddingModel.class);
+		when(embeddingModel.embed(anyString())).thenReturn(new float[] { 1f, 2f, 3f });
+		var pgVectorStore = PgVectorStore.builder(jdbcTemplate, embeddingModel)
+			.indexType(PgIndexType.HNSW)
+			.hnswEfSearch(100)
+			.iterativeScan(PgIterativeScan.RELAXED_ORDER)
+			.ivfflatProbes(10)
+			.build();
+
+		pgVectorStore.doSimilaritySearch(SearchRequest.builder().query("foo").build());
+
+		ArgumentCaptor<ConnectionCallback<List<Document>>> callbackCaptor = ArgumentCaptor
+			.forClass(ConnectionCallback.class);
+		verify(jdbcTemplate).execute(callbackCaptor.capture());
+
+		var connection = mock(Connection.class);
+		var statement = mock(Statement.class);
+		var preparedStatement = mock(PreparedStatement.class);
+		when(connection.getAutoCommit()).thenReturn(true);
+		when(connection.createStatement()).thenReturn(statement);
+		when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+		when(preparedStatement.executeQuery()).thenReturn(mock(ResultSet.class));
+
+		assertThat(callbackCaptor.getValue().doInConnection(connection)).isEmpty();
+
+		InOrder inOrder = inOrder(connection, statement, preparedStatement);
+		inOrder.verify(connection).setAutoCommit(false);
+		inOrder.verify(statement).execute("SET LOCAL hnsw.ef_search = 100");
+		inOrder.verify(statement).execute("SET LOCAL ivfflat.probes = 10");
+		inOrder.verify(statement).execute("SET LOCAL hnsw.iterative_scan = relaxed_order");
+		inOrder.verify(preparedStatement).executeQuery();
+		inOrder.verify(connection).commit();
+		inOrder.verify(connection).setAutoCommit(true);
+		verify(statement, times(3)).execute(anyString());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldApplySearchSettingsOfExternallyManagedIndex() throws SQLException {
+		var jdbcTemplate = mock(JdbcTemplate.class);
+		var embeddingModel = mock(EmbeddingModel.class);
+		when(embeddingModel.embed(anyString())).thenReturn(new float[] { 1f, 2f, 3f });
+		var pgVectorStore = PgVectorStore.builder(jdbcTemplate, embeddingModel)
+			.indexType(PgIndexType.NONE)
+			.hnswEfSearch(100)
+			.iterativeScan(PgIterativeScan.RELAXED_ORDER)
+			.build();
+
+		pgVectorStore.doSimilaritySearch(SearchRequest.builder().query("foo").build());
+
+		ArgumentCaptor<ConnectionCallback<List<Document>>> callbackCaptor = ArgumentCaptor
+			.forClass(ConnectionCallback.class);
+		verify(jdbcTemplate).execute(callbackCaptor.capture());
+
+		var connection = mock(Connection.class);
+		var statement = mock(Statement.class);
+		var preparedStatement = mock(PreparedStatement.class);
+		when(connection.getAutoCommit()).thenReturn(true);
+		when(connection.createStatement()).thenReturn(statement);
+		when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+		when(preparedStatement.executeQuery()).thenReturn(mock(ResultSet.class));
+
+		callbackCaptor.getValue().doInConnection(connection);
+
+		verify(statement).execute("SET LOCAL hnsw.ef_search = 100");
+		verify(statement).execute("SET LOCAL hnsw.iterative_scan = relaxed_order");
+		verify(statement).execute("SET LOCAL ivfflat.iterative_scan = relaxed_order");
+		verify(statement, times(3)).execute(anyString());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldRevertSearchSettingsInCallerTransaction() throws SQLException {
+		var jdbcTemplate = mock(JdbcTemplate.class);
+		var embeddingModel = mock(EmbeddingModel.class);
+		when(embeddingModel.embed(anyString())).thenReturn(new float[] { 1f, 2f, 3f });
+		var pgVectorStore = PgVectorStore.builder(jdbcTemplate, embeddingModel)
+			.indexType(PgIndexType.HNSW)
+			.hnswEfSearch(100)
+			.build();
+
+		pgVectorStore.doSimilaritySearch(SearchRequest.builder().query("foo").build());
+
+		ArgumentCaptor<ConnectionCallback<List<Document>>> callbackCaptor = ArgumentCaptor
+			.forClass(ConnectionCallback.class);
+		verify(jdbcTemplate).execute(callbackCaptor.capture());
+
+		var connection = mock(Connection.class);
+		var savepoint = mock(Savepoint.class);
+		var statement = mock(Statement.class);
+		var preparedStatement = mock(PreparedStatement.class);
+		when(connection.getAutoCommit()).thenReturn(false);
+		when(connection.setSavepoint()).thenReturn(savepoint);
+		when(connection.createStatement()).thenReturn(statement);
+		when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+		when(preparedStatement.executeQuery()).thenReturn(mock(ResultSet.class));
+
+		assertThat(callbackCaptor.getValue().doInConnection(connection)).isEmpty();
+
+		InOrder inOrder = inOrder(connection, statement, preparedStatement);
+		inOrder.verify(connection).setSavepoint();
+		inOrder.verify(statement).execute("SET LOCAL hnsw.ef_search = 100");
+		inOrder.verify(preparedStatement).executeQuery();
+		inOrder.verify(connection).rollback(savepoint);
+		inOrder.verify(connection).releaseSavepoint(savepoint);
+		verify(connection, never()).setAutoCommit(anyBoolean());
+		verify(connection, never()).commit();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldKeepSearchFailureWhenSavepointRollbackFails() throws SQLException {
+		var jdbcTemplate = mock(JdbcTemplate.class);
+		var embeddingModel = mock(EmbeddingModel.class);
+		when(embeddingModel.embed(anyString())).thenReturn(new float[] { 1f, 2f, 3f });
+		var pgVectorStore = PgVectorStore.builder(jdbcTemplate, embeddingModel)
+			.indexType(PgIndexType.HNSW)
+			.hnswEfSearch(100)
+			.build();
+
+		pgVectorStore.doSimilaritySearch(SearchRequest.builder().query("foo").build());
+
+		ArgumentCaptor<ConnectionCallback<List<Document>>> callbackCaptor = ArgumentCaptor
+			.forClass(ConnectionCallback.class);
+		verify(jdbcTemplate).execute(callbackCaptor.capture());
+
+		var connection = mock(Connection.class);
+		var savepoint = mock(Savepoint.class);
+		var statement = mock(Statement.class);
+		var searchFailure = new SQLException("search failed");
+		var rollbackFailure = new SQLException("rollback failed");
+		when(connection.getAutoCommit()).thenReturn(false);
+		when(connection.setSavepoint()).thenReturn(savepoint);
+		when(connection.createStatement()).thenReturn(statement);
+		when(connection.prepareStatement(anyString())).thenThrow(searchFailure);
+		doThrow(rollbackFailure).when(connection).rollback(savepoint);
+
+		assertThatThrownBy(() -> callbackCaptor.getValue().doInConnection(connection)).isSameAs(searchFailure)
+			.hasSuppressedException(rollbackFailure);
+	}
+
+	@Test
+	void shouldCreateIndexWithBuildParameters() {
+		var jdbcTemplate = mock(JdbcTemplate.class);
+		var pgVectorStore = PgVectorStore.builder(jdbcTemplate, mock(EmbeddingModel.class))
+			.dimensions(3)
+			.initializeSchema(true)
+			.indexType(PgIndexType.HNSW)
+			.hnswM(32)
+			.hnswEfConstruction(128)
+			.ivfflatLists(50)
+			.build();
+
+		pgVectorStore.afterPropertiesSet();
+
+		verify(jdbcTemplate)
+			.execute(contains("USING HNSW (embedding vector_cosine_ops) WITH (m = 32, ef_construction = 128)"));
+	}
+
+	@Test
+	void shouldRejectStrictOrderIterativeScanOfIvfflatIndex() {
+		var builder = PgVectorStore.builder(mock(JdbcTemplate.class), mock(EmbeddingModel.class))
+			.indexType(PgIndexType.IVFFLAT)
+			.iterativeScan(PgIterativeScan.STRICT_ORDER);
+
+		assertThatThrownBy(builder::build).isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("IVFFlat indexes only support relaxed order iterative scans");
+	}
+
+	@Test
+	void shouldCreateIndexedColumnsForMetadataFields() {
+		var jdbcTemplate = mock(JdbcTemplate.class);
+		var pgVectorStore = PgVectorStore.builder(jdbcTemplate, mock(EmbeddingModel.class))
+			.dimensions(3)
+			.initializeSchema(true)
+			.metadataFields(MetadataField.text("tenant"), MetadataField.integer("year"))
+			.build();
+
+		pgVectorStore.afterPropertiesSet();
+
+		verify(jdbcTemplate).execute(contains("ADD COLUMN IF NOT EXISTS metadata_tenant text\n"
+				+ "GENERATED ALWAYS AS ((metadata ->> 'tenant')::text) STORED"));
+		verify(jdbcTemplate).execute("CREATE INDEX IF NOT EXISTS vector_store_metadata_tenant_idx "
+				+ "ON public.vector_store (metadata_tenant)");
+		verify(jdbcTemplate).execute(contains("GENERATED ALWAYS AS ((metadata ->> 'year')::bigint) STORED"));
+	}
+
+	@Test
+	void shouldBoundMetadataIndexNamesToIdentifierLength() {
+		String tableName = "a_rather_long_vector_store_table_name_for_tests";
+		String tenantIndex = PgVectorStore.metadataIndexName(tableName, MetadataField.text("tenant_identifier_a"));
+		String otherIndex = PgVectorStore.metadataIndexName(tableName, MetadataField.text("tenant_identifier_b"));
+
+		assertThat(tenantIndex).hasSize(63).startsWith(tableName).endsWith("_idx").isNotEqualTo(otherIndex);
+		assertThat(otherIndex).hasSize(63);
+		assertThat(PgVectorStore.metadataIndexName("vector_store", MetadataField.text("tenant")))
+			.isEqualTo("vector_store_metadata_tenant_idx");
+	}
+
+	@Test
+	void shouldRejectMissingMetadataFieldColumnsWithoutSchemaInitialization() {
+		var jdbcTemplate = mock(JdbcTemplate.class);
+		when(jdbcTemplate.queryForList(anyString(), eq(String.class), any(Object[].class)))
+			.thenReturn(List.of("id", "content", "metadata", "embedding", "metadata_tenant"));
+		var pgVectorStore = PgVectorStore.builder(jdbcTemplate, mock(EmbeddingModel.class))
+			.metadataFields(MetadataField.text("tenant"), MetadataField.integer("year"))
+			.build();
+
+		assertThatThrownBy(pgVectorStore::afterPropertiesSet).isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("[metadata_year]");
+	}
+
+	@Test
+	void shouldFilterOnMetadataFieldColumns() {
+		var jdbcTemplate = mock(JdbcTemplate.class);
+		var embeddingModel = mock(EmbeddingModel.class);
+		when(embeddingModel.embed(anyString())).thenReturn(new float[] { 1f, 2f, 3f });
+		var pgVectorStore = PgVectorStore.builder(jdbcTemplate, embeddingModel)
+			.metadataFields(MetadataField.text("tenant"))
+			.build();
+
+		pgVectorStore.doSimilaritySearch(
+				SearchRequest.builder().query("foo").topK(3).filterExpression("tenant == 'acme'").build());
+
+		verify(jdbcTemplate).query(contains("FROM public.vector_store WHERE metadata_tenant = 'acme' ORDER BY"),
+				any(RowMapper.class), any(), eq(3), any());
+	}
+
 }
@@ -36,6 +36,7 @@ import org.slf4j.LoggerFactory;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
+import org.springframework.ai.embedding.EmbeddingDimensionsResolver;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.model.EmbeddingUtils;
@@ -140,9 +141,10 @@ public class PineconeVectorStore extends AbstractObservationVectorStore {
 		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
 				this.batchingStrategy);
 		List<VectorWithUnsignedIndices> upsertVectors = new ArrayList<>();
-		for (Document document : documents) {
+		for (int i = 0; i < documents.size(); i++) {
+			Document document = documents.get(i);
 			upsertVectors.add(io.pinecone.commons.IndexInterface.buildUpsertVectorWithUnsignedIndices(document.getId(),
-					EmbeddingUtils.toList(embeddings.get(documents.indexOf(document))), null, null,
+					EmbeddingUtils.toList(embeddings.get(i)), null, null,
 					metadataToStruct(document)));
 		}
 		this.pinecone.getIndexConnection(this.pineconeIndexName).upsert(upsertVectors, namespace);
@@ -204,12 +206,14 @@ public class PineconeVectorStore extends AbstractObservationVectorStore {
 	}
 
 	public List<Document> similaritySearch(SearchRequest request, String namespace) {
+		return similaritySearch(request, namespace, embedQuery(request));
+	}
+
+	private List<Document> similaritySearch(SearchRequest request, String namespace, float[] queryEmbedding) {
 
 		String nativeExpressionFilters = (request.getFilterExpression() != null)
 				? this.filterExpressionConverter.convertExpression(request.getFilterExpression()) : "";
 
-		float[] queryEmbedding = this.embeddingModel.embed(request.getQuery());
-
 		var queryRequestBuilder = QueryRequest.newBuilder()
 			.addAllVector(EmbeddingUtils.toList(queryEmbedding))
 			.setTopK(request.getTopK())
@@ -275,8 +279,8 @@ public class PineconeVectorStore extends AbstractObservationVectorStore {
 	}
 
 	@Override
-	public List<Document> doSimilaritySearch(SearchRequest request) {
-		return similaritySearch(request, this.pineconeNamespace);
+	protected List<Document> doSimilaritySearch(SearchRequest request, float[] queryEmbedding) {
+		return similaritySearch(request, this.pineconeNamespace, queryEmbedding);
 	}
 
 	private Struct metadataFiltersToStruct(String metadataFilters) {
@@ -317,7 +321,7 @@ public class PineconeVectorStore extends AbstractObservationVectorStore {
 
 		return VectorStoreObservationContext.builder(VectorStoreProvider.PINECONE.value(), operationName)
 			.collectionName(this.pineconeIndexName)
-			.dimensions(this.embeddingModel.dimensions())
+			.dimensions(EmbeddingDimensionsResolver.resolve(this.embeddingModel))
 			.namespace(this.pineconeNamespace)
 			.fieldName(this.pineconeContentFieldName);
 	}
@@ -16,6 +16,7 @@
 
 package org.springframework.ai.vectorstore.qdrant;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -36,6 +37,7 @@ import org.slf4j.LoggerFactory;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
+import org.springframework.ai.embedding.EmbeddingDimensionsResolver;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.model.EmbeddingUtils;
@@ -179,13 +181,15 @@ public class QdrantVectorStore extends AbstractObservationVectorStore implements
 			List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
 					this.batchingStrategy);
 
-			List<PointStruct> points = documents.stream()
-				.map(document -> PointStruct.newBuilder()
+			List<PointStruct> points = new ArrayList<>(documents.size());
+			for (int i = 0; i < documents.size(); i++) {
+				Document document = documents.get(i);
+				points.add(PointStruct.newBuilder()
 					.setId(io.qdrant.client.PointIdFactory.id(UUID.fromString(document.getId())))
-					.setVectors(io.qdrant.client.VectorsFactory.vectors(embeddings.get(documents.indexOf(document))))
+					.setVectors(io.qdrant.client.VectorsFactory.vectors(embeddings.get(i)))
 					.putAllPayload(toPayload(document))
-					.build())
-				.toList();
+					.build());
+			}
 
 			this.qdrantClient.upsertAsync(this.collectionName, points).get();
 		}
@@ -238,27 +242,13 @@ public class QdrantVectorStore extends AbstractObservationVectorStore implements
 	 * Performs a similarity search on the vector store.
 	 * @param request The {@link SearchRequest} object containing the query and other
 	 * search parameters.
+	 * @param queryEmbedding The embedding of the request query.
 	 * @return A list of documents that are similar to the query.
 	 */
 	@Override
-	public List<Document> doSimilaritySearch(SearchRequest request) {
+	protected List<Document> doSimilaritySearch(SearchRequest request, float[] queryEmbedding) {
 		try {
-			Filter filter = (request.getFilterExpression() != null)
-					? this.filterExpressionConverter.convertExpression(request.getFilterExpression())
-					: Filter.getDefaultInstance();
-
-			float[] queryEmbedding = this.embeddingModel.embed(request.getQuery());
-
-			var searchPoints = SearchPoints.newBuilder()
-				.setCollectionName(this.collectionName)
-				.setLimit(request.getTopK())
-				.setWithPayload(io.qdrant.client.WithPayloadSelectorFactory.enable(true))
-				.addAllVector(EmbeddingUtils.toList(queryEmbedding))
-				.setFilter(filter)
-				.setScoreThreshold((float) request.getSimilarityThreshold())
-				.build();
-
-			var queryResponse = this.qdrantClient.searchAsync(searchPoints).get();
+			var queryResponse = this.qdrantClient.searchAsync(toSearchPoints(request, queryEmbedding)).get();
 
 			return queryResponse.stream().map(this::toDocument).toList();
 
@@ -268,6 +258,46 @@ public class QdrantVectorStore extends AbstractObservationVectorStore implements
 		}
 	}
 
+	/**
+	 * Performs the similarity searches of all requests in a single Qdrant batch search.
+	 * @param requests The {@link SearchRequest}s to run.
+	 * @return The documents that are similar to the query of each request.
+	 */
+	@Override
+	protected List<List<Document>> doBatchSimilaritySearch(List<SearchRequest> requests) {
+		try {
+			List<float[]> queryEmbeddings = embedQueries(requests);
+			List<SearchPoints> searches = new ArrayList<>(requests.size());
+			for (int i = 0; i < requests.size(); i++) {
+				searches.add(toSearchPoints(requests.get(i), queryEmbeddings.get(i)));
+			}
+
+			var batchResponse = this.qdrantClient.searchBatchAsync(this.collectionName, searches, null).get();
+
+			return batchResponse.stream()
+				.map(result -> result.getResultList().stream().map(this::toDocument).toList())
+				.toList();
+		}
+		catch (InterruptedException | ExecutionException | IllegalArgumentException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private SearchPoints toSearchPoints(SearchRequest request, float[] queryEmbedding) {
+		Filter filter = (request.getFilterExpression() != null)
+				? this.filterExpressionConverter.convertExpression(request.getFilterExpression())
+				: Filter.getDefaultInstance();
+
+		return SearchPoints.newBuilder()
+			.setCollectionName(this.collectionName)
+			.setLimit(request.getTopK())
+			.setWithPayload(io.qdrant.client.WithPayloadSelectorFactory.enable(true))
+			.addAllVector(EmbeddingUtils.toList(queryEmbedding))
+			.setFilter(filter)
+			.setScoreThreshold((float) request.getSimilarityThreshold())
+			.build();
+	}
+
 	/**
 	 * Returns {@link Document} using the {@link ScoredPoint}
 	 * @param point ScoredPoint containing the query response.
@@ -335,7 +365,7 @@ public class QdrantVectorStore extends AbstractObservationVectorStore implements
 	public VectorStoreObservationContext.Builder createObservationContextBuilder(String operationName) {
 
 		return VectorStoreObservationContext.builder(VectorStoreProvider.QDRANT.value(), operationName)
-			.dimensions(this.embeddingModel.dimensions())
+			.dimensions(EmbeddingDimensionsResolver.resolve(this.embeddingModel))
 			.collectionName(this.collectionName);
 
 	}
@@ -31,6 +31,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import redis.clients.jedis.JedisPooled;
 import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.json.Path2;
 import redis.clients.jedis.search.FTCreateParams;
 import redis.clients.jedis.search.IndexDataType;
@@ -47,6 +48,7 @@ import redis.clients.jedis.search.schemafields.VectorField.VectorAlgorithm;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
+import org.springframework.ai.embedding.EmbeddingDimensionsResolver;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
@@ -256,9 +258,10 @@ public class RedisVectorStore extends AbstractObservationVectorStore implements
 			List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
 					this.batchingStrategy);
 
-			for (Document document : documents) {
+			for (int i = 0; i < documents.size(); i++) {
+				Document document = documents.get(i);
 				var fields = new HashMap<String, Object>();
-				fields.put(this.embeddingFieldName, embeddings.get(documents.indexOf(document)));
+				fields.put(this.embeddingFieldName, embeddings.get(i));
 				fields.put(this.contentFieldName, document.getText());
 				fields.putAll(document.getMetadata());
 				pipeline.jsonSetWithEscape(key(document.getId()), JSON_SET_PATH, fields);
@@ -335,8 +338,34 @@ public class RedisVectorStore extends AbstractObservationVectorStore implements
 	}
 
 	@Override
-	public List<Document> doSimilaritySearch(SearchRequest request) {
+	protected List<Document> doSimilaritySearch(SearchRequest request, float[] embedding) {
+		SearchResult result = this.jedis.ftSearch(this.indexName, toQuery(request, embedding));
+		return toDocuments(request, result);
+	}
 
+	/**
+	 * Sends the similarity searches of all requests in a single pipeline.
+	 * @param requests the search requests
+	 * @return the documents matching each request, in the order of the requests
+	 */
+	@Override
+	protected List<List<Document>> doBatchSimilaritySearch(List<SearchRequest> requests) {
+		List<float[]> embeddings = embedQueries(requests);
+		List<Response<SearchResult>> responses = new ArrayList<>(requests.size());
+		try (Pipeline pipeline = this.jedis.pipelined()) {
+			for (int i = 0; i < requests.size(); i++) {
+				responses.add(pipeline.ftSearch(this.indexName, toQuery(requests.get(i), embeddings.get(i))));
+			}
+			pipeline.sync();
+		}
+		List<List<Document>> results = new ArrayList<>(requests.size());
+		for (int i = 0; i < requests.size(); i++) {
+			results.add(toDocuments(requests.get(i), responses.get(i).get()));
+		}
+		return results;
+	}
+
+	private Query toQuery(SearchRequest request, float[] embedding) {
 		Assert.isTrue(request.getTopK() > 0, "The number of documents to be returned must be greater than zero");
 		Assert.isTrue(request.getSimilarityThreshold() >= 0 && request.getSimilarityThreshold() <= 1,
 				"The similarity score is bounded between 0 and 1; least to most similar respectively.");
@@ -351,14 +380,14 @@ public class RedisVectorStore extends AbstractObservationVectorStore implements
 		returnFields.add(this.embeddingFieldName);
 		returnFields.add(this.contentFieldName);
 		returnFields.add(DISTANCE_FIELD_NAME);
-		var embedding = this.embeddingModel.embed(request.getQuery());
-		Query query = new Query(queryString).addParam(EMBEDDING_PARAM_NAME, RediSearchUtil.toByteArray(embedding))
+		return new Query(queryString).addParam(EMBEDDING_PARAM_NAME, RediSearchUtil.toByteArray(embedding))
 			.returnFields(returnFields.toArray(new String[0]))
 			.setSortBy(DISTANCE_FIELD_NAME, true)
 			.limit(0, request.getTopK())
 			.dialect(2);
+	}
 
-		SearchResult result = this.jedis.ftSearch(this.indexName, query);
+	private List<Document> toDocuments(SearchRequest request, SearchResult result) {
 		return result.getDocuments()
 			.stream()
 			.filter(d -> similarityScore(d) >= request.getSimilarityThreshold())
@@ -458,7 +487,7 @@ public class RedisVectorStore extends AbstractObservationVectorStore implements
 
 		return VectorStoreObservationContext.builder(VectorStoreProvider.REDIS.value(), operationName)
 			.collectionName(this.indexName)
-			.dimensions(this.embeddingModel.dimensions())
+			.dimensions(EmbeddingDimensionsResolver.resolve(this.embeddingModel))
 			.fieldName(this.embeddingFieldName)
 			.similarityMetric(VectorStoreSimilarityMetric.COSINE.value());
 
@@ -38,6 +38,7 @@ import org.typesense.model.MultiSearchSearchesParameter;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
+import org.springframework.ai.embedding.EmbeddingDimensionsResolver;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.observation.conventions.VectorStoreProvider;
@@ -143,12 +144,13 @@ public class TypesenseVectorStore extends AbstractObservationVectorStore impleme
 		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
 				this.batchingStrategy);
 
-		List<HashMap<String, Object>> documentList = documents.stream().map(document -> {
+		List<HashMap<String, Object>> documentList = IntStream.range(0, documents.size()).mapToObj(i -> {
+			Document document = documents.get(i);
 			HashMap<String, Object> typesenseDoc = new HashMap<>();
 			typesenseDoc.put(DOC_ID_FIELD_NAME, document.getId());
 			typesenseDoc.put(CONTENT_FIELD_NAME, document.getText());
 			typesenseDoc.put(METADATA_FIELD_NAME, document.getMetadata());
-			typesenseDoc.put(EMBEDDING_FIELD_NAME, embeddings.get(documents.indexOf(document)));
+			typesenseDoc.put(EMBEDDING_FIELD_NAME, embeddings.get(i));
 
 			return typesenseDoc;
 		}).toList();
@@ -214,7 +216,7 @@ public class TypesenseVectorStore extends AbstractObservationVectorStore impleme
 	}
 
 	@Override
-	public List<Document> doSimilaritySearch(SearchRequest request) {
+	protected List<Document> doSimilaritySearch(SearchRequest request, float[] embedding) {
 		Assert.notNull(request.getQuery(), "Query string must not be null");
 
 		String nativeFilterExpressions = (request.getFilterExpression() != null)
@@ -222,8 +224,6 @@ public class TypesenseVectorStore extends AbstractObservationVectorStore impleme
 
 		logger.info("Filter expression: {}", nativeFilterExpressions);
 
-		float[] embedding = this.embeddingModel.embed(request.getQuery());
-
 		MultiSearchCollectionParameters multiSearchCollectionParameters = new MultiSearchCollectionParameters();
 		multiSearchCollectionParameters.collection(this.collectionName);
 		multiSearchCollectionParameters.q("*");
@@ -276,7 +276,7 @@ public class TypesenseVectorStore extends AbstractObservationVectorStore impleme
 			return this.embeddingDimension;
 		}
 		try {
-			int embeddingDimensions = this.embeddingModel.dimensions();
+			int embeddingDimensions = EmbeddingDimensionsResolver.resolve(this.embeddingModel);
 			if (embeddingDimensions > 0) {
 				return embeddingDimensions;
 			}
@@ -368,7 +368,7 @@ public class TypesenseVectorStore extends AbstractObservationVectorStore impleme
 	public VectorStoreObservationContext.Builder createObservationContextBuilder(String operationName) {
 
 		return VectorStoreObservationContext.builder(VectorStoreProvider.TYPESENSE.value(), operationName)
-			.dimensions(this.embeddingModel.dimensions())
+			.dimensions(EmbeddingDimensionsResolver.resolve(this.embeddingModel))
 			.collectionName(this.collectionName)
 			.fieldName(EMBEDDING_FIELD_NAME)
 			.similarityMetric(VectorStoreSimilarityMetric.COSINE.value());
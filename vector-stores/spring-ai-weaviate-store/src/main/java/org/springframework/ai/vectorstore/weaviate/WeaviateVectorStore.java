@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -48,6 +49,7 @@ import org.slf4j.LoggerFactory;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentMetadata;
+import org.springframework.ai.embedding.EmbeddingDimensionsResolver;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.embedding.EmbeddingOptionsBuilder;
 import org.springframework.ai.model.EmbeddingUtils;
@@ -205,8 +207,8 @@ public class WeaviateVectorStore extends AbstractObservationVectorStore {
 		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
 				this.batchingStrategy);
 
-		List<WeaviateObject> weaviateObjects = documents.stream()
-			.map(document -> toWeaviateObject(document, documents, embeddings))
+		List<WeaviateObject> weaviateObjects = IntStream.range(0, documents.size())
+			.mapToObj(i -> toWeaviateObject(documents.get(i), embeddings.get(i)))
 			.toList();
 
 		Result<ObjectGetResponse[]> response = this.weaviateClient.batch()
@@ -243,7 +245,7 @@ public class WeaviateVectorStore extends AbstractObservationVectorStore {
 		}
 	}
 
-	private WeaviateObject toWeaviateObject(Document document, List<Document> documents, List<float[]> embeddings) {
+	private WeaviateObject toWeaviateObject(Document document, float[] embedding) {
 
 		// https://weaviate.io/developers/weaviate/config-refs/datatypes
 		Map<String, Object> fields = new HashMap<>();
@@ -267,7 +269,7 @@ public class WeaviateVectorStore extends AbstractObservationVectorStore {
 		return WeaviateObject.builder()
 			.className(this.weaviateObjectClass)
 			.id(document.getId())
-			.vector(EmbeddingUtils.toFloatArray(embeddings.get(documents.indexOf(document))))
+			.vector(EmbeddingUtils.toFloatArray(embedding))
 			.properties(fields)
 			.build();
 	}
@@ -330,9 +332,7 @@ public class WeaviateVectorStore extends AbstractObservationVectorStore {
 	}
 
 	@Override
-	public List<Document> doSimilaritySearch(SearchRequest request) {
-
-		float[] embedding = this.embeddingModel.embed(request.getQuery());
+	protected List<Document> doSimilaritySearch(SearchRequest request, float[] embedding) {
 
 		GetBuilder.GetBuilderBuilder builder = GetBuilder.builder();
 
@@ -433,7 +433,7 @@ public class WeaviateVectorStore extends AbstractObservationVectorStore {
 	public VectorStoreObservationContext.Builder createObservationContextBuilder(String operationName) {
 
 		return VectorStoreObservationContext.builder(VectorStoreProvider.WEAVIATE.value(), operationName)
-			.dimensions(this.embeddingModel.dimensions())
+			.dimensions(EmbeddingDimensionsResolver.resolve(this.embeddingModel))
 			.collectionName(this.weaviateObjectClass);
 	}
 